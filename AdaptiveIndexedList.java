@@ -0,0 +1,464 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+/**
+ * Implementation of the {@code IndexedUnsortedList} interface that picks its own storage,
+ * for lists whose workload is not known in advance. The elements live either in an
+ * {@code IUArrayList} or in an {@code IUDoubleLinkedList}, and the list moves them from
+ * one to the other in a single O(n) pass when the operations it sees would have been
+ * clearly cheaper in the other form.
+ *
+ * Only operations whose cost differs between the forms are sampled:
+ * <ul>
+ * <li>get(i) and set(i) cost one step in the array but a walk of min(i, n - i) nodes
+ *     in the linked form, so index-heavy use pulls toward the array.</li>
+ * <li>add and remove through a list iterator cost one relink in the linked form but a
+ *     shift of the shorter side, min(i, n - i) elements, in the array, so editing at a
+ *     cursor in the middle of a long list pulls toward the linked form.</li>
+ * </ul>
+ * Operations at either end cost O(1) in both forms, since {@code IUArrayList} is a
+ * circular buffer, so front-heavy and append-only lists stay in the array, which uses
+ * less memory. add(int) and remove(int) walk or shift about the same distance in both.
+ *
+ * Every sampled operation adds the difference between its cost in the current form and
+ * in the other form to one counter, which never drops below zero. Once that counter
+ * passes twice the size of the list (plus a floor for small lists), the extra work
+ * already paid has outweighed a migration, and the list migrates and starts counting
+ * again. A workload that keeps flipping therefore never spends more than a constant
+ * factor more than the better form would have.
+ *
+ * Iterators are fail-fast across migrations: the list keeps its own modification count,
+ * and an iterator that finds the storage replaced by a migration re-opens itself at the
+ * same position in the new storage.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class AdaptiveIndexedList<T> implements IndexedUnsortedList<T>, NodeTraversalCounter {
+    /** Smallest amount of extra work that triggers a migration, so small lists do not flip back and forth */
+    public static final long DEFAULT_MIN_REGRET = 1024;
+    private final long minRegret;
+    private IndexedUnsortedList<T> storage;
+    private boolean linked;// whether storage is the linked form
+    private long regret;// extra steps the current form has cost over the other since the last migration
+    private int modCount;
+    private int migrations;
+    private long retiredTraversals;// nodes traversed by linked storage that has since been migrated away
+
+    /**
+     * Constructs a new, empty {@code AdaptiveIndexedList}, starting in array form.
+     */
+    public AdaptiveIndexedList(){
+        this(DEFAULT_MIN_REGRET);
+    }
+
+    /**
+     * Constructs a new, empty {@code AdaptiveIndexedList} with the given migration floor.
+     * A floor of 0 migrates as soon as one form has cost more than 2n extra steps, which
+     * is mainly useful for testing both forms.
+     *
+     * @param minRegret extra steps, beyond twice the size, the current form must cost before migrating
+     * @throws IllegalArgumentException if minRegret is negative
+     */
+    public AdaptiveIndexedList(long minRegret){
+        if(minRegret < 0){
+            throw new IllegalArgumentException();
+        }
+        this.minRegret = minRegret;
+        storage = new IUArrayList<T>();
+        linked = false;
+        regret = 0;
+        modCount = 0;
+        migrations = 0;
+    }
+
+    /**
+     * Returns whether the elements are currently held in linked form.
+     *
+     * @return true for the linked form, false for the array form
+     */
+    public boolean isLinked(){
+        return linked;
+    }
+
+    /**
+     * Returns how many times the list has changed form.
+     *
+     * @return number of migrations so far
+     */
+    public int migrations(){
+        return migrations;
+    }
+
+    /**
+     * Returns the nodes traversed by lookups while in linked form; the array form adds none.
+     */
+    @Override
+    public long nodesTraversed(){
+        return linked ? retiredTraversals + ((NodeTraversalCounter)storage).nodesTraversed() : retiredTraversals;
+    }
+
+    /**
+     * Records the estimated cost of one operation in each form and migrates once the
+     * current form has fallen far enough behind.
+     *
+     * @param arrayCost  steps the operation takes in array form
+     * @param linkedCost steps the operation takes in linked form
+     */
+    private void sample(long arrayCost, long linkedCost){
+        regret += linked ? linkedCost - arrayCost : arrayCost - linkedCost;
+        if(regret < 0){
+            regret = 0;// only the work the current form has lost since it last pulled ahead counts
+        }else if(regret > 2L * storage.size() + minRegret){
+            migrate();
+        }
+    }
+
+    /**
+     * Copies the elements into the other form in one pass. Not a modification: the
+     * contents do not change, and iterators follow the new storage.
+     */
+    @SuppressWarnings("unchecked")
+    private void migrate(){
+        int size = storage.size();
+        if(linked){
+            T[] elements = (T[])new Object[Math.max(IUArrayList.DEFAULT_CAPACITY, size + (size >> 1))];// room to grow before the first resize
+            storage.forEachIndexed((index, element) -> elements[index] = element);
+            retiredTraversals += ((NodeTraversalCounter)storage).nodesTraversed();
+            storage = new IUArrayList<T>(elements, size);
+        }else{
+            IUDoubleLinkedList<T> chain = new IUDoubleLinkedList<T>();
+            chain.addAll(storage);
+            storage = chain;
+        }
+        linked = !linked;
+        regret = 0;
+        migrations++;
+    }
+
+    /**
+     * Steps a walk from the nearer end takes to reach the index.
+     */
+    private static long distanceFromEnd(int index, int size){
+        return Math.min(index, size - index);
+    }
+
+    @Override
+    public void addToFront(T element) {
+        storage.addToFront(element);
+        modCount++;
+    }
+
+    @Override
+    public void addToRear(T element) {
+        storage.addToRear(element);
+        modCount++;
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        storage.addAfter(element, target);
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        storage.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        addAll(size(), elements);
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        int oldSize = storage.size();
+        storage.addAll(index, (elements == this) ? storage : elements);// both forms copy the batch before splicing it in
+        if(storage.size() != oldSize){
+            modCount++;
+        }
+    }
+
+    @Override
+    public T removeFirst() {
+        T element = storage.removeFirst();
+        modCount++;
+        return element;
+    }
+
+    @Override
+    public T removeLast() {
+        T element = storage.removeLast();
+        modCount++;
+        return element;
+    }
+
+    @Override
+    public T remove(T element) {
+        T removed = storage.remove(element);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = storage.remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        storage.removeRange(fromIndex, toIndex);
+        if(fromIndex != toIndex){
+            modCount++;
+        }
+    }
+
+    @Override
+    public void clear() {
+        storage.clear();
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = storage.removeIf(filter);
+        if(removed){
+            modCount++;
+        }
+        return removed;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        sample(1, distanceFromEnd(index, size() - 1));
+        storage.set(index, element);
+        modCount++;
+    }
+
+    @Override
+    public T get(int index) {
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        sample(1, distanceFromEnd(index, size() - 1));
+        return storage.get(index);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        return storage.indexOf(element);
+    }
+
+    @Override
+    public T first() {
+        return storage.first();
+    }
+
+    @Override
+    public T last() {
+        return storage.last();
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return storage.contains(target);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return storage.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return storage.size();
+    }
+
+    @Override
+    public String toString() {
+        return storage.toString();
+    }
+
+    /**
+     * Runs the storage's own tight loop. An action that triggers a migration leaves the
+     * loop on the old storage, whose contents are unchanged; any real change is reported
+     * once, at the end.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        int expectedModCount = modCount;
+        storage.forEach(action);
+        if(expectedModCount != modCount){
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+        int expectedModCount = modCount;
+        storage.forEachIndexed(action);
+        if(expectedModCount != modCount){
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new AdaptiveIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new AdaptiveIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new AdaptiveIterator(startingIndex);
+    }
+
+    /**
+     * A list iterator for the {@code AdaptiveIndexedList}. Wraps a list iterator of the
+     * current storage and tracks its own position, so after a migration it can open a
+     * new one at the same place, with the same element last returned.
+     */
+    private class AdaptiveIterator implements ListIterator<T> {
+        private IndexedUnsortedList<T> source;// storage the delegate iterates
+        private ListIterator<T> delegate;
+        private int nextIndex;
+        private int lastMove;// 1 after next, -1 after previous, 0 when set and remove are not allowed
+        private int iterModCount;
+
+        /**
+         * Constructs a new iterator for the {@code AdaptiveIndexedList} positioned before
+         * the element at the given index.
+         *
+         * @param startingIndex index of the element the first call to next returns
+         * @throws IndexOutOfBoundsException if index is below zero or greater than size of list.
+         */
+        public AdaptiveIterator(int startingIndex){
+            source = storage;
+            delegate = storage.listIterator(startingIndex);// checks the index
+            nextIndex = startingIndex;
+            lastMove = 0;
+            iterModCount = modCount;
+        }
+
+        /**
+         * Fails fast on outside changes, and follows the storage across a migration.
+         */
+        private void sync(){
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            if(source != storage){// migrated, reopen at the same position in the new storage
+                source = storage;
+                if(lastMove == 1){
+                    delegate = storage.listIterator(nextIndex - 1);
+                    delegate.next();
+                }else if(lastMove == -1){
+                    delegate = storage.listIterator(nextIndex + 1);
+                    delegate.previous();
+                }else{
+                    delegate = storage.listIterator(nextIndex);
+                }
+            }
+        }
+
+        /**
+         * Counts an edit at the cursor: one relink in linked form, a shift of the
+         * shorter side in array form. May migrate; sync() catches up on the next call.
+         */
+        private void sampleEdit(){
+            sample(distanceFromEnd(nextIndex, storage.size()), 1);
+        }
+
+        @Override
+        public boolean hasNext() {
+            sync();
+            return delegate.hasNext();
+        }
+
+        @Override
+        public T next() {
+            sync();
+            T element = delegate.next();
+            nextIndex++;
+            lastMove = 1;
+            return element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            sync();
+            return delegate.hasPrevious();
+        }
+
+        @Override
+        public T previous() {
+            sync();
+            T element = delegate.previous();
+            nextIndex--;
+            lastMove = -1;
+            return element;
+        }
+
+        @Override
+        public int nextIndex() {
+            sync();
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            sync();
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            sync();
+            delegate.remove();// throws IllegalStateException when lastMove is 0
+            if(lastMove == 1){
+                nextIndex--;
+            }
+            lastMove = 0;
+            modCount++;
+            iterModCount++;
+            sampleEdit();
+        }
+
+        @Override
+        public void set(T e) {
+            sync();
+            delegate.set(e);
+            modCount++;
+            iterModCount++;
+        }
+
+        @Override
+        public void add(T e) {
+            sync();
+            delegate.add(e);
+            nextIndex++;
+            lastMove = 0;
+            modCount++;
+            iterModCount++;
+            sampleEdit();
+        }
+    }
+}
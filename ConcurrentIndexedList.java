@@ -0,0 +1,337 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+/**
+ * Thread-safe decorator for any {@code IndexedUnsortedList}, guarding it with a
+ * {@code StampedLock}. Mutators take the write lock. On lists marked
+ * {@code SharedReadSafe}, readers never block each other: every read shares the read
+ * lock, and on the array lists the cheap reads size, isEmpty, get, first and last first
+ * try an optimistic read. That read takes no lock at all; it runs the call and then
+ * checks that no write happened in the meantime, retrying under the read lock if one
+ * did. While writes are rare, readers on different cores never touch a shared lock word.
+ *
+ * Many lists are not read-only on a read: the linked lists move a cached finger on get,
+ * IUUnrolledList leaves its seek position in a field, and AdaptiveIndexedList may
+ * migrate its storage. Readers sharing the lock over them would corrupt each other, so
+ * for any list not marked {@code SharedReadSafe} every read takes the write lock too.
+ *
+ * An optimistic read may see the wrapped list halfway through a change, so it is only
+ * used on lists marked {@code RandomAccess} as well, where size is a field read and
+ * get, first and last are a bounded array lookup, so a torn read can do no harm. Other
+ * lists' size may do more: LockFreeIUDeque counts its nodes, and decorators record
+ * metrics or follow a storage field that can be swapped. Linked structures could be
+ * caught mid-relink, and the off-heap lists could be caught reading memory that a
+ * concurrent grow has just freed, so all of those always use the lock. Exceptions
+ * thrown by a failed optimistic read are discarded and the call is repeated under the
+ * lock.
+ *
+ * Iterators, list iterators and spliterators work on a snapshot copied under the lock,
+ * so they never throw ConcurrentModificationException and do not support
+ * modification. Compound actions that must be atomic, such as check-then-add, go
+ * through update(). The wrapped list must not be used directly once wrapped.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class ConcurrentIndexedList<T> implements IndexedUnsortedList<T> {
+    private final IndexedUnsortedList<T> list;
+    private final StampedLock lock;
+    private final boolean sharedReads;// whether reads may share the read lock
+    private final boolean optimisticReads;// whether size, get, first and last may skip the lock
+
+    /**
+     * Constructs a thread-safe view of the given list.
+     *
+     * @param list the list to guard; all further access must go through this wrapper
+     */
+    public ConcurrentIndexedList(IndexedUnsortedList<T> list){
+        this.list = list;
+        lock = new StampedLock();
+        sharedReads = list instanceof SharedReadSafe;
+        optimisticReads = sharedReads && list instanceof RandomAccess;
+    }
+
+    /**
+     * Runs a read under the read lock.
+     */
+    private <R> R lockedRead(Supplier<R> read){
+        long stamp = lock.readLock();
+        try {
+            return read.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a read under the read lock if the list allows shared reads, otherwise under
+     * the write lock.
+     */
+    private <R> R read(Supplier<R> read){
+        return sharedReads ? lockedRead(read) : lockedWrite(read);
+    }
+
+    /**
+     * Runs a read without locking and returns its result if no write overlapped it,
+     * otherwise runs it again under the read lock.
+     */
+    private <R> R optimisticRead(Supplier<R> read){
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0){// zero while a writer holds the lock
+            try {
+                R result = read.get();
+                if(lock.validate(stamp)){
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // saw the list mid-change, or the call really fails; the locked read decides which
+            }
+        }
+        return lockedRead(read);
+    }
+
+    /**
+     * Runs a change under the write lock.
+     */
+    private <R> R lockedWrite(Supplier<R> write){
+        long stamp = lock.writeLock();
+        try {
+            return write.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies the elements into an array, under the read lock when reads may share it.
+     */
+    private Object[] snapshot(){
+        return read(() -> {
+            Object[] copy = new Object[list.size()];
+            int i = 0;
+            for(T element : list){
+                copy[i++] = element;
+            }
+            return copy;
+        });
+    }
+
+    /**
+     * Runs the given action on the wrapped list while holding the write lock, so a
+     * sequence of calls happens atomically with respect to every other thread. The
+     * action must use the list it is given, not this wrapper, which would deadlock.
+     *
+     * @param action the calls to make on the wrapped list
+     */
+    public void update(Consumer<? super IndexedUnsortedList<T>> action){
+        lockedWrite(() -> {
+            action.accept(list);
+            return null;
+        });
+    }
+
+    @Override
+    public void addToFront(T element) {
+        lockedWrite(() -> {
+            list.addToFront(element);
+            return null;
+        });
+    }
+
+    @Override
+    public void addToRear(T element) {
+        lockedWrite(() -> {
+            list.addToRear(element);
+            return null;
+        });
+    }
+
+    @Override
+    public void add(T element) {
+        lockedWrite(() -> {
+            list.add(element);
+            return null;
+        });
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        lockedWrite(() -> {
+            list.addAfter(element, target);
+            return null;
+        });
+    }
+
+    @Override
+    public void add(int index, T element) {
+        lockedWrite(() -> {
+            list.add(index, element);
+            return null;
+        });
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        Iterable<? extends T> source = copyIfSelf(elements);
+        lockedWrite(() -> {
+            list.addAll(source);
+            return null;
+        });
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        Iterable<? extends T> source = copyIfSelf(elements);
+        lockedWrite(() -> {
+            list.addAll(index, source);
+            return null;
+        });
+    }
+
+    /**
+     * Adding a list to itself would try to read it while holding the write lock, which
+     * StampedLock does not allow, so take a snapshot first.
+     */
+    @SuppressWarnings("unchecked")
+    private Iterable<? extends T> copyIfSelf(Iterable<? extends T> elements){
+        return (elements == this) ? (Iterable<T>)(Iterable<?>)Arrays.asList(snapshot()) : elements;
+    }
+
+    @Override
+    public T removeFirst() {
+        return lockedWrite(() -> list.removeFirst());
+    }
+
+    @Override
+    public T removeLast() {
+        return lockedWrite(() -> list.removeLast());
+    }
+
+    @Override
+    public T remove(T element) {
+        return lockedWrite(() -> list.remove(element));
+    }
+
+    @Override
+    public T remove(int index) {
+        return lockedWrite(() -> list.remove(index));
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        lockedWrite(() -> {
+            list.removeRange(fromIndex, toIndex);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        lockedWrite(() -> {
+            list.clear();
+            return null;
+        });
+    }
+
+    /**
+     * Removes every match as one atomic change, using the wrapped list's removeIf. The
+     * predicate runs under the write lock, so it must not use this list.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return lockedWrite(() -> list.removeIf(filter));
+    }
+
+    @Override
+    public void set(int index, T element) {
+        lockedWrite(() -> {
+            list.set(index, element);
+            return null;
+        });
+    }
+
+    @Override
+    public T get(int index) {
+        return optimisticReads ? optimisticRead(() -> list.get(index)) : read(() -> list.get(index));
+    }
+
+    @Override
+    public int indexOf(T element) {
+        return read(() -> list.indexOf(element));
+    }
+
+    @Override
+    public T first() {
+        return optimisticReads ? optimisticRead(() -> list.first()) : read(() -> list.first());
+    }
+
+    @Override
+    public T last() {
+        return optimisticReads ? optimisticRead(() -> list.last()) : read(() -> list.last());
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return read(() -> list.contains(target));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return optimisticReads ? optimisticRead(() -> list.size()) : read(() -> list.size());
+    }
+
+    @Override
+    public String toString() {
+        return read(() -> list.toString());
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the list taken now. It never throws
+     * ConcurrentModificationException and does not support remove.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return snapshotList().iterator();
+    }
+
+    /**
+     * Returns a list iterator over a snapshot of the list taken now. It never throws
+     * ConcurrentModificationException and does not support modification.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return snapshotList().listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return snapshotList().listIterator(startingIndex);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Returns an unmodifiable java.util.List over a fresh snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> snapshotList(){
+        return (List<T>)Collections.unmodifiableList(Arrays.asList(snapshot()));
+    }
+}
@@ -0,0 +1,191 @@
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Read-scaling benchmark for shared lists.
+ * Runs a fixed mix of get and set calls from 1, 2, 4... threads against one shared list
+ * and reports total throughput, to show how each way of guarding the list scales as
+ * readers are added. With perfect scaling the score doubles with the thread count,
+ * up to the number of cores.
+ *
+ * Guards compared:
+ *  synchronizedArrayList    : IUArrayList with every call in synchronized, the old approach
+ *  stampedArrayList         : ConcurrentIndexedList over IUArrayList, optimistic get
+ *  stampedDoubleLinkedList  : ConcurrentIndexedList over IUDoubleLinkedList, read-locked get
+ *
+ * Valid command line args include:
+ *  -threads 1,2,4,8,16 : thread counts to run (default powers of two up to 2x the cores)
+ *  -size 10000         : list size (default 1000)
+ *  -writes 10          : set calls per 1000 operations (default 0, read-only)
+ *  -millis 1000        : time per measurement (default 1000)
+ *  -o results.json     : write JSON to a file instead of the console
+ *
+ * Compile and run from the directory containing all source files:
+ *  $ javac ConcurrentListBenchmark.java
+ *  $ java ConcurrentListBenchmark -threads 1,2,4,8,16 -writes 1
+ */
+public class ConcurrentListBenchmark {
+	private static enum Guard {
+		synchronizedArrayList, stampedArrayList, stampedDoubleLinkedList
+	};
+
+	private static volatile long sink;// results are folded in here so the JIT cannot drop the calls
+
+	private ArrayList<Integer> threadCounts = new ArrayList<Integer>();
+	private int size = 1000;
+	private int writesPerMille = 0;
+	private long millis = 1000;
+	private String outputFile = null;
+
+	/**
+	 * Runs the benchmark described by the command line args.
+	 * @param args see class comment
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		ConcurrentListBenchmark benchmark = new ConcurrentListBenchmark(args);
+		benchmark.run();
+	}
+
+	/** benchmark constructor
+	 * @param args command line args
+	 */
+	public ConcurrentListBenchmark(String[] args) {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equalsIgnoreCase("-threads")) {
+				for (String count : args[i + 1].split(",")) {
+					threadCounts.add(Integer.parseInt(count));
+				}
+			} else if (args[i].equalsIgnoreCase("-size")) {
+				size = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-writes")) {
+				writesPerMille = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-millis")) {
+				millis = Long.parseLong(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-o")) {
+				outputFile = args[i + 1];
+			}
+		}
+		if (threadCounts.isEmpty()) {
+			int cores = Runtime.getRuntime().availableProcessors();
+			for (int count = 1; count <= 2 * cores; count *= 2) {
+				threadCounts.add(count);
+			}
+		}
+	}
+
+	/**
+	 * Returns a list of the given size, guarded the given way.
+	 */
+	private IndexedUnsortedList<Integer> buildList(Guard guard) {
+		IndexedUnsortedList<Integer> list;
+		switch (guard) {
+		case stampedArrayList:
+			list = new ConcurrentIndexedList<Integer>(new IUArrayList<Integer>());
+			break;
+		case stampedDoubleLinkedList:
+			list = new ConcurrentIndexedList<Integer>(new IUDoubleLinkedList<Integer>());
+			break;
+		default:
+			list = new IUArrayList<Integer>();
+		}
+		for (int i = 0; i < size; i++) {
+			list.addToRear(i);
+		}
+		return list;
+	}
+
+	/** Runs every guard at every thread count and prints or writes the JSON report */
+	private void run() throws IOException, InterruptedException {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n  \"jvm\": \"").append(System.getProperty("java.vm.name")).append(' ')
+				.append(System.getProperty("java.version")).append("\",\n");
+		json.append("  \"cores\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+		json.append("  \"unit\": \"ops/us\",\n  \"results\": [");
+		boolean firstResult = true;
+		for (Guard guard : Guard.values()) {
+			for (int threads : threadCounts) {
+				measure(guard, threads);// warm up
+				double score = measure(guard, threads);
+				System.err.printf("%-24s %3d threads %10.2f ops/us\n", guard, threads, score);
+				json.append(firstResult ? "\n" : ",\n");
+				json.append(String.format("    {\"guard\": \"%s\", \"threads\": %d, \"size\": %d, \"writesPerMille\": %d, \"score\": %.3f}",
+						guard, threads, size, writesPerMille, score));
+				firstResult = false;
+			}
+		}
+		json.append("\n  ]\n}\n");
+		if (outputFile == null) {
+			System.out.print(json);
+		} else {
+			FileWriter out = new FileWriter(outputFile);
+			out.write(json.toString());
+			out.close();
+		}
+	}
+
+	/**
+	 * Runs the given number of threads against one shared list for the configured
+	 * time and returns their combined throughput.
+	 *
+	 * @return operations per microsecond, summed over all threads
+	 */
+	private double measure(Guard guard, int threads) throws InterruptedException {
+		IndexedUnsortedList<Integer> list = buildList(guard);
+		boolean synchronize = (guard == Guard.synchronizedArrayList);
+		long[] counts = new long[threads];
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] workers = new Thread[threads];
+		long[] deadline = new long[1];
+		for (int t = 0; t < threads; t++) {
+			int id = t;
+			workers[t] = new Thread(() -> {
+				ThreadLocalRandom rand = ThreadLocalRandom.current();
+				long calls = 0;
+				long local = 0;
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				while (System.nanoTime() < deadline[0]) {
+					for (int i = 0; i < 256; i++) {// check the clock once per batch
+						int index = rand.nextInt(size);
+						boolean write = rand.nextInt(1000) < writesPerMille;
+						if (synchronize) {
+							synchronized (list) {
+								if (write) {
+									list.set(index, index);
+								} else {
+									local += list.get(index);
+								}
+							}
+						} else if (write) {
+							list.set(index, index);
+						} else {
+							local += list.get(index);
+						}
+					}
+					calls += 256;
+				}
+				counts[id] = calls;
+				sink += local;
+			});
+			workers[t].start();
+		}
+		long began = System.nanoTime();
+		deadline[0] = began + millis * 1_000_000L;// written before the latch opens, so every worker sees it
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		long elapsed = System.nanoTime() - began;
+		long total = 0;
+		for (long count : counts) {
+			total += count;
+		}
+		return total / (elapsed / 1000.0);
+	}
+}
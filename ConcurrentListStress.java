@@ -0,0 +1,193 @@
+import java.util.ListIterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Stress test for ConcurrentIndexedList over every list implementation.
+ *
+ * Each list is filled with 0 .. size - 1 and wrapped. Reader threads then call get, indexOf,
+ * contains, first, last, size and toString at random and check every answer against the
+ * known contents, first on their own and then while one writer thread keeps calling
+ * set(i, i), which changes nothing a reader can see. Any wrong answer or unexpected
+ * exception counts as an error.
+ *
+ * This catches wrapped lists whose reads are not really read-only: the linked lists move
+ * a cached finger on every get, and AdaptiveIndexedList may migrate its storage inside
+ * get, so readers sharing the read lock over them would corrupt each other.
+ * Exits with status 1 if any list had an error.
+ *
+ * Valid command line args include:
+ *  -threads 8   : reader threads per list (default 8)
+ *  -size 2000   : elements per list (default 2000)
+ *  -millis 1000 : time per list for each of the two phases (default 1000)
+ *
+ * Compile and run from the directory containing all source files:
+ *  $ javac ConcurrentListStress.java
+ *  $ java ConcurrentListStress
+ */
+public class ConcurrentListStress {
+	private int threads = 8;
+	private int size = 2000;
+	private long millis = 1000;
+
+	/**
+	 * Runs the check on every list.
+	 * @param args see class comment
+	 */
+	public static void main(String[] args) throws Exception {
+		ConcurrentListStress stress = new ConcurrentListStress(args);
+		boolean ok = true;
+		ok &= stress.check("arrayList", IUArrayList::new);
+		ok &= stress.check("singleLinkedList", IUSingleLinkedList::new);
+		ok &= stress.check("doubleLinkedList", IUDoubleLinkedList::new);
+		ok &= stress.check("hashIndexedDoubleLinkedList", () -> new IUDoubleLinkedList<Integer>(true));
+		ok &= stress.check("treeList", IUTreeList::new);
+		ok &= stress.check("unrolledList", IUUnrolledList::new);
+		ok &= stress.check("pooledLinkedList", IUPooledLinkedList::new);
+		ok &= stress.check("intDoubleLinkedList", () -> new IntListAdapter(new IntIUDoubleLinkedList()));
+		ok &= stress.check("copyOnWriteArrayList", CopyOnWriteIUArrayList::new);
+		ok &= stress.check("adaptiveList", ConcurrentListStress::linkedAdaptiveList);
+		ok &= stress.check("instrumentedList", () -> new InstrumentedIndexedList<Integer>(new IUDoubleLinkedList<Integer>()));
+		if (!ok) {
+			System.exit(1);
+		}
+	}
+
+	/** stress test constructor
+	 * @param args command line args
+	 */
+	public ConcurrentListStress(String[] args) {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equalsIgnoreCase("-threads")) {
+				threads = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-size")) {
+				size = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-millis")) {
+				millis = Long.parseLong(args[i + 1]);
+			}
+		}
+	}
+
+	/**
+	 * An adaptive list that migrates eagerly. check() pushes it into linked form by editing
+	 * through a list iterator, so the readers' gets pull it back to an array while they run.
+	 */
+	private static IndexedUnsortedList<Integer> linkedAdaptiveList() {
+		return new AdaptiveIndexedList<Integer>(0);
+	}
+
+	/**
+	 * Fills a new list, wraps it and runs the readers against it, first on their own and
+	 * then alongside the writer.
+	 *
+	 * @return true if no reader saw a wrong answer
+	 */
+	private boolean check(String name, Supplier<IndexedUnsortedList<Integer>> supplier) throws InterruptedException {
+		IndexedUnsortedList<Integer> inner = supplier.get();
+		for (int i = 0; i < size; i++) {
+			inner.addToRear(i);
+		}
+		if (inner instanceof AdaptiveIndexedList) {
+			AdaptiveIndexedList<Integer> adaptive = (AdaptiveIndexedList<Integer>)inner;
+			ListIterator<Integer> it = adaptive.listIterator(size / 2);
+			while (!adaptive.isLinked()) {// middle edits favour the linked form
+				it.add(-1);
+				it.previous();
+				it.remove();
+			}
+		}
+		ConcurrentIndexedList<Integer> list = new ConcurrentIndexedList<Integer>(inner);
+		AtomicLong errors = new AtomicLong();
+		long reads = runPhase(list, false, errors) + runPhase(list, true, errors);
+		for (int i = 0; i < size; i++) {// and the list itself must still be intact
+			if (inner.get(i) != i) {
+				errors.incrementAndGet();
+			}
+		}
+		boolean ok = errors.get() == 0;
+		System.err.printf("%-28s %d readers, %10d reads, %d errors, %s\n", name, threads, reads, errors.get(), ok ? "ok" : "FAILED");
+		return ok;
+	}
+
+	/**
+	 * Runs the readers for the configured time, with or without the writer.
+	 *
+	 * @return reads made
+	 */
+	private long runPhase(IndexedUnsortedList<Integer> list, boolean withWriter, AtomicLong errors) throws InterruptedException {
+		AtomicLong calls = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		long deadline = System.nanoTime() + millis * 1_000_000L;
+		Thread[] workers = new Thread[withWriter ? threads + 1 : threads];
+		for (int t = 0; t < threads; t++) {
+			workers[t] = new Thread(() -> {
+				awaitQuietly(start);
+				ThreadLocalRandom rand = ThreadLocalRandom.current();
+				long n = 0;
+				while (System.nanoTime() < deadline) {
+					int i = rand.nextInt(size);
+					try {
+						if (!readMatches(list, rand.nextInt(16), i)) {
+							errors.incrementAndGet();
+						}
+					} catch (RuntimeException e) {
+						errors.incrementAndGet();
+					}
+					n++;
+				}
+				calls.addAndGet(n);
+			});
+		}
+		if (withWriter) {
+			workers[threads] = new Thread(() -> {
+				awaitQuietly(start);
+				ThreadLocalRandom rand = ThreadLocalRandom.current();
+				while (System.nanoTime() < deadline) {
+					int i = rand.nextInt(size);
+					list.set(i, i);
+				}
+			});
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		return calls.get();
+	}
+
+	/**
+	 * Makes one read call and checks its answer against the contents 0 .. size - 1.
+	 * Most calls are get, the read that moves a linked list's finger.
+	 */
+	private boolean readMatches(IndexedUnsortedList<Integer> list, int op, int i) {
+		switch (op) {
+		case 0:
+			return list.indexOf(i) == i;
+		case 1:
+			return list.contains(i);
+		case 2:
+			return list.first() == 0;
+		case 3:
+			return list.last() == size - 1;
+		case 4:
+			return list.size() == size;
+		case 5:
+			return list.toString().startsWith("[0, 1, ");
+		default:
+			return list.get(i) == i;
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,436 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+/**
+ * Thread-safe, array-based implementation of the {@code IndexedUnsortedList} interface
+ * for lists that are read far more often than they are changed.
+ * The elements sit in an array of exactly size() slots that is never modified once
+ * published. Every mutator copies the array, changes the copy and publishes it through
+ * a volatile field, so readers always see one complete version of the list: get,
+ * contains, indexOf and iteration take no lock, and iterators work on the version that
+ * was current when they were created, so they never throw
+ * ConcurrentModificationException. The price is an O(n) copy on every change, and
+ * iterators cannot remove.
+ *
+ * mutate() applies many changes for the cost of two copies: it hands the action a
+ * private working list and publishes the result once. The action, like a removeIf
+ * predicate, must change only what it is handed: a call back into this list's own
+ * mutators throws IllegalStateException.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class CopyOnWriteIUArrayList<T> implements IndexedUnsortedList<T>, RandomAccess, SharedReadSafe {
+    private static final Object[] EMPTY = new Object[0];
+    private final Object lock = new Object();// serializes writers; readers never take it
+    private volatile Object[] array;// never modified after it is published
+    private boolean mutating;// a mutate action or removeIf predicate is running, guarded by lock
+
+    /**
+     * Constructs a new, empty {@code CopyOnWriteIUArrayList}.
+     */
+    public CopyOnWriteIUArrayList(){
+        array = EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(Object[] elements, int index){
+        return (T)elements[index];
+    }
+
+    /**
+     * Returns the index of the first element equal to the given one in a version of
+     * the list, or -1.
+     */
+    private static int indexOf(Object[] elements, Object element){
+        for(int i = 0; i < elements.length; i++){
+            if(elements[i].equals(element)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Publishes a copy of the current array with the element inserted at the given index.
+     * Caller must hold the lock and have validated the index.
+     */
+    private void insertAt(Object[] current, int index, T element){
+        Object[] copy = new Object[current.length + 1];
+        System.arraycopy(current, 0, copy, 0, index);
+        copy[index] = element;
+        System.arraycopy(current, index, copy, index + 1, current.length - index);
+        array = copy;
+    }
+
+    /**
+     * Publishes a copy of the current array without the element at the given index and
+     * returns that element. Caller must hold the lock and have validated the index.
+     */
+    private T removeAt(Object[] current, int index){
+        Object[] copy = new Object[current.length - 1];
+        System.arraycopy(current, 0, copy, 0, index);
+        System.arraycopy(current, index + 1, copy, index, current.length - index - 1);
+        array = copy;
+        return elementAt(current, index);
+    }
+
+    /**
+     * Rejects a mutator called back from a mutate action or removeIf predicate. Those run
+     * holding the lock, which is reentrant, so the inner change would be published and
+     * then overwritten when the outer call publishes. Caller must hold the lock.
+     *
+     * @throws IllegalStateException if a mutate action or removeIf predicate is running
+     */
+    private void checkNotMutating(){
+        if(mutating){
+            throw new IllegalStateException("list changed from inside mutate or removeIf");
+        }
+    }
+
+    /**
+     * Applies any number of changes as one: the action gets a private working copy of
+     * the list, and its final contents are published in a single step when it returns.
+     * Readers see either none of the changes or all of them, and the list is copied
+     * twice in total instead of once per change. If the action throws, nothing is
+     * published. The working list must not be kept after the action returns, and the
+     * action must not call this list's own mutators, which would otherwise lose the change.
+     *
+     * @param action changes to make to the working copy
+     * @throws IllegalStateException if the action calls a mutator of this list
+     */
+    public void mutate(Consumer<? super IndexedUnsortedList<T>> action){
+        synchronized(lock){
+            checkNotMutating();
+            @SuppressWarnings("unchecked")
+            T[] working = (T[])Arrays.copyOf(array, Math.max(IUArrayList.DEFAULT_CAPACITY, array.length * 2));
+            IUArrayList<T> list = new IUArrayList<T>(working, array.length);
+            mutating = true;
+            try{
+                action.accept(list);
+            }finally{
+                mutating = false;
+            }
+            array = list.toArray();
+        }
+    }
+
+    @Override
+    public void addToFront(T element) {
+        synchronized(lock){
+            checkNotMutating();
+            insertAt(array, 0, element);
+        }
+    }
+
+    @Override
+    public void addToRear(T element) {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            insertAt(current, current.length, element);
+        }
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            int targetIndex = indexOf(current, target);
+            if(targetIndex < 0){
+                throw new NoSuchElementException();
+            }
+            insertAt(current, targetIndex + 1, element);
+        }
+    }
+
+    @Override
+    public void add(int index, T element) {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            if(index < 0 || index > current.length){
+                throw new IndexOutOfBoundsException();
+            }
+            insertAt(current, index, element);
+        }
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        insertAll(-1, elements);
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        if(index < 0){
+            throw new IndexOutOfBoundsException();
+        }
+        insertAll(index, elements);
+    }
+
+    /**
+     * Publishes a copy with the elements inserted at the given index, or at the end
+     * of whatever version is current once the lock is held if index is -1.
+     */
+    private void insertAll(int index, Iterable<? extends T> elements) {
+        Object[] batch = (elements == this) ? array : toArray(elements);// copied outside the lock
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            if(index == -1){
+                index = current.length;
+            }
+            if(index > current.length){
+                throw new IndexOutOfBoundsException();
+            }
+            if(batch.length == 0){
+                return;
+            }
+            Object[] copy = new Object[current.length + batch.length];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(batch, 0, copy, index, batch.length);
+            System.arraycopy(current, index, copy, index + batch.length, current.length - index);
+            array = copy;
+        }
+    }
+
+    /**
+     * Copies any Iterable into an array.
+     */
+    private static Object[] toArray(Iterable<?> elements){
+        ArrayList<Object> collected = new ArrayList<Object>();
+        for(Object element : elements){
+            collected.add(element);
+        }
+        return collected.toArray();
+    }
+
+    @Override
+    public T removeFirst() {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            if(current.length == 0){
+                throw new NoSuchElementException();
+            }
+            return removeAt(current, 0);
+        }
+    }
+
+    @Override
+    public T removeLast() {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            if(current.length == 0){
+                throw new NoSuchElementException();
+            }
+            return removeAt(current, current.length - 1);
+        }
+    }
+
+    @Override
+    public T remove(T element) {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            int index = indexOf(current, element);
+            if(index < 0){
+                throw new NoSuchElementException();
+            }
+            return removeAt(current, index);
+        }
+    }
+
+    @Override
+    public T remove(int index) {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            if(index < 0 || index >= current.length){
+                throw new IndexOutOfBoundsException();
+            }
+            return removeAt(current, index);
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            if(fromIndex < 0 || toIndex > current.length || fromIndex > toIndex){
+                throw new IndexOutOfBoundsException();
+            }
+            if(fromIndex == toIndex){
+                return;
+            }
+            Object[] copy = new Object[current.length - (toIndex - fromIndex)];
+            System.arraycopy(current, 0, copy, 0, fromIndex);
+            System.arraycopy(current, toIndex, copy, fromIndex, current.length - toIndex);
+            array = copy;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized(lock){
+            checkNotMutating();
+            array = EMPTY;
+        }
+    }
+
+    /**
+     * Publishes one copy holding only the elements that do not match. If the predicate
+     * throws, or nothing matches, nothing is published. The predicate must not change
+     * this list; its mutators throw IllegalStateException while it runs.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if(filter == null){
+            throw new NullPointerException();
+        }
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            Object[] kept = new Object[current.length];
+            int count = 0;
+            mutating = true;
+            try{
+                for(int i = 0; i < current.length; i++){
+                    T element = elementAt(current, i);
+                    if(!filter.test(element)){
+                        kept[count++] = element;
+                    }
+                }
+            }finally{
+                mutating = false;
+            }
+            if(count == current.length){
+                return false;
+            }
+            array = Arrays.copyOf(kept, count);
+            return true;
+        }
+    }
+
+    @Override
+    public void set(int index, T element) {
+        synchronized(lock){
+            checkNotMutating();
+            Object[] current = array;
+            if(index < 0 || index >= current.length){
+                throw new IndexOutOfBoundsException();
+            }
+            Object[] copy = current.clone();
+            copy[index] = element;
+            array = copy;
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        Object[] current = array;// one read, so the bounds check and the load see the same version
+        if(index < 0 || index >= current.length){
+            throw new IndexOutOfBoundsException();
+        }
+        return elementAt(current, index);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        return indexOf(array, element);
+    }
+
+    @Override
+    public T first() {
+        Object[] current = array;
+        if(current.length == 0){
+            throw new NoSuchElementException();
+        }
+        return elementAt(current, 0);
+    }
+
+    @Override
+    public T last() {
+        Object[] current = array;
+        if(current.length == 0){
+            throw new NoSuchElementException();
+        }
+        return elementAt(current, current.length - 1);
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(array, target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(array);
+    }
+
+    /**
+     * Returns an iterator over the list as it is now. Later changes are not seen, it
+     * never throws ConcurrentModificationException, and it does not support remove.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns a list iterator over the list as it is now. Later changes are not seen,
+     * it never throws ConcurrentModificationException, and it does not support
+     * modification.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return snapshot().listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return snapshot().listIterator(startingIndex);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Returns an unmodifiable java.util.List view of the current version. No copy is
+     * needed, since a published array never changes.
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> snapshot(){
+        return (List<T>)Collections.unmodifiableList(Arrays.asList(array));
+    }
+}
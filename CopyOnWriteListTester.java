@@ -0,0 +1,302 @@
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for what CopyOnWriteIUArrayList adds beyond the IndexedUnsortedList interface,
+ * which ListTester covers.
+ *
+ * Runs five checks, exiting with status 1 if any fails:
+ *  mutate    : changes made inside mutate() are invisible through the list until the
+ *              action returns, then all visible at once; the working list starts as a
+ *              copy of the current contents.
+ *  throwing  : an action that changes the working list and then throws leaves the
+ *              list exactly as it was, passes the exception on, and leaves the list
+ *              usable by later writers.
+ *  reentrant : an action or removeIf predicate that calls the list's own mutators
+ *              gets IllegalStateException, and the list keeps its contents.
+ *  snapshots : iterators, list iterators and spliterators keep returning the version
+ *              current when they were made, across plain writes and mutate().
+ *  readers   : reader threads iterate while a writer publishes batches through mutate(),
+ *              some of which throw. Every batch keeps the contents a run of pairs, so a
+ *              reader that ever sees an odd count or a broken pair has seen a half
+ *              published batch.
+ *
+ * Valid command line args include:
+ *  -threads 4    : reader threads in the readers check (default 4)
+ *  -millis 1000  : time for the readers check (default 1000)
+ *
+ * Compile and run from the directory containing all source files:
+ *  $ javac CopyOnWriteListTester.java
+ *  $ java CopyOnWriteListTester
+ */
+public class CopyOnWriteListTester {
+	private int threads = 4;
+	private long millis = 1000;
+
+	/**
+	 * Runs every check.
+	 * @param args see class comment
+	 */
+	public static void main(String[] args) throws Exception {
+		CopyOnWriteListTester tester = new CopyOnWriteListTester(args);
+		boolean ok = true;
+		ok &= tester.run("mutate", tester::checkMutate);
+		ok &= tester.run("throwing", tester::checkThrowingMutate);
+		ok &= tester.run("reentrant", tester::checkReentrantMutate);
+		ok &= tester.run("snapshots", tester::checkSnapshots);
+		ok &= tester.run("readers", tester::checkReaders);
+		if (!ok) {
+			System.exit(1);
+		}
+	}
+
+	/** tester constructor
+	 * @param args command line args
+	 */
+	public CopyOnWriteListTester(String[] args) {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equalsIgnoreCase("-threads")) {
+				threads = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-millis")) {
+				millis = Long.parseLong(args[i + 1]);
+			}
+		}
+	}
+
+	/** A check that may throw; failures are reported by throwing IllegalStateException */
+	private interface Check {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Runs one check, reporting the first mismatch it throws.
+	 *
+	 * @return true if the check passed
+	 */
+	private boolean run(String name, Check check) {
+		try {
+			check.run();
+			System.err.printf("%-10s ok\n", name);
+			return true;
+		} catch (Exception e) {
+			System.err.printf("%-10s FAILED: %s\n", name, e);
+			return false;
+		}
+	}
+
+	private void checkMutate() {
+		CopyOnWriteIUArrayList<Integer> list = listOf(1, 2, 3);
+		list.mutate(working -> {
+			check(working.toString().equals("[1, 2, 3]"), "working list starts as " + working);
+			working.addToFront(0);
+			working.removeLast();
+			working.set(1, 10);
+			for (int i = 0; i < 100; i++) {// past the working copy's first capacity
+				working.addToRear(i);
+			}
+			check(list.size() == 3 && list.toString().equals("[1, 2, 3]"), "change published before mutate returned: " + list);
+		});
+		check(list.size() == 103, "size after mutate " + list.size());
+		check(list.first() == 0 && list.get(1) == 10 && list.get(2) == 2 && list.last() == 99, "contents after mutate");
+
+		CopyOnWriteIUArrayList<Integer> empty = new CopyOnWriteIUArrayList<Integer>();
+		empty.mutate(working -> check(working.isEmpty(), "working list of an empty list"));
+		check(empty.isEmpty(), "mutate with no changes");
+		empty.mutate(working -> working.addToRear(7));
+		check(empty.size() == 1 && empty.first() == 7, "mutate on an empty list");
+		list.mutate(working -> working.clear());
+		check(list.isEmpty(), "mutate clearing the list");
+	}
+
+	private void checkThrowingMutate() {
+		CopyOnWriteIUArrayList<Integer> list = listOf(1, 2, 3);
+		Iterator<Integer> before = list.iterator();
+		RuntimeException thrown = new IllegalArgumentException("from the action");
+		RuntimeException caught = null;
+		try {
+			list.mutate(working -> {
+				working.clear();
+				working.addToRear(9);
+				throw thrown;
+			});
+		} catch (RuntimeException e) {
+			caught = e;
+		}
+		check(caught == thrown, "mutate did not pass on the action's exception: " + caught);
+		check(list.toString().equals("[1, 2, 3]"), "list after a throwing mutate: " + list);
+		check(before.next() == 1, "iterator after a throwing mutate");
+
+		caught = null;
+		try {
+			list.mutate(working -> working.get(5));// throws from the working list itself
+		} catch (IndexOutOfBoundsException e) {
+			caught = e;
+		}
+		check(caught != null, "working list index check");
+		list.addToRear(4);// the lock must have been released
+		list.mutate(working -> working.addToFront(0));
+		check(list.toString().equals("[0, 1, 2, 3, 4]"), "writes after a throwing mutate: " + list);
+	}
+
+	private void checkReentrantMutate() {
+		CopyOnWriteIUArrayList<Integer> list = listOf(1, 2, 3);
+		boolean refused = false;
+		try {
+			list.mutate(working -> {
+				working.addToRear(4);
+				list.addToFront(0);// would be overwritten when mutate publishes
+			});
+		} catch (IllegalStateException e) {
+			refused = true;
+		}
+		check(refused, "mutator called from a mutate action");
+		check(list.toString().equals("[1, 2, 3]"), "list after a reentrant mutate: " + list);
+
+		refused = false;
+		try {
+			list.mutate(working -> list.mutate(inner -> inner.clear()));
+		} catch (IllegalStateException e) {
+			refused = true;
+		}
+		check(refused, "mutate called from a mutate action");
+
+		refused = false;
+		try {
+			list.removeIf(element -> {
+				list.addToRear(element);
+				return false;
+			});
+		} catch (IllegalStateException e) {
+			refused = true;
+		}
+		check(refused, "mutator called from a removeIf predicate");
+		check(list.toString().equals("[1, 2, 3]"), "list after a reentrant removeIf: " + list);
+		list.mutate(working -> working.addToRear(list.size() + 1));// reads are still allowed
+		check(list.toString().equals("[1, 2, 3, 4]"), "writes after a reentrant mutate: " + list);
+	}
+
+	private void checkSnapshots() {
+		CopyOnWriteIUArrayList<Integer> list = listOf(1, 2, 3);
+		Iterator<Integer> it = list.iterator();
+		ListIterator<Integer> listIt = list.listIterator(3);
+		Spliterator<Integer> split = list.spliterator();
+		check(it.next() == 1, "iterator first element");
+		list.set(1, 20);
+		list.removeFirst();
+		list.mutate(working -> {
+			working.clear();
+			working.addToRear(5);
+		});
+		check(list.toString().equals("[5]"), "list after writes: " + list);
+		check(it.next() == 2 && it.next() == 3 && !it.hasNext(), "iterator saw a later write");
+		check(listIt.previous() == 3 && listIt.previous() == 2 && listIt.previous() == 1, "list iterator saw a later write");
+		StringBuilder seen = new StringBuilder();
+		split.forEachRemaining(element -> seen.append(element));
+		check(seen.toString().equals("123"), "spliterator saw a later write: " + seen);
+		boolean refused = false;
+		try {
+			list.iterator().remove();
+		} catch (UnsupportedOperationException e) {
+			refused = true;
+		}
+		check(refused, "iterator remove is supported");
+	}
+
+	/**
+	 * Readers check every version they see while the writer keeps publishing. The list
+	 * always holds pairs: element 2k and 2k + 1 are equal, and each write adds or drops
+	 * whole pairs, so any odd length or mismatched pair is a partial publication.
+	 */
+	private void checkReaders() throws InterruptedException {
+		CopyOnWriteIUArrayList<Integer> list = new CopyOnWriteIUArrayList<Integer>();
+		AtomicLong torn = new AtomicLong();
+		AtomicLong reads = new AtomicLong();
+		AtomicBoolean running = new AtomicBoolean(true);
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] readers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			readers[t] = new Thread(() -> {
+				awaitQuietly(start);
+				long n = 0;
+				while (running.get()) {
+					int count = 0;
+					Integer pending = null;
+					for (Integer element : list) {
+						if (pending == null) {
+							pending = element;
+						} else {
+							if (!pending.equals(element)) {
+								torn.incrementAndGet();
+							}
+							pending = null;
+						}
+						count++;
+					}
+					if (count % 2 != 0) {
+						torn.incrementAndGet();
+					}
+					n++;
+				}
+				reads.addAndGet(n);
+			});
+			readers[t].start();
+		}
+		start.countDown();
+		long deadline = System.nanoTime() + millis * 1_000_000L;
+		int round = 0;
+		while (System.nanoTime() < deadline) {
+			int value = round++;
+			if (list.size() > 200) {
+				list.mutate(working -> working.removeRange(0, 100));
+			}
+			list.mutate(working -> {// each pair is two calls on the working list, published together
+				for (int i = 0; i < 10; i++) {
+					working.addToRear(value);
+					working.addToRear(value);
+				}
+			});
+			if (value % 7 == 0) {// a throwing batch must publish nothing, not half a pair
+				try {
+					list.mutate(working -> {
+						working.addToFront(-1);
+						throw new IllegalStateException();
+					});
+				} catch (IllegalStateException e) {
+					// expected
+				}
+			}
+		}
+		running.set(false);
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		check(torn.get() == 0, torn.get() + " of " + reads.get() + " reads saw a partial batch");
+		check(reads.get() > 0, "readers never ran");
+	}
+
+	private static CopyOnWriteIUArrayList<Integer> listOf(Integer... elements) {
+		CopyOnWriteIUArrayList<Integer> list = new CopyOnWriteIUArrayList<Integer>();
+		for (Integer element : elements) {
+			list.addToRear(element);
+		}
+		return list;
+	}
+
+	private static void check(boolean condition, String what) {
+		if (!condition) {
+			throw new IllegalStateException(what);
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
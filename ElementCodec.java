@@ -0,0 +1,61 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements of one type to and from a fixed number of bytes, so they can be
+ * stored outside the Java heap by {@code OffHeapIUList}, in a file by {@code MappedIUList},
+ * or written to a buffer by {@code ListSerializer}.
+ * Every element must encode to exactly width() bytes, and decoding the bytes written
+ * for an element must give back an element equal to it.
+ * Codecs for long, double and int are provided; small records can be stored by
+ * writing their fields one after another at fixed offsets.
+ *
+ * @param <T> the type of elements encoded
+ * @author Davina Causey
+ */
+public interface ElementCodec<T> {
+    /** Stores a Long as 8 bytes */
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        public int width() { return Long.BYTES; }
+        public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+        public void write(ByteBuffer buffer, int offset, Long element) { buffer.putLong(offset, element); }
+    };
+
+    /** Stores a Double as 8 bytes */
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        public int width() { return Double.BYTES; }
+        public Double read(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+        public void write(ByteBuffer buffer, int offset, Double element) { buffer.putDouble(offset, element); }
+    };
+
+    /** Stores an Integer as 4 bytes */
+    public static final ElementCodec<Integer> INTEGER = new ElementCodec<Integer>() {
+        public int width() { return Integer.BYTES; }
+        public Integer read(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+        public void write(ByteBuffer buffer, int offset, Integer element) { buffer.putInt(offset, element); }
+    };
+
+    /**
+     * Returns the number of bytes every element takes.
+     *
+     * @return bytes per element, at least 1
+     */
+    public int width();
+
+    /**
+     * Decodes the element stored at the given byte offset.
+     *
+     * @param buffer buffer holding the element
+     * @param offset byte offset of the element's first byte
+     * @return the decoded element
+     */
+    public T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Encodes an element into width() bytes starting at the given byte offset.
+     *
+     * @param buffer  buffer to write into
+     * @param offset  byte offset for the element's first byte
+     * @param element element to encode, never null
+     */
+    public void write(ByteBuffer buffer, int offset, T element);
+}
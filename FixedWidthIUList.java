@@ -0,0 +1,436 @@
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+/**
+ * The list logic shared by {@code OffHeapIUList} and {@code MappedIUList}, which both
+ * store element i as {@code codec.width()} bytes at slot i of some byte storage.
+ * Subclasses supply the storage: reading and writing one slot, moving a run of slots,
+ * growing, and checking that the storage is still open. Everything else, from index
+ * checks to removeIf and the iterator, is written once here against those operations.
+ *
+ * Null elements are not allowed. Iterators are fail-fast but do not support list
+ * iterators.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+abstract class FixedWidthIUList<T> implements IndexedUnsortedList<T>, SharedReadSafe {
+    final ElementCodec<T> codec;
+    final int width;// bytes per element
+    int size;
+    int changeCount;
+
+    /**
+     * Sets up the codec. Subclasses set up their storage.
+     *
+     * @param codec converts elements to and from bytes
+     * @throws IllegalArgumentException if the codec width is not positive
+     */
+    FixedWidthIUList(ElementCodec<T> codec){
+        if(codec.width() <= 0){
+            throw new IllegalArgumentException();
+        }
+        this.codec = codec;
+        width = codec.width();
+        size = 0;
+        changeCount = 0;
+    }
+
+    /**
+     * Throws IllegalStateException if the storage has been closed.
+     */
+    abstract void checkOpen();
+
+    /**
+     * Makes room for at least the given number of elements.
+     *
+     * @param minCapacity number of elements that must fit
+     */
+    abstract void ensureCapacity(int minCapacity);
+
+    /**
+     * Decodes the element in the given slot.
+     */
+    abstract T read(int index);
+
+    /**
+     * Encodes a non-null element into the given slot.
+     */
+    abstract void write(int index, T element);
+
+    /**
+     * Copies count elements from index from to index to, correctly for overlapping ranges.
+     *
+     * @param from  index of the first element to move
+     * @param to    index it moves to
+     * @param count number of elements to move
+     */
+    abstract void move(int from, int to, int count);
+
+    /**
+     * Records a new size and counts one change.
+     */
+    void setSize(int newSize){
+        size = newSize;
+        changeCount++;
+    }
+
+    /**
+     * Inserts the element at the given index. Index must already be validated.
+     */
+    private void insertAt(int index, T element){
+        checkOpen();
+        if(element == null){// checked before anything moves
+            throw new NullPointerException();
+        }
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        write(index, element);
+        setSize(size + 1);
+    }
+
+    /**
+     * Removes and returns the element at the given index. Index must already be validated.
+     */
+    private T removeAt(int index){
+        T retVal = read(index);
+        move(index + 1, index, size - index - 1);
+        setSize(size - 1);
+        return retVal;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        insertAt(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        insertAt(size, element);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        insertAt(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ArrayList<T> batch = new ArrayList<T>();// copy first, so the list can add its own elements
+        for (T element : elements) {
+            if (element == null) {
+                throw new NullPointerException();
+            }
+            batch.add(element);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        ensureCapacity(size + batch.size());
+        move(index, index + batch.size(), size - index);// one move for the whole batch
+        for (int i = 0; i < batch.size(); i++) {
+            write(index + i, batch.get(i));
+        }
+        setSize(size + batch.size());
+    }
+
+    @Override
+    public T removeFirst() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(size - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkOpen();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        move(toIndex, fromIndex, size - toIndex);
+        setSize(size - (toIndex - fromIndex));
+    }
+
+    /**
+     * Removes every match in O(n) with one changeCount bump. Matches are marked in a bit
+     * set first, so a predicate that throws leaves the list unchanged; then each run of
+     * surviving elements moves down with one move().
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        checkOpen();
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedChangeCount = changeCount;
+        BitSet matches = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (filter.test(read(i))) {
+                matches.set(i);
+            }
+        }
+        if (expectedChangeCount != changeCount) {// the predicate changed the list
+            throw new ConcurrentModificationException();
+        }
+        if (matches.isEmpty()) {
+            return false;
+        }
+        int kept = 0;// survivors so far, and the index the next run moves to
+        int runStart = matches.nextClearBit(0);
+        while (runStart < size) {
+            int runEnd = matches.nextSetBit(runStart);
+            if (runEnd < 0) {
+                runEnd = size;
+            }
+            move(runStart, kept, runEnd - runStart);
+            kept += runEnd - runStart;
+            runStart = matches.nextClearBit(runEnd);
+        }
+        setSize(kept);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        setSize(0);// bytes hold no references, so the storage is simply reused
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        write(index, element);
+        changeCount++;
+    }
+
+    @Override
+    public T get(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return read(index);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        checkOpen();
+        if (element == null) {// null is never stored
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (element.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public T first() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return read(0);
+    }
+
+    @Override
+    public T last() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return read(size - 1);
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        checkOpen();
+        StringBuilder str = new StringBuilder();
+        str.append("[");
+        for (int i = 0; i < size; i++) {
+            str.append(read(i).toString());
+            str.append(", ");
+        }
+        if (size > 0) {
+            str.delete(str.length() - 2, str.length()); // remove trailing ", "
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        forEachIndexed((index, element) -> action.accept(element));
+    }
+
+    /**
+     * Decodes the elements in one loop. read() goes through the subclass's storage field
+     * each time, so an action that grows the list does not read storage that was freed
+     * or unmapped; a change is reported once, at the end.
+     */
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+        checkOpen();
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedChangeCount = changeCount;
+        for (int i = 0, count = size; i < count; i++) {
+            action.accept(i, read(i));
+        }
+        if (expectedChangeCount != changeCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new FixedWidthIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * An iterator implementation for the fixed-width lists.
+     * Decodes each element as it is returned.
+     */
+    private class FixedWidthIterator implements Iterator<T> {
+        private int nextIndex;
+        private boolean canRemove;
+        private int expectedChangeCount;
+
+        /**
+         * Constructs a new iterator positioned before the first element.
+         */
+        public FixedWidthIterator(){
+            nextIndex = 0;
+            canRemove = false;
+            expectedChangeCount = changeCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(expectedChangeCount != changeCount){//check if something changed
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            canRemove = true;
+            nextIndex++;
+            return read(nextIndex - 1);
+        }
+
+        @Override
+        public void remove(){
+            if(expectedChangeCount != changeCount){//check if something changed
+                throw new ConcurrentModificationException();
+            }
+            if(!canRemove){
+                throw new IllegalStateException();
+            }
+            canRemove = false;
+            removeAt(nextIndex - 1);
+            nextIndex--;//Stay in front of the next element
+            expectedChangeCount++;
+        }
+    }
+}
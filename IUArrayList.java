@@ -1,21 +1,30 @@
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
-import java.util.Arrays;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.ConcurrentModificationException;
 /**
  * Array-based implementation of the {@code IndexedUnsortedList} interface.
  * Provides efficient access and modification of elements using an underlying array structure.
- * Includes basic iterator support for traversing and modifying the list.
+ * The array is used as a circular buffer: {@code front} marks the slot holding index 0 and
+ * logical indexes wrap around the end of the array, so adding or removing at either end
+ * is amortized O(1) and inserts or removals in the middle shift toward the closer end.
+ * Includes a full {@code ListIterator} for traversing and modifying the list in both directions.
  * Average memory usage for this array-based list is approximately 1.5n.
  * 
  * @param <T> the type of elements stored in the list
  * @author Davina Causey
  */
-public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory use of arraylist is about 1.5n
+public class IUArrayList<T> implements IndexedUnsortedList<T>, RandomAccess, SharedReadSafe {//Average memory use of arraylist is about 1.5n
     public static final int DEFAULT_CAPACITY = 10;
     private T[] array;
-    private int rear;
+    private int front;// physical slot of the first element
+    private int size;
     private int changeCount;
 
     /**
@@ -35,41 +44,172 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
      */
     @SuppressWarnings("unchecked")
     public IUArrayList(int initialCapacity){
+        if(initialCapacity < 0){
+            throw new IllegalArgumentException();
+        }
         array = (T[])(new Object[initialCapacity]);//Will always have to cast Object into a generic array
-        rear = 0;
+        front = 0;
+        size = 0;
+        changeCount = 0;
+    }
+
+    /**
+     * Constructs an {@code IUArrayList} that takes over an already filled array, without
+     * copying it. Used by {@code ListSerializer} to load a list straight into an array of
+     * the right size, by {@code CopyOnWriteIUArrayList} for its working copies, and by
+     * {@code PersistentIndexedList} to hand out a mutable copy of a version.
+     * The caller must not touch the array afterward.
+     *
+     * @param elements array holding the elements from slot 0
+     * @param size     number of elements in use
+     */
+    IUArrayList(T[] elements, int size){
+        array = elements;
+        front = 0;
+        this.size = size;
         changeCount = 0;
     }
 
     /**
      * Doubles the size of the internal array when the current capacity is reached.
      * Ensures that additional space is available to accommodate more elements.
+     * The wrapped contents are unrolled so that the first element lands in slot 0.
      */
     private void expandIfNecessary(){
-        if(array.length == rear){// If array length equals rear there is no more room in array.
-            array = Arrays.copyOf(array, array.length * 2);// Use the array class to copy and overwrite the list while doubling the size.
+        if(array.length == size){// If array length equals size there is no more room in array.
+            @SuppressWarnings("unchecked")
+            T[] newArray = (T[])(new Object[Math.max(DEFAULT_CAPACITY, array.length * 2)]);
+            copyOut(0, newArray, 0, size);
+            array = newArray;
+            front = 0;
+        }
+    }
+
+    /**
+     * Copies a run of elements, by logical index, into a plain array with at most two
+     * arraycopy calls: one up to the physical end of the backing array and one for the
+     * part that wrapped around to the start.
+     *
+     * @param from     logical index of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  position in dest for the first element
+     * @param length   number of elements to copy
+     */
+    private void copyOut(int from, Object[] dest, int destPos, int length){
+        int start = physical(from);
+        int firstRun = Math.min(length, array.length - start);// elements before the physical end
+        System.arraycopy(array, start, dest, destPos, firstRun);
+        System.arraycopy(array, 0, dest, destPos + firstRun, length - firstRun);// elements that wrapped around
+    }
+
+    /**
+     * Maps a logical list index onto its slot in the circular backing array.
+     *
+     * @param index logical index, 0 being the first element
+     * @return physical slot in {@code array}
+     */
+    private int physical(int index){
+        int slot = front + index;
+        if(slot >= array.length){// wrapped past the end of the array
+            slot -= array.length;
         }
+        return slot;
+    }
+
+    /**
+     * Moves the elements at logical indexes from to from + length - 1 down by distance
+     * each, overwriting what was there. Works front to back in runs that do not cross
+     * the physical end of the array on either side, so each run is one arraycopy and
+     * at most three are needed. Only the elements being moved are touched, never the
+     * rest of the capacity.
+     *
+     * @param from     logical index of the first element to move, at least distance
+     * @param length   number of elements to move
+     * @param distance number of indexes to move them down by
+     */
+    private void shiftDown(int from, int length, int distance){
+        while(length > 0){
+            int src = physical(from);
+            int dst = physical(from - distance);
+            int run = Math.min(length, array.length - Math.max(src, dst));
+            System.arraycopy(array, src, array, dst, run);
+            from += run;
+            length -= run;
+        }
+    }
+
+    /**
+     * Moves the elements at logical indexes from to from + length - 1 up one index
+     * each, overwriting the element at from + length. Works back to front in runs
+     * that do not cross the physical start of the array on either side. The slot
+     * at from + length must be within capacity.
+     *
+     * @param from   logical index of the first element to move
+     * @param length number of elements to move
+     */
+    private void shiftUp(int from, int length){
+        while(length > 0){
+            int srcEnd = physical(from + length - 1) + 1;// one past the last slot of this run
+            int dstEnd = physical(from + length) + 1;
+            int run = Math.min(length, Math.min(srcEnd, dstEnd));
+            System.arraycopy(array, srcEnd - run, array, dstEnd - run, run);
+            length -= run;
+        }
+    }
+
+    /**
+     * Inserts the element at the given logical index, shifting whichever side of the
+     * list is shorter. Inserting at 0 or size() shifts nothing.
+     * Index must already be validated.
+     *
+     * @param index   logical index for the new element
+     * @param element element to insert
+     */
+    private void insertAt(int index, T element){
+        expandIfNecessary();
+        if(index < size / 2){// closer to the front, so slide the front half one slot left
+            front = (front == 0) ? array.length - 1 : front - 1;
+            shiftDown(1, index, 1);
+        }else{// closer to the rear, so slide the rear half one slot right
+            shiftUp(index, size - index);
+        }
+        array[physical(index)] = element;
+        size++;
+        changeCount++;
+    }
+
+    /**
+     * Removes and returns the element at the given logical index, closing the gap from
+     * whichever side of the list is shorter and clearing the vacated slot.
+     * Index must already be validated.
+     *
+     * @param index logical index of the element to remove
+     * @return the removed element
+     */
+    private T removeAt(int index){
+        T returnValue = array[physical(index)];
+        if(index < size / 2){// closer to the front, so slide the front half one slot right
+            shiftUp(0, index);
+            array[front] = null;// clear the vacated slot so it can be garbage collected
+            front = (front == array.length - 1) ? 0 : front + 1;
+        }else{// closer to the rear, so slide the rear half one slot left
+            shiftDown(index + 1, size - index - 1, 1);
+            array[physical(size - 1)] = null;// clear the stale copy of the old last element
+        }
+        size--;
+        changeCount++;
+        return returnValue;
     }
 
     //Start with informational utility methods
     @Override
     public void addToFront(T element) {
-        expandIfNecessary();//Checks to see if list needs to be increased and increase if necessary.
-        // Use a for loop since we have a range value known
-        // This introduces an O(n) growth factor, where n is the elements in the list.
-        for (int i = rear; i > 0; i--) {//Shifts everything in the list to the right by one index position in order to make room
-            array[i] = array[i - 1];// index - 1 is the left value to the current index position
-        }
-        array[0] = element;// Assign element to the front
-        rear++;// Rear needs to be updated after adding element
-        changeCount++;
+        insertAt(0, element);// Steps front back one slot instead of shifting the whole list, O(1) amortized
     }
 
     @Override
     public void addToRear(T element) {
-        expandIfNecessary();
-        array[rear] = element;// rear would be the end of array prior to expanding
-        rear++;// Increment rear
-        changeCount++;
+        insertAt(size, element);// Nothing to shift, element goes into the slot after the last one
     }
 
     @Override
@@ -80,32 +220,77 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
     @Override
     public void addAfter(T element, T target) {
         int targetIndex = indexOf(target);
-        if (targetIndex < 0 || targetIndex >= rear) {// Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {// Necessary to check since indexOf does not throw an exception.
             throw new NoSuchElementException();
         }
-        expandIfNecessary();
-        for (int i = rear; i > targetIndex; i--) {// Shift everything after the target value to the right(towards the rear) by one to free up space
-            array[i] = array[i - 1];
-        }
-        rear++;
-        array[targetIndex + 1] = element;//After loop the index after target element is empty
-        changeCount++;
+        insertAt(targetIndex + 1, element);
     }
 
 
     @Override
     public void add(int index, T element) {
-        if (index < 0 || index > rear) {
+        if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException();
         }
-        expandIfNecessary();
-        // Like addAfter() loop starts at rear to move elements to the right of given index
-        for (int i = rear; i > index; i--) {
-            array[i] = array[i - 1];
+        insertAt(index, element);
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        addAll(size, elements);
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
         }
-        array[index] = element;// After loop index is left empty to place element into.
-        rear++;
-        changeCount++;
+        Object[] batch = toBatch(elements);
+        int count = batch.length;
+        if (count == 0) {
+            return;
+        }
+        if (front + size + count <= array.length) {// room after the unwrapped contents, shift the tail once in place
+            System.arraycopy(array, front + index, array, front + index + count, size - index);
+            System.arraycopy(batch, 0, array, front + index, count);
+        } else {// rebuild once as [front part][batch][tail part], growing at most once
+            int capacity = array.length;
+            if (size + count > capacity) {
+                capacity = Math.max(Math.max(DEFAULT_CAPACITY, capacity * 2), size + count);
+            }
+            @SuppressWarnings("unchecked")
+            T[] newArray = (T[])(new Object[capacity]);
+            copyOut(0, newArray, 0, index);
+            System.arraycopy(batch, 0, newArray, index, count);
+            copyOut(index, newArray, index + count, size - index);
+            array = newArray;
+            front = 0;
+        }
+        size += count;
+        changeCount++;// one modification for the whole batch
+    }
+
+    /**
+     * Copies the given elements into an array, so the batch size is known up front and a
+     * list can add its own elements.
+     *
+     * @param elements source of the batch
+     * @return the elements in iteration order
+     */
+    private Object[] toBatch(Iterable<? extends T> elements){
+        Object[] batch;
+        if (elements instanceof IUArrayList) {
+            IUArrayList<?> other = (IUArrayList<?>)elements;
+            batch = new Object[other.size];
+            other.copyOut(0, batch, 0, other.size);
+        } else {
+            ArrayList<T> collected = new ArrayList<T>();
+            for (T element : elements) {
+                collected.add(element);
+            }
+            batch = collected.toArray();
+        }
+        return batch;
     }
 
     @Override
@@ -113,13 +298,7 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
         if(isEmpty()){
             throw new NoSuchElementException();
         }
-        T returnValue = array[0];//Store return value before removing in order to return the value
-        for (int i = 0; i < array.length -1; i++) {// Shifts elements to the left to overwrite first element
-            array[i] = array[i + 1];
-        }
-        rear--;// reduce size since element was removed
-        changeCount++;
-        return returnValue;
+        return removeAt(0);// Clears the old front slot and advances front, no shifting
     }
 
     @Override
@@ -127,11 +306,7 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
         if(isEmpty()){
             throw new NoSuchElementException();
         }
-        T returnValue = array[rear - 1];// rear is length of array so last index is 1 less than rear
-        array[rear - 1] = null;//remove last element
-        rear--;
-        changeCount++;
-        return returnValue;
+        return removeAt(size - 1);
     }
 
     @Override
@@ -140,74 +315,110 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
         if(index < 0){// Check to make sure element is found
             throw new NoSuchElementException();
         }
-        T returnValue = array[index];
-
-        //Cannot start at the back, since it will overwrite values
-        //Start at the index of the element to be removed
-        //last index would now be rear - 2
-        // From: [a, b, c, rear] rear is 3 (3 - 2 = 1)
-        // after removing b: [a, c, rear] last index is 1
-        for (int i = index; i < rear - 1; i++) {// Loop goes up to but not including rear - 1 because that will be new rear
-            array[i] = array[i + 1];
-            
-        }
-        rear--;//Decrement rear since list is reduced by 1 element (can decrement rear above loop to avoid "rear-1")
-    
-        //Last element is now duplicated creating a memory leak
-        //After removing b: [a, c, c] rear is now the index of duplicate last element
-        array[rear] = null;// Set to null to remove duplicate
-        changeCount++;
-        return returnValue;
+        return removeAt(index);
     }
 
     @Override
     public T remove(int index) {
-        if (index < 0 || index >= rear) {
+        if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
-        T returnValue = array[index];
-        array[index] = null;// Remove the value by overwriting to null
-        rear--;
+        return removeAt(index);
+    }
 
-        // If [a, b, c, rear] is the scenario and we remove
-        // at index 1, or b, it becomes [a, null, c/rear]
-        // index + 1 is 2, or c, setting array[index(1)] = array[index + 1] loop overwrites index 1, where b used to be
-        // then goes up to but not including rear and ends the loop
-        for (int i = index; i < rear; i++) {
-            array[i] = array[i + 1];
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
         }
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        // Close the gap by copying the remaining tail down in bulk, then clear the vacated slots
+        shiftDown(toIndex, size - toIndex, count);
+        for (int i = size - count; i < size; i++) {
+            array[physical(i)] = null;
+        }
+        size -= count;
+        changeCount++;
+    }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void clear() {
+        array = (T[])(new Object[DEFAULT_CAPACITY]);// drop the old array whole rather than nulling every slot
+        front = 0;
+        size = 0;
         changeCount++;
-        return returnValue;
+    }
+
+    /**
+     * Removes every match in O(n) with one changeCount bump, where calling remove(T) per
+     * match would scan and shift every time. The predicate is first run over the whole
+     * list, marking matches in a bit set, so a predicate that throws leaves the list
+     * unchanged. Then one two-pointer pass packs the survivors toward the front and the
+     * vacated tail slots are cleared.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedChangeCount = changeCount;
+        BitSet matches = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (filter.test(array[physical(i)])) {
+                matches.set(i);
+            }
+        }
+        if (expectedChangeCount != changeCount) {// the predicate changed the list
+            throw new ConcurrentModificationException();
+        }
+        if (matches.isEmpty()) {
+            return false;
+        }
+        int kept = 0;// survivors so far, and the index the next one moves to
+        for (int i = 0; i < size; i++) {
+            if (!matches.get(i)) {
+                array[physical(kept++)] = array[physical(i)];
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            array[physical(i)] = null;
+        }
+        size = kept;
+        changeCount++;
+        return true;
     }
 
     @Override
     public void set(int index, T element) {
         // Check if index is valid first
-        if (index < 0 || index >= rear) {
+        if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
-        array[index] = element;//If index is valid element overrides initial element so no need to shift.
+        array[physical(index)] = element;//If index is valid element overrides initial element so no need to shift.
         changeCount++;
     }
 
     @Override
     public T get(int index) {
-        if (index < 0 || index >= rear) {
+        if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
-        return array[index];
+        return array[physical(index)];
     }
 
     @Override
     public int indexOf(T element) {
         int returnIndex = -1;
         int currentIndex = 0;
-        while(returnIndex < 0 && currentIndex < rear){// or size()
-            if(array[currentIndex].equals(element)){
+        while(returnIndex < 0 && currentIndex < size){
+            if(array[physical(currentIndex)].equals(element)){
                 returnIndex = currentIndex;//returnIndex will be greater or equal to 0 breaking out of while loop
             } else{
-                currentIndex++;//Incrementing current index from 0 to rear will scan the entire array
+                currentIndex++;//Incrementing current index from 0 to size will scan the entire list
             }
         }
         return returnIndex;
@@ -218,7 +429,7 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
         if(isEmpty()){//Must check if list is empty
             throw new NoSuchElementException();
         }
-        return array[0];
+        return array[front];
     }
 
     @Override
@@ -226,7 +437,7 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
         if(isEmpty()){
             throw new NoSuchElementException();
         }
-        return array[rear - 1];//location of last element in array
+        return array[physical(size - 1)];//location of last element in array
     }
 
     @Override
@@ -236,12 +447,23 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
 
     @Override
     public boolean isEmpty() {
-        return rear == 0;
+        return size == 0;
     }
 
     @Override
     public int size() {
-        return rear;// rear is record of array size
+        return size;
+    }
+
+    /**
+     * Returns the elements in order in a new array of exactly size() slots.
+     *
+     * @return array holding the list's elements
+     */
+    Object[] toArray() {
+        Object[] result = new Object[size];
+        copyOut(0, result, 0, size);
+        return result;
     }
 
     @Override
@@ -251,10 +473,10 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
         // Every toString should look similar to this.
         StringBuilder str = new StringBuilder();
         str.append("[");
-        for (T element : this){
+        forEach(element -> {
             str.append(element.toString());
             str.append(", ");
-        }
+        });
         if(size() > 0){
             str.delete(str.length() - 2, str.length()); // remove trailing ", "
         }
@@ -269,22 +491,48 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
 
     @Override
     public ListIterator<T> listIterator() {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'listIterator'");
+        return new ALIterator();
     }
 
     @Override
     public ListIterator<T> listIterator(int startingIndex) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'listIterator'");
+        return new ALIterator(startingIndex);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ALSpliterator(0, -1, 0);
     }
+
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        int expectedChangeCount = changeCount;
+        int count = size;
+        T[] elements = array;// local copies, the action could replace them
+        int start = front;
+        for(int i = 0; i < count; i++){
+            int slot = start + i;
+            if(slot >= elements.length){
+                slot -= elements.length;
+            }
+            action.accept(i, elements[slot]);
+        }
+        if(expectedChangeCount != changeCount){//checked once at the end, like forEach
+            throw new ConcurrentModificationException();
+        }
+    }
+
     /**
-     * An iterator implementation for the {@code IUArrayList}.
-     * Supports list navigation and element removal during iteration.
+     * A list iterator implementation for the {@code IUArrayList}.
+     * Works by logical index, so next, previous, set and remove are O(1) and add or
+     * remove in the middle costs the same shift as add(int) or remove(int).
      */
-    private class ALIterator implements Iterator<T>{
+    private class ALIterator implements ListIterator<T>{
         private int nextIndex;
-        private boolean canRemove;
+        private int lastReturnedIndex;// index returned by the last next or previous, -1 if none
         private int expectedChangeCount;
 
         /**
@@ -293,29 +541,75 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
          * the expected change count for fail-fast behavior.
          */
         public ALIterator(){
-            nextIndex = 0;
-            canRemove = false;
+            this(0);
+        }
+
+        /**
+         * Constructs a new iterator for the {@code IUArrayList} positioned before the
+         * element at the given index.
+         *
+         * @param startingIndex index of the element the first call to next returns
+         * @throws IndexOutOfBoundsException if index is below zero or greater than size of list.
+         */
+        public ALIterator(int startingIndex){
+            if(startingIndex < 0 || startingIndex > size){
+                throw new IndexOutOfBoundsException();
+            }
+            nextIndex = startingIndex;
+            lastReturnedIndex = -1;
             expectedChangeCount = changeCount;
         }
+
         @Override
         public boolean hasNext() {
             if(expectedChangeCount != changeCount){//check if something changed
                 throw new ConcurrentModificationException();
             }
-            return nextIndex < rear;
+            return nextIndex < size;
         }
 
         @Override
         public T next() {
-            if(expectedChangeCount != changeCount){//check if something changed
-                throw new ConcurrentModificationException();
-            }
             if(!hasNext()){
                 throw new NoSuchElementException();
             }
-            canRemove = true;
+            lastReturnedIndex = nextIndex;
             nextIndex++;
-            return array[nextIndex-1];
+            return array[physical(lastReturnedIndex)];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            if(expectedChangeCount != changeCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if(!hasPrevious()){
+                throw new NoSuchElementException();
+            }
+            nextIndex--;
+            lastReturnedIndex = nextIndex;
+            return array[physical(lastReturnedIndex)];
+        }
+
+        @Override
+        public int nextIndex() {
+            if(expectedChangeCount != changeCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            if(expectedChangeCount != changeCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
         }
 
         @Override
@@ -323,20 +617,136 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {//Average memory
             if(expectedChangeCount != changeCount){//check if something changed
                 throw new ConcurrentModificationException();
             }
-            if(!canRemove){
+            if(lastReturnedIndex < 0){
+                throw new IllegalStateException();
+            }
+            removeAt(lastReturnedIndex);//shifts the shorter side to close gap and bumps changeCount
+            if(lastReturnedIndex < nextIndex){//last move was next, so one fewer element to the left
+                nextIndex--;
+            }
+            lastReturnedIndex = -1;
+            expectedChangeCount++;
+        }
+
+        @Override
+        public void set(T e) {
+            if(expectedChangeCount != changeCount){
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturnedIndex < 0){
                 throw new IllegalStateException();
             }
-            canRemove = false;
-            for (int i = nextIndex - 1; i < rear - 1; i++) {//shift to close gap
-                array[i] = array[i+1];
+            array[physical(lastReturnedIndex)] = e;
+            changeCount++;// same as set(int, T)
+            expectedChangeCount++;
+        }
+
+        @Override
+        public void add(T e) {
+            if(expectedChangeCount != changeCount){
+                throw new ConcurrentModificationException();
             }
-            array[rear - 1] = null;//clear dup of last reference
-            rear--;// rear is decreased by 1 as 1 element was removed
-            nextIndex--;//Stay in front of the next element
+            insertAt(nextIndex, e);//bumps changeCount
+            nextIndex++;//new element sits to the left of the cursor
+            lastReturnedIndex = -1;//remove and set are illegal until the next call to next or previous
             expectedChangeCount++;
-            changeCount++;
         }
+    }
 
+    /**
+     * A Spliterator implementation for the {@code IUArrayList}.
+     * Covers a range of logical indexes and splits it in half, so every split
+     * is exactly sized and parallel streams divide the work evenly.
+     */
+    private class ALSpliterator implements Spliterator<T>{
+        private int index;// next logical index to visit
+        private int fence;// one past the last index to visit, -1 until first use
+        private int expectedChangeCount;
+
+        /**
+         * Constructs a spliterator over the logical indexes origin to fence.
+         *
+         * @param origin              first index to visit
+         * @param fence               one past the last index to visit, or -1 to bind to the list size on first use
+         * @param expectedChangeCount change count the range was taken from
+         */
+        public ALSpliterator(int origin, int fence, int expectedChangeCount){
+            this.index = origin;
+            this.fence = fence;
+            this.expectedChangeCount = expectedChangeCount;
+        }
+
+        /**
+         * Binds the range to the list on first use, so changes made between creating
+         * a stream and running it are still seen.
+         */
+        private int getFence(){
+            if(fence < 0){
+                fence = size;
+                expectedChangeCount = changeCount;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if(lo >= mid){// too small to split
+                return null;
+            }
+            index = mid;
+            return new ALSpliterator(lo, mid, expectedChangeCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(action == null){
+                throw new NullPointerException();
+            }
+            int hi = getFence();
+            if(index >= hi){
+                return false;
+            }
+            T element = array[physical(index++)];
+            action.accept(element);
+            if(expectedChangeCount != changeCount){//check if something changed
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if(action == null){
+                throw new NullPointerException();
+            }
+            int hi = getFence();
+            T[] elements = array;// local copies, the action could replace them
+            int start = front;
+            for(int i = index; i < hi; i++){
+                int slot = start + i;
+                if(slot >= elements.length){
+                    slot -= elements.length;
+                }
+                action.accept(elements[slot]);
+            }
+            index = hi;
+            if(expectedChangeCount != changeCount){//checked once at the end, like java.util.ArrayList
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }//End of IUArrayList
     
 }
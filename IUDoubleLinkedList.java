@@ -1,26 +1,254 @@
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.ConcurrentModificationException;
+import java.util.function.Predicate;
 /**
  * Double-linked node implementation of {@code IndexedUnsortedList}.
  * Uses a node-based structure where each node maintains a reference to
  * its leading node as well as following node.
+ * Optionally keeps a hash index from each element to the nodes holding it, which makes
+ * contains O(1) expected and lets indexOf, addAfter and remove(T) go straight to the
+ * node instead of scanning with equals(). Elements must not change their hashCode
+ * while they are in a hash-indexed list.
  * @param <T>
  */
-public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory usage is always 3n
+public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T>, NodeTraversalCounter {//Memory usage is always 3n
     private Node<T> head, tail;// Technically only needs to keep track of head but keeping track of tail makes addToRear simple.
 	private int size;// Makes size() simple.
 	private int modCount;
+    private Node<T> fingerNode;// last node resolved by index, lets sequential indexed access start nearby
+    private int fingerIndex;
+    private int fingerModCount;// finger is only trusted while this still matches modCount
+    private HashMap<T, Object> nodeIndex;// element -> its node, or Occurrences when several hold it; null when not hash indexed
+    private long nodesTraversed;// links followed by lookups, see NodeTraversalCounter
 
     /**
      * Constructs a new empty {@code IUDoubleLinkedList}.
      * Initializes the head and tail to null, sets the initial size and modification count to zero.
      */
     public IUDoubleLinkedList(){
+        this(false);
+    }
+
+    /**
+     * Constructs a new empty {@code IUDoubleLinkedList}, optionally with a hash index
+     * over its elements. The index costs a map entry per distinct element, and a set
+     * entry per node for elements held more than once, in exchange for O(1) expected
+     * contains and direct node lookup in indexOf, addAfter and remove(T).
+     *
+     * @param hashIndexed true to maintain the element index
+     */
+    public IUDoubleLinkedList(boolean hashIndexed){
         head = tail= null;
         size = 0;
         modCount = 0;
+        nodeIndex = hashIndexed ? new HashMap<T, Object>() : null;
+    }
+
+    /**
+     * The nodes holding one element, for the hash index, once there is more than one.
+     * Node does not override equals or hashCode, so the set matches nodes by identity.
+     * The set keeps the order nodes were indexed in, which is list order for as long
+     * as each new node was linked in as the tail.
+     */
+    private static class Occurrences<T> {
+        private LinkedHashSet<Node<T>> nodes = new LinkedHashSet<Node<T>>();
+        private boolean inListOrder = true;
+    }
+
+    /**
+     * Records a node that was just linked into the list in the hash index.
+     *
+     * @param node node now in the list
+     */
+    @SuppressWarnings("unchecked")
+    private void indexNode(Node<T> node){
+        if(nodeIndex != null){
+            Object entry = nodeIndex.putIfAbsent(node.getElement(), node);
+            if(entry == null){// first occurrence
+                return;
+            }
+            Occurrences<T> occurrences;
+            if(entry instanceof Occurrences){
+                occurrences = (Occurrences<T>)entry;
+            }else{
+                occurrences = new Occurrences<T>();
+                occurrences.nodes.add((Node<T>)entry);
+                nodeIndex.put(node.getElement(), occurrences);
+            }
+            occurrences.inListOrder &= (node == tail);// the tail follows every other occurrence
+            occurrences.nodes.add(node);
+        }
+    }
+
+    /**
+     * Drops a node that is leaving the list, or about to change element, from the hash index.
+     *
+     * @param node node being removed or overwritten
+     */
+    @SuppressWarnings("unchecked")
+    private void unindexNode(Node<T> node){
+        if(nodeIndex != null){
+            Object entry = nodeIndex.get(node.getElement());
+            if(entry instanceof Occurrences){
+                Occurrences<T> occurrences = (Occurrences<T>)entry;
+                occurrences.nodes.remove(node);// removing keeps the others in order
+                if(occurrences.nodes.size() == 1){
+                    nodeIndex.put(node.getElement(), occurrences.nodes.iterator().next());
+                }
+            }else{
+                nodeIndex.remove(node.getElement());
+            }
+        }
+    }
+
+    /**
+     * Returns the first node in list order holding the given element. With the hash index
+     * this is a lookup: a missing element, a single occurrence, or duplicates still in
+     * list order are answered without scanning. Duplicates that were inserted anywhere
+     * but the tail are put back in list order first, by one walk from head that stops
+     * at the last of them.
+     *
+     * @param element element to find
+     * @return the first node holding element, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T> firstNodeOf(T element){
+        if(nodeIndex != null){
+            Object entry = nodeIndex.get(element);
+            if(!(entry instanceof Occurrences)){
+                return (Node<T>)entry;
+            }
+            Occurrences<T> occurrences = (Occurrences<T>)entry;
+            if(!occurrences.inListOrder){
+                sortOccurrences(occurrences);
+            }
+            return occurrences.nodes.iterator().next();
+        }
+        Node<T> targetNode = head;
+        int steps = 0;
+        while(targetNode != null && !targetNode.getElement().equals(element)){
+            targetNode = targetNode.getNextNode();
+            steps++;
+        }
+        nodesTraversed += steps;
+        return targetNode;
+    }
+
+    /**
+     * Rebuilds an element's occurrences in list order by walking from head until every
+     * one of them has been passed.
+     *
+     * @param occurrences nodes holding one element, in any order
+     */
+    private void sortOccurrences(Occurrences<T> occurrences){
+        LinkedHashSet<Node<T>> sorted = new LinkedHashSet<Node<T>>();
+        Node<T> currentNode = head;
+        int steps = 0;
+        while(sorted.size() < occurrences.nodes.size()){
+            if(occurrences.nodes.contains(currentNode)){
+                sorted.add(currentNode);
+            }
+            currentNode = currentNode.getNextNode();
+            steps++;
+        }
+        nodesTraversed += steps;
+        occurrences.nodes = sorted;
+        occurrences.inListOrder = true;
+    }
+
+    /**
+     * Unlinks a node from the list, patching its neighbors, or head and tail, around it.
+     *
+     * @param node node currently in the list
+     */
+    private void unlink(Node<T> node){
+        detach(node);
+        modCount++;
+    }
+
+    /**
+     * Does the work of unlink without counting a modification, so a bulk removal can
+     * count itself once.
+     *
+     * @param node node currently in the list
+     */
+    private void detach(Node<T> node){
+        if(node != head){//"!= head" because node.getPreviousNode will be null and throw an exception
+            //node = B != head
+            //[A<-- B <-->> C]
+            node.getPreviousNode().setNextNode(node.getNextNode());//connecting A to C
+        }else{
+            //Setting head to h.getNextNode removes current head
+            head = head.getNextNode();
+        }
+        if(node != tail){//"!= tail" because .getNextNode will be null and throw an exception
+            //[A<-- B -->C]
+            //[A<-->C] B has been disconnected therefore removed
+            node.getNextNode().setPreviousNode(node.getPreviousNode());//connecting C to A
+        }else{
+            //removes tail
+            tail = tail.getPreviousNode();
+        }
+        unindexNode(node);
+        size--;
+    }
+
+    /**
+     * Returns the node at the given index, walking from whichever of head, tail or the
+     * cached finger is closer. The resolved node becomes the new finger, so a loop over
+     * get(i) only steps one node per call.
+     * Index must already be validated.
+     *
+     * @param index index of the node to find
+     * @return the node at that index
+     */
+    private Node<T> nodeAt(int index){
+        Node<T> currentNode;
+        int currentIndex;
+        if(index < size / 2){// front half, walk forward from head
+            currentNode = head;
+            currentIndex = 0;
+        }else{// back half, walk backward from tail
+            currentNode = tail;
+            currentIndex = size - 1;
+        }
+        if(fingerModCount != modCount){// list changed since the finger was recorded
+            fingerNode = null;
+        }
+        if(fingerNode != null && Math.abs(index - fingerIndex) < Math.abs(index - currentIndex)){
+            currentNode = fingerNode;
+            currentIndex = fingerIndex;
+        }
+        nodesTraversed += Math.abs(index - currentIndex);
+        while(currentIndex < index){
+            currentNode = currentNode.getNextNode();
+            currentIndex++;
+        }
+        while(currentIndex > index){
+            currentNode = currentNode.getPreviousNode();
+            currentIndex--;
+        }
+        moveFinger(currentNode, index);
+        return currentNode;
+    }
+
+    /**
+     * Records the node at the given index as the finger for the next indexed lookup.
+     * Call after any modCount change the finger should survive.
+     *
+     * @param node  node now known to be at index
+     * @param index index of node
+     */
+    private void moveFinger(Node<T> node, int index){
+        fingerNode = node;
+        fingerIndex = index;
+        fingerModCount = modCount;
     }
 
     @Override
@@ -33,6 +261,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             head.setPreviousNode(newNode);
         }
         head = newNode;
+        indexNode(newNode);
         size++;
         modCount++;
     }
@@ -49,6 +278,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             newNode.setPreviousNode(targetNode);
             tail = newNode;
         }
+        indexNode(newNode);
         size++;
         modCount++;
     }
@@ -60,10 +290,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
 
     @Override
     public void addAfter(T element, T target) {
-        Node<T> targetNode = head;
-        while(targetNode != null && !targetNode.getElement().equals(target)){
-            targetNode = targetNode.getNextNode();
-        }
+        Node<T> targetNode = firstNodeOf(target);
         if(targetNode == null){
             throw new NoSuchElementException();
         }
@@ -77,6 +304,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
         else{// adding new tail
             tail = newNode;
         }
+        indexNode(newNode);
         modCount++;
         size++;
     }
@@ -103,13 +331,10 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             tail.setNextNode(newNode);
             tail = newNode;
         }else{
-            Node<T> targetNode = head;
             // Index in middle of list requires loop to find index
             // (index - 1) index = 5  after loop targetNode becomes node just in front of index 5
             // [A, B, C, D, (E), F]
-            for (int i = 0; i < index - 1; i++) {
-                targetNode = targetNode.getNextNode();
-            }
+            Node<T> targetNode = nodeAt(index - 1);
             // [A<-->B<-->C<-->D<-->(E)<-->F] targetNode.getNextNode selects F and newNode.setNextNode sets newNode's next node to F
             // [A<-->B<-->C<-->D<-->(E)<-- G -->>F] 
             // E and G's nextNode = F
@@ -133,9 +358,56 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             
              
         }
+        indexNode(newNode);
         size++;
         modCount++;
-	
+        moveFinger(newNode, index);// nodes after index shifted, so re-anchor the finger on the new node
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        // Build the whole chain first, then splice it in with four link changes
+        Node<T> chainHead = null, chainTail = null;
+        int count = 0;
+        for(T element : elements){
+            Node<T> newNode = new Node<T>(element);
+            if(chainHead == null){
+                chainHead = newNode;
+            }else{
+                chainTail.setNextNode(newNode);
+                newNode.setPreviousNode(chainTail);
+            }
+            chainTail = newNode;
+            count++;
+        }
+        if(count == 0){
+            return;
+        }
+        Node<T> afterNode = (index == size) ? null : nodeAt(index);
+        Node<T> beforeNode = (afterNode == null) ? tail : afterNode.getPreviousNode();
+        if(index == 0){// beforeNode may be a stale link, head has no previous
+            beforeNode = null;
+        }
+        chainHead.setPreviousNode(beforeNode);
+        chainTail.setNextNode(afterNode);
+        if(beforeNode == null){
+            head = chainHead;
+        }else{
+            beforeNode.setNextNode(chainHead);
+        }
+        if(afterNode == null){
+            tail = chainTail;
+        }else{
+            afterNode.setPreviousNode(chainTail);
+        }
+        for(Node<T> node = chainHead; node != afterNode; node = node.getNextNode()){
+            indexNode(node);
+        }
+        size += count;
+        modCount++;// one modification for the whole batch
     }
 
     @Override
@@ -144,9 +416,12 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             throw new NoSuchElementException();
         }
         T returnVal = head.getElement();
+        unindexNode(head);
         head = head.getNextNode();
         if(head == null){//head was the only node so there are no nodes now
             tail = null;
+        }else{
+            head.setPreviousNode(null);//drop the link back to the removed node so backward walks stop at head
         }
         size--;
         modCount++;
@@ -159,6 +434,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             throw new NoSuchElementException();
         }
         T retVal = tail.getElement();
+        unindexNode(tail);
         if(size == 1){//Removing only element
             head = tail = null;
         }else{
@@ -173,23 +449,12 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
 
     @Override
     public T remove(T element) {
-        if(isEmpty()){
-            throw new NoSuchElementException();
-        }
-        ListIterator<T> lit = listIterator();
-        T retVal = null;
-        boolean found = false;
-        while(lit.hasNext() && !found){
-            retVal = lit.next();
-            if(retVal.equals(element)){
-                found = true;
-            }
-        }
-        if(!found){
+        Node<T> targetNode = firstNodeOf(element);
+        if(targetNode == null){
             throw new NoSuchElementException();
         }
-        lit.remove();
-        return retVal;
+        unlink(targetNode);
+        return targetNode.getElement();
     }
 
     @Override
@@ -197,27 +462,98 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
         if(index >= size || index < 0){
             throw new IndexOutOfBoundsException();
         }
-        ListIterator<T> lit = listIterator(index);
+        DLLIterator lit = new DLLIterator(index);
         T retVal = lit.next();
         lit.remove();
+        if(lit.nextNode != null){// node that slid into index is a safe finger for the next call
+            moveFinger(lit.nextNode, index);
+        }
         return retVal;
     }
 
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex){
+            throw new IndexOutOfBoundsException();
+        }
+        if(fromIndex == toIndex){
+            return;
+        }
+        Node<T> firstNode = nodeAt(fromIndex);
+        Node<T> beforeNode = (fromIndex == 0) ? null : firstNode.getPreviousNode();
+        Node<T> afterNode = firstNode;
+        for(int i = fromIndex; i < toIndex; i++){// step past the removed run
+            unindexNode(afterNode);
+            afterNode = afterNode.getNextNode();
+        }
+        nodesTraversed += toIndex - fromIndex;
+        if(beforeNode == null){
+            head = afterNode;
+        }else{
+            beforeNode.setNextNode(afterNode);
+        }
+        if(afterNode == null){
+            tail = beforeNode;
+        }else{
+            afterNode.setPreviousNode(beforeNode);
+        }
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = null;// unreachable nodes are left for the garbage collector
+        fingerNode = null;
+        if(nodeIndex != null){
+            nodeIndex = new HashMap<T, Object>();// a fresh map instead of HashMap.clear, which walks its table
+        }
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {//test every node first, so a throwing filter changes nothing
+        if(filter == null){
+            throw new NullPointerException();
+        }
+        int expectedModCount = modCount;
+        BitSet matches = new BitSet(size);
+        int i = 0;
+        for(Node<T> node = head; node != null; node = node.getNextNode(), i++){
+            if(filter.test(node.getElement())){
+                matches.set(i);
+            }
+        }
+        if(expectedModCount != modCount){// the filter changed the list
+            throw new ConcurrentModificationException();
+        }
+        if(matches.isEmpty()){
+            return false;
+        }
+        Node<T> currentNode = head;
+        for(i = 0; currentNode != null; i++){//second walk, unlinking each match where it stands
+            Node<T> nextNode = currentNode.getNextNode();
+            if(matches.get(i)){
+                detach(currentNode);
+            }
+            currentNode = nextNode;
+        }
+        modCount++;
+        return true;
+    }
+
     @Override
     public void set(int index, T element) {
         if(index < 0 || index >= size){
 			throw new IndexOutOfBoundsException();
 		}
-		Node<T> currentNode = head;
-        if(index == 0){
-            currentNode.setElement(element);
-        }else{
-            for (int i = 0; i < index; i++) {
-                currentNode = currentNode.getNextNode();
-            }
-            currentNode.setElement(element);
-        }
+		Node<T> targetNode = nodeAt(index);
+		unindexNode(targetNode);
+		targetNode.setElement(element);
+		indexNode(targetNode);
 		modCount++;
+		moveFinger(targetNode, index);// set is not structural so the finger stays valid
     }
 
     @Override
@@ -228,30 +564,38 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
 		if(index < 0 || index >= size){
 			throw new IndexOutOfBoundsException();
 		}
-		T retVal;
-		if(index == 0){
-			retVal = head.getElement();
-		}
-		else{
-			Node<T> currentNode = head;
-			for (int i = 0; i < index; i++) {
-				currentNode = currentNode.getNextNode();
-			}
-			retVal = currentNode.getElement();
-		}
-		return retVal;
+		return nodeAt(index).getElement();
     }
 
     @Override
 	public int indexOf(T element) {
-		Node<T> currentNode = head;
 		int currentIndex = 0;
-		while (currentNode != null && !currentNode.getElement().equals(element)){
-			currentNode = currentNode.getNextNode();
-			currentIndex++;
-		}
-		if(currentNode == null){// or currentIndex == size, didn't find it
-			currentIndex = -1;
+		if(nodeIndex != null){// jump to the node, then count links toward whichever end is closer without calling equals
+			Node<T> backNode = firstNodeOf(element);
+			Node<T> aheadNode = backNode;
+			if(backNode == null){
+				currentIndex = -1;
+			}else{
+				while(backNode != head && aheadNode != tail){
+					backNode = backNode.getPreviousNode();
+					aheadNode = aheadNode.getNextNode();
+					currentIndex++;
+				}
+				nodesTraversed += currentIndex;
+				if(backNode != head){// reached tail first
+					currentIndex = size - 1 - currentIndex;
+				}
+			}
+		}else{
+			Node<T> currentNode = head;
+			while (currentNode != null && !currentNode.getElement().equals(element)){
+				currentNode = currentNode.getNextNode();
+				currentIndex++;
+			}
+			nodesTraversed += currentIndex;
+			if(currentNode == null){// or currentIndex == size, didn't find it
+				currentIndex = -1;
+			}
 		}
 		return currentIndex; // method should only have one return statement. Makes it easier to find exit points in method.
 	}
@@ -272,8 +616,16 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
 		return tail.getElement();
 	}
 
+	@Override
+	public long nodesTraversed() {
+		return nodesTraversed;
+	}
+
 	@Override
 	public boolean contains(T target) {
+		if(nodeIndex != null){
+			return nodeIndex.containsKey(target);
+		}
 		return indexOf(target) > -1;
 	}
 
@@ -294,10 +646,10 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
         // Every toString should look similar to this.
         StringBuilder str = new StringBuilder();
         str.append("[");
-        for (T element : this){
+        forEach(element -> {
             str.append(element.toString());
             str.append(", ");
-        }
+        });
         if(size() > 0){
             str.delete(str.length() - 2, str.length()); // remove trailing ", "
         }
@@ -337,10 +689,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             if(startingIndex < 0 || startingIndex > size){
                 throw new IndexOutOfBoundsException();
             }
-            nextNode = head;//Should start from the best end!! beginning or end?
-            for (int i = 0; i < startingIndex; i++) {
-                nextNode = nextNode.getNextNode();
-            }
+            nextNode = (startingIndex == size) ? null : nodeAt(startingIndex);//Starts from the closer end
             nextIndex = startingIndex;
             iterModCount = modCount;
             lastReturnedNode = null;
@@ -417,30 +766,13 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             if(lastReturnedNode == null){
                 throw new IllegalStateException();
             }
-            if(lastReturnedNode != head){//"!= head" because lRN.getPreviousNode will be null and throw an exception
-                //lastReturnedNode = B != head
-                //[A<-- B <-->> C]
-                lastReturnedNode.getPreviousNode().setNextNode(lastReturnedNode.getNextNode());//connecting A to C
-            }else{
-                //Setting head to h.getNextNode removes current head
-                head = head.getNextNode();
-            }
-            if(lastReturnedNode != tail){//"!= tail" because .getNextNode will be null and throw an exception
-                //[A<-- B -->C]
-                //[A<-->C] B has been disconnected therefore removed
-                lastReturnedNode.getNextNode().setPreviousNode(lastReturnedNode.getPreviousNode());//connecting C to A
-            }else{
-                //removes tail
-                tail = tail.getPreviousNode();
-            }
+            unlink(lastReturnedNode);
             if(lastReturnedNode != nextNode){//this means last move was next
                 nextIndex--;//fewer nodes to the left than there used to be
             }else{//last move was previous
                 nextNode = nextNode.getNextNode();
             }
             lastReturnedNode = null;
-            size--;
-            modCount++;
             iterModCount++;
         }
         @Override
@@ -451,7 +783,9 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
             if(lastReturnedNode == null){
                 throw new IllegalStateException();
             }
+            unindexNode(lastReturnedNode);
             lastReturnedNode.setElement(e);
+            indexNode(lastReturnedNode);
             modCount++;
             iterModCount++;
         }
@@ -461,16 +795,19 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
 				throw new ConcurrentModificationException();
 			}
             Node<T> newNode = new Node<T>(e);
-            if(isEmpty()){
-                head = tail = newNode;
-                size++;
-                modCount++;
-            }
-            else if(nextNode == null){
-                addToRear(e);
+            if(nextNode == null){//adding at the rear, or into an empty list
+                newNode.setPreviousNode(tail);
+                if(tail == null){
+                    head = newNode;
+                }else{
+                    tail.setNextNode(newNode);
+                }
+                tail = newNode;
             }
             else if(nextNode == head){
-                addToFront(e);
+                newNode.setNextNode(head);
+                head.setPreviousNode(newNode);
+                head = newNode;
             }
             else{//[A, B, C, D] C = nextNode E = newNode
                 //Set newNode's previous node to nextNode's previous
@@ -485,12 +822,13 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
                 //Point nextNode's previous to newNode
                 //[A<-->B<-->E<-->C<-->D] C now pointing to E instead of B
                 nextNode.setPreviousNode(newNode);
-                size++;
-                modCount++;
             }
-            lastReturnedNode = newNode;
-            
-            
+            indexNode(newNode);
+            size++;
+            modCount++;
+            iterModCount++;
+            nextIndex++;//new node sits to the left of the cursor
+            lastReturnedNode = null;//remove and set are illegal until the next call to next or previous
         }
     }
 
@@ -509,5 +847,27 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {//Memory u
     public ListIterator<T> listIterator(int startingIndex) {
        return new DLLIterator(startingIndex);
     }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator<T>(() -> head, () -> size, () -> modCount);
+    }
+
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        int expectedModCount = modCount;
+        Node<T> currentNode = head;
+        for(int i = 0, count = size; i < count && currentNode != null; i++){
+            T element = currentNode.getElement();
+            currentNode = currentNode.getNextNode();
+            action.accept(i, element);
+        }
+        if(expectedModCount != modCount){//checked once at the end, like forEach
+            throw new ConcurrentModificationException();
+        }
+    }
     
 }
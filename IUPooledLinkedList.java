@@ -0,0 +1,506 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+/**
+ * Double-linked implementation of {@code IndexedUnsortedList} that keeps its nodes in a
+ * pool of parallel arrays instead of allocating {@code Node} objects.
+ * Node i is slot i: {@code elements[i]} holds its element and {@code next[i]} and
+ * {@code prev[i]} hold the slots of its neighbors, with NIL marking the ends.
+ * Removed slots go onto a free list, chained through {@code next}, and are handed out
+ * again before the arrays grow, so once the pool has reached the list's working size
+ * adding an element allocates nothing.
+ * A node costs one reference and two ints of array space, about 12 bytes with
+ * compressed references, against 24 bytes for a {@code Node} object.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class IUPooledLinkedList<T> implements IndexedUnsortedList<T>, NodeTraversalCounter {
+    public static final int DEFAULT_CAPACITY = 10;
+    private static final int NIL = -1;// "null" link
+    private T[] elements;
+    private int[] next;
+    private int[] prev;
+    private int head, tail;
+    private int free;// first slot of the free list, chained through next
+    private int used;// slots at or past this index have never been handed out
+    private int size;
+    private int modCount;
+    private long nodesTraversed;// links followed by lookups, see NodeTraversalCounter
+
+    /**
+     * Constructs a new, empty {@code IUPooledLinkedList} with the default initial capacity.
+     */
+    public IUPooledLinkedList(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty {@code IUPooledLinkedList} with room for the given number
+     * of nodes before its pool grows.
+     *
+     * @param initialCapacity the initial number of node slots
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    @SuppressWarnings("unchecked")
+    public IUPooledLinkedList(int initialCapacity){
+        if(initialCapacity < 0){
+            throw new IllegalArgumentException();
+        }
+        elements = (T[])(new Object[initialCapacity]);
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+        head = tail = free = NIL;
+        used = 0;
+        size = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Hands out a slot for a new, unlinked node, from the free list if possible and
+     * otherwise from the unused end of the pool, doubling the pool when full.
+     *
+     * @param element element for the new node
+     * @return slot of the new node
+     */
+    private int allocate(T element){
+        int slot;
+        if(free != NIL){
+            slot = free;
+            free = next[slot];
+        }else{
+            if(used == elements.length){
+                int capacity = Math.max(DEFAULT_CAPACITY, elements.length * 2);
+                elements = Arrays.copyOf(elements, capacity);
+                next = Arrays.copyOf(next, capacity);
+                prev = Arrays.copyOf(prev, capacity);
+            }
+            slot = used++;
+        }
+        elements[slot] = element;
+        next[slot] = prev[slot] = NIL;
+        return slot;
+    }
+
+    /**
+     * Returns the slot of the node at the given index, walking from whichever end
+     * is closer. Index must already be validated.
+     *
+     * @param index index of the node to find
+     * @return slot of the node at that index
+     */
+    private int nodeAt(int index){
+        int slot;
+        if(index < size / 2){
+            slot = head;
+            for(int i = 0; i < index; i++){
+                slot = next[slot];
+            }
+            nodesTraversed += index;
+        }else{
+            slot = tail;
+            for(int i = size - 1; i > index; i--){
+                slot = prev[slot];
+            }
+            nodesTraversed += size - 1 - index;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot of the first node holding the given element, or NIL.
+     *
+     * @param element element to look for
+     * @return slot of the first matching node, or NIL if there is none
+     */
+    private int slotOf(T element){
+        int slot = head;
+        int steps = 0;
+        while(slot != NIL && !elements[slot].equals(element)){
+            slot = next[slot];
+            steps++;
+        }
+        nodesTraversed += steps;
+        return slot;
+    }
+
+    /**
+     * Links a new node holding element in front of the node at slot before, or at
+     * the rear when before is NIL.
+     *
+     * @param element element for the new node
+     * @param before  slot of the node that will follow the new one, or NIL
+     */
+    private void linkBefore(T element, int before){
+        int slot = allocate(element);
+        int previous = (before == NIL) ? tail : prev[before];// node that will precede the new one
+        next[slot] = before;
+        prev[slot] = previous;
+        if(previous == NIL){
+            head = slot;
+        }else{
+            next[previous] = slot;
+        }
+        if(before == NIL){
+            tail = slot;
+        }else{
+            prev[before] = slot;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Unlinks the node at the given slot, clears its element and puts the slot on
+     * the free list.
+     *
+     * @param slot slot of the node to remove
+     * @return the removed element
+     */
+    private T unlink(int slot){
+        int before = prev[slot];
+        int after = next[slot];
+        if(before == NIL){
+            head = after;
+        }else{
+            next[before] = after;
+        }
+        if(after == NIL){
+            tail = before;
+        }else{
+            prev[after] = before;
+        }
+        T retVal = elements[slot];
+        elements[slot] = null;// the pool must not keep removed elements alive
+        next[slot] = free;
+        free = slot;
+        size--;
+        modCount++;
+        return retVal;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        linkBefore(element, head);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        linkBefore(element, NIL);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int slot = slotOf(target);
+        if(slot == NIL){
+            throw new NoSuchElementException();
+        }
+        linkBefore(element, next[slot]);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        linkBefore(element, (index == size) ? NIL : nodeAt(index));
+    }
+
+    @Override
+    public T removeFirst() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return unlink(head);
+    }
+
+    @Override
+    public T removeLast() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return unlink(tail);
+    }
+
+    @Override
+    public T remove(T element) {
+        int slot = slotOf(element);
+        if(slot == NIL){
+            throw new NoSuchElementException();
+        }
+        return unlink(slot);
+    }
+
+    @Override
+    public T remove(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(nodeAt(index));
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, used, null);// keeps the pool, drops the element references
+        head = tail = free = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        elements[nodeAt(index)] = element;
+        modCount++;
+    }
+
+    @Override
+    public T get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return elements[nodeAt(index)];
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int index = 0;
+        for(int slot = head; slot != NIL; slot = next[slot]){
+            if(elements[slot].equals(element)){
+                nodesTraversed += index;
+                return index;
+            }
+            index++;
+        }
+        nodesTraversed += index;
+        return -1;
+    }
+
+    @Override
+    public T first() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    @Override
+    public T last() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return elements[tail];
+    }
+
+    @Override
+    public long nodesTraversed() {
+        return nodesTraversed;
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return slotOf(target) != NIL;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder str = new StringBuilder();
+        str.append("[");
+        for(int slot = head; slot != NIL; slot = next[slot]){
+            str.append(elements[slot].toString());
+            str.append(", ");
+        }
+        if(size > 0){
+            str.delete(str.length() - 2, str.length()); // remove trailing ", "
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        forEachIndexed((index, element) -> action.accept(element));
+    }
+
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        int expectedModCount = modCount;
+        T[] pool = elements;// local copies, the action could grow the arrays
+        int[] links = next;
+        int slot = head;
+        for(int i = 0, count = size; i < count && slot != NIL; i++){
+            int following = links[slot];
+            action.accept(i, pool[slot]);
+            slot = following;
+        }
+        if(expectedModCount != modCount){//checked once at the end
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PooledIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new PooledIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new PooledIterator(startingIndex);
+    }
+
+    /**
+     * A ListIterator implementation for the {@code IUPooledLinkedList}, with the same
+     * behavior as the {@code IUDoubleLinkedList} iterator. Nodes are tracked by slot
+     * instead of by reference, with NIL standing in for null.
+     */
+    private class PooledIterator implements ListIterator<T> {
+        private int nextSlot;// NIL when the cursor is past the last element
+        private int lastReturnedSlot;// NIL when remove and set are not allowed
+        private int iterModCount;
+        private int nextIndex;
+
+        /**
+         * Constructs a new iterator positioned before the given index.
+         *
+         * @param startingIndex index of the element returned by the first call to next
+         * @throws IndexOutOfBoundsException if index is below zero or greater than size of list.
+         */
+        public PooledIterator(int startingIndex){
+            if(startingIndex < 0 || startingIndex > size){
+                throw new IndexOutOfBoundsException();
+            }
+            nextSlot = (startingIndex == size) ? NIL : nodeAt(startingIndex);
+            nextIndex = startingIndex;
+            iterModCount = modCount;
+            lastReturnedSlot = NIL;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextSlot != NIL;
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            lastReturnedSlot = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            return elements[lastReturnedSlot];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextSlot != head;
+        }
+
+        @Override
+        public T previous() {
+            if(!hasPrevious()){
+                throw new NoSuchElementException();
+            }
+            nextSlot = (nextSlot == NIL) ? tail : prev[nextSlot];
+            lastReturnedSlot = nextSlot;
+            nextIndex--;
+            return elements[nextSlot];
+        }
+
+        @Override
+        public int nextIndex() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturnedSlot == NIL){
+                throw new IllegalStateException();
+            }
+            if(lastReturnedSlot != nextSlot){// last move was next
+                nextIndex--;
+            }else{// last move was previous
+                nextSlot = next[nextSlot];// read before unlink puts the slot on the free list
+            }
+            unlink(lastReturnedSlot);
+            lastReturnedSlot = NIL;
+            iterModCount++;
+        }
+
+        @Override
+        public void set(T e) {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturnedSlot == NIL){
+                throw new IllegalStateException();
+            }
+            elements[lastReturnedSlot] = e;
+            modCount++;
+            iterModCount++;
+        }
+
+        @Override
+        public void add(T e) {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            linkBefore(e, nextSlot);
+            iterModCount++;
+            nextIndex++;// new node sits to the left of the cursor
+            lastReturnedSlot = NIL;
+        }
+    }
+}
@@ -1,21 +1,28 @@
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.ConcurrentModificationException;
+import java.util.function.Predicate;
 
 /**
  * A single-linked node implementation of the {@code IndexedUnsortedList} interface.
- * This implementation includes an {@code Iterator} with a functional {@code remove()} method
- * that allows modification of the list during iteration. Note that {@code ListIterator} is 
- * not supported in this implementation.
+ * This implementation includes a {@code ListIterator} that allows modification of the list
+ * during iteration. Moving forward and adding, setting or removing at the cursor are O(1);
+ * previous() has to re-seek from the head now and then, see {@code SLLIterator}.
  * 
  * @author Davina Causey
  * @param <T> the type of elements stored in the list
  */
-public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
+public class IUSingleLinkedList<T> implements IndexedUnsortedList<T>, NodeTraversalCounter {
 	private Node<T> head, tail;// Technically only needs to keep track of head but keeping track of tail makes addToRear simple.
 	private int size;// Makes size() simple.
 	private int modCount;
+	private Node<T> fingerNode;// last node resolved by index, lets sequential indexed access start nearby
+	private int fingerIndex;
+	private int fingerModCount;// finger is only trusted while this still matches modCount
+	private long nodesTraversed;// links followed by lookups, see NodeTraversalCounter
 	
 	/**
 	 * Creates a new, empty instance of the {@code IUSingleLinkedList}.
@@ -27,6 +34,49 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 		modCount = 0;
 	}
 
+	/**
+	 * Returns the node at the given index. Nodes only link forward, so the walk starts
+	 * from the cached finger when it sits at or before the index, otherwise from head.
+	 * The resolved node becomes the new finger, so a loop over get(i) only steps one
+	 * node per call.
+	 * Index must already be validated.
+	 *
+	 * @param index index of the node to find
+	 * @return the node at that index
+	 */
+	private Node<T> nodeAt(int index){
+		Node<T> currentNode = head;
+		int currentIndex = 0;
+		if(index == size - 1){
+			currentNode = tail;
+			currentIndex = index;
+		}
+		else if(fingerModCount == modCount && fingerNode != null && fingerIndex <= index){
+			currentNode = fingerNode;
+			currentIndex = fingerIndex;
+		}
+		nodesTraversed += index - currentIndex;
+		while(currentIndex < index){
+			currentNode = currentNode.getNextNode();
+			currentIndex++;
+		}
+		moveFinger(currentNode, index);
+		return currentNode;
+	}
+
+	/**
+	 * Records the node at the given index as the finger for the next indexed lookup.
+	 * Call after any modCount change the finger should survive.
+	 *
+	 * @param node  node now known to be at index
+	 * @param index index of node
+	 */
+	private void moveFinger(Node<T> node, int index){
+		fingerNode = node;
+		fingerIndex = index;
+		fingerModCount = modCount;
+	}
+
 	@Override
 	public void addToFront(T element){// O(1) where ArrayList was O(n)
 		Node<T> newNode = new Node<T>(element);
@@ -63,9 +113,12 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 	@Override
 	public void addAfter(T element, T target) {
 		Node<T> currentNode = head;
+		int steps = 0;
 		while(currentNode != null && !currentNode.getElement().equals(target)){
 			currentNode = currentNode.getNextNode();
+			steps++;
 		}
+		nodesTraversed += steps;
 		if(currentNode == null){
 			throw new NoSuchElementException();
 		}
@@ -90,10 +143,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 		}
 		else{
 			Node<T> newNode = new Node<T>(element);
-			Node<T> curNode = head;
-			for(int i = 0; i < index - 1; i++){
-				curNode = curNode.getNextNode();
-			}
+			Node<T> curNode = nodeAt(index - 1);
 			newNode.setNextNode(curNode.getNextNode());
 			curNode.setNextNode(newNode);
 			if(newNode.getNextNode() == null){// or curNode == tail
@@ -101,7 +151,44 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 			}
 			size++;
 			modCount++;
+			moveFinger(newNode, index);// nodes after index shifted, so re-anchor the finger on the new node
+		}
+	}
+
+	@Override
+	public void addAll(int index, Iterable<? extends T> elements) {
+		if(index < 0 || index > size){
+			throw new IndexOutOfBoundsException();
+		}
+		// Build the whole chain first, then splice it in with two link changes
+		Node<T> chainHead = null, chainTail = null;
+		int count = 0;
+		for(T element : elements){
+			Node<T> newNode = new Node<T>(element);
+			if(chainHead == null){
+				chainHead = newNode;
+			}else{
+				chainTail.setNextNode(newNode);
+			}
+			chainTail = newNode;
+			count++;
+		}
+		if(count == 0){
+			return;
 		}
+		if(index == 0){
+			chainTail.setNextNode(head);
+			head = chainHead;
+		}else{
+			Node<T> prevNode = nodeAt(index - 1);
+			chainTail.setNextNode(prevNode.getNextNode());
+			prevNode.setNextNode(chainHead);
+		}
+		if(chainTail.getNextNode() == null){// chain went on the end
+			tail = chainTail;
+		}
+		size += count;
+		modCount++;// one modification for the whole batch
 	}
 
 	@Override
@@ -140,6 +227,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 			for(int i = 0; i < size - 2; i++){
 				currNode = currNode.getNextNode();
 			}
+			nodesTraversed += size - 2;
 			last = tail.getElement();
 			currNode.setNextNode(null);
 			tail = currNode;
@@ -164,9 +252,12 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 		}
 		else{
 			Node<T> currentNode = head;//Set currentHead to head to start at beginning of list
+			int steps = 0;
 			while (currentNode.getNextNode() != null && !currentNode.getNextNode().getElement().equals(element)) {
 				currentNode = currentNode.getNextNode();
+				steps++;
 			}
+			nodesTraversed += steps;
 			if(currentNode.getNextNode() == null){
 				throw new NoSuchElementException();
 			}
@@ -191,12 +282,8 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 			retVal = removeFirst();
 		}
 		else{
-			Node<T> currentNode = head;
-			Node<T> prevNode = null;
-			for(int i = 0; i < index; i++) {
-				prevNode = currentNode;
-				currentNode = currentNode.getNextNode();
-			}
+			Node<T> prevNode = nodeAt(index - 1);
+			Node<T> currentNode = prevNode.getNextNode();
 
 			retVal = currentNode.getElement();
 			prevNode.setNextNode(currentNode.getNextNode());
@@ -205,21 +292,96 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 			}
 			size--;
 			modCount++;
+			moveFinger(prevNode, index - 1);// nothing before index moved, so the predecessor is still a safe finger
 		}
 		return retVal;
 	}
 
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		if(fromIndex < 0 || toIndex > size || fromIndex > toIndex){
+			throw new IndexOutOfBoundsException();
+		}
+		if(fromIndex == toIndex){
+			return;
+		}
+		Node<T> prevNode = (fromIndex == 0) ? null : nodeAt(fromIndex - 1);
+		Node<T> afterNode = (prevNode == null) ? head : prevNode.getNextNode();
+		for(int i = fromIndex; i < toIndex; i++){// step past the removed run
+			afterNode = afterNode.getNextNode();
+		}
+		nodesTraversed += toIndex - fromIndex;
+		if(prevNode == null){
+			head = afterNode;
+		}else{
+			prevNode.setNextNode(afterNode);
+		}
+		if(afterNode == null){// removed through the end
+			tail = prevNode;
+		}
+		size -= toIndex - fromIndex;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		head = tail = null;// unreachable nodes are left for the garbage collector
+		fingerNode = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super T> filter) {//test every node first, so a throwing filter changes nothing
+		if(filter == null){
+			throw new NullPointerException();
+		}
+		int expectedModCount = modCount;
+		BitSet matches = new BitSet(size);
+		int i = 0;
+		for(Node<T> node = head; node != null; node = node.getNextNode(), i++){
+			if(filter.test(node.getElement())){
+				matches.set(i);
+			}
+		}
+		if(expectedModCount != modCount){// the filter changed the list
+			throw new ConcurrentModificationException();
+		}
+		if(matches.isEmpty()){
+			return false;
+		}
+		int removed = 0;
+		Node<T> prevNode = null;//last node kept so far
+		Node<T> currentNode = head;
+		for(i = 0; currentNode != null; i++){//second walk, dropping matches by linking past them
+			Node<T> nextNode = currentNode.getNextNode();
+			if(matches.get(i)){
+				if(prevNode == null){
+					head = nextNode;
+				}else{
+					prevNode.setNextNode(nextNode);
+				}
+				removed++;
+			}else{
+				prevNode = currentNode;
+			}
+			currentNode = nextNode;
+		}
+		tail = prevNode;
+		size -= removed;
+		modCount++;
+		return true;
+	}
+
 	@Override
 	public void set(int index, T element) {
 		if(index < 0 || index >= size){
 			throw new IndexOutOfBoundsException();
 		}
-		Node<T> currNode = head;
-		for (int i = 0; i < index; i++) {
-			currNode = currNode.getNextNode();
-		}
+		Node<T> currNode = nodeAt(index);
 		currNode.setElement(element);
 		modCount++;
+		moveFinger(currNode, index);// set is not structural so the finger stays valid
 	}
 
 	@Override
@@ -230,18 +392,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 		if(index < 0 || index >= size){
 			throw new IndexOutOfBoundsException();
 		}
-		T retVal;
-		if(index == 0){
-			retVal = head.getElement();
-		}
-		else{
-			Node<T> currentNode = head;
-			for (int i = 0; i < index; i++) {
-				currentNode = currentNode.getNextNode();
-			}
-			retVal = currentNode.getElement();
-		}
-		return retVal;
+		return nodeAt(index).getElement();
 	}
 
 	@Override
@@ -252,6 +403,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 			currentNode = currentNode.getNextNode();
 			currentIndex++;
 		}
+		nodesTraversed += currentIndex;
 		if(currentNode == null){// or currentIndex == size, didn't find it
 			currentIndex = -1;
 		}
@@ -274,6 +426,11 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 		return tail.getElement();
 	}
 
+	@Override
+	public long nodesTraversed() {
+		return nodesTraversed;
+	}
+
 	@Override
 	public boolean contains(T target) {
 		return indexOf(target) > -1;
@@ -296,10 +453,10 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         // Every toString should look similar to this.
         StringBuilder str = new StringBuilder();
         str.append("[");
-        for (T element : this){
+        forEach(element -> {
             str.append(element.toString());
             str.append(", ");
-        }
+        });
         if(size() > 0){
             str.delete(str.length() - 2, str.length()); // remove trailing ", "
         }
@@ -314,23 +471,54 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 
 	@Override
 	public ListIterator<T> listIterator() {
-		throw new UnsupportedOperationException();
+		return new SLLIterator();
 	}
 
 	@Override
 	public ListIterator<T> listIterator(int startingIndex) {
-		throw new UnsupportedOperationException();
+		return new SLLIterator(startingIndex);
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		return new NodeSpliterator<T>(() -> head, () -> size, () -> modCount);
+	}
+
+	@Override
+	public void forEachIndexed(IntObjConsumer<? super T> action) {
+		if(action == null){
+			throw new NullPointerException();
+		}
+		int expectedModCount = modCount;
+		Node<T> currentNode = head;
+		for(int i = 0, count = size; i < count && currentNode != null; i++){
+			T element = currentNode.getElement();
+			currentNode = currentNode.getNextNode();
+			action.accept(i, element);
+		}
+		if(expectedModCount != modCount){//checked once at the end, like forEach
+			throw new ConcurrentModificationException();
+		}
 	}
 
 	/**
-	 * An iterator implementation for the {@code IUSingleLinkedList}.
-	 * This iterator allows list navigation and supports element removal during iteration.
+	 * A list iterator implementation for the {@code IUSingleLinkedList}.
+	 * Nodes only link forward, so the iterator keeps a trail of the nodes just before the cursor
+	 * in a small ring buffer. Forward next, add, set and remove only need the top of the trail and
+	 * run in O(1). previous pops from the trail and, once it runs out, re-seeks from the head to
+	 * refill it with the TRAIL_LENGTH nodes before the cursor, so a backward pass over n elements
+	 * walks about n * n / TRAIL_LENGTH nodes rather than n * n.
 	 */
 	//<T> has already been defined above. If it was included "SLLIterator<T>" the iterator would have a duplicate list.
 	//"Shadow generic"
-	private class SLLIterator implements Iterator<T> {
+	private class SLLIterator implements ListIterator<T> {
+		private static final int TRAIL_LENGTH = 32;
 		private Node<T> nextNode;
-		private boolean canRemove;
+		private int nextIndex;
+		private final Node<T>[] trail;//ring buffer, trail[trailTop] is the node at nextIndex - 1, the one below it at nextIndex - 2...
+		private int trailTop;
+		private int trailCount;//nodes currently held, at most TRAIL_LENGTH and at most nextIndex
+		private Node<T> lastReturned;//node returned by the last next or previous, null if none
 		private int iterModCount;
 		
 		/**
@@ -339,11 +527,90 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 		 * concurrency.
 		 */
 		public SLLIterator() {
-			nextNode = head;
-			canRemove = false;
+			this(0);
+		}
+
+		/**
+		 * Constructs a new iterator for the {@code IUSingleLinkedList} positioned before the element at
+		 * the given index. Walks from the head, filling the trail on the way.
+		 * @param startingIndex index of the element the first call to next returns
+		 * @throws IndexOutOfBoundsException if index is below zero or greater than size of list.
+		 */
+		@SuppressWarnings("unchecked")
+		public SLLIterator(int startingIndex) {
+			if(startingIndex < 0 || startingIndex > size){
+				throw new IndexOutOfBoundsException();
+			}
+			trail = (Node<T>[])new Node<?>[TRAIL_LENGTH];
+			nextIndex = startingIndex;
+			nextNode = refill();
+			lastReturned = null;
 			iterModCount = modCount;
 		}
 
+		/**
+		 * Walks from the head to the cursor, leaving the last TRAIL_LENGTH nodes before it in the trail.
+		 * @return the node at nextIndex, or null at the end of the list
+		 */
+		private Node<T> refill() {
+			trailCount = 0;
+			Node<T> currentNode = head;
+			for(int i = 0; i < nextIndex; i++){
+				push(currentNode);
+				currentNode = currentNode.getNextNode();
+			}
+			nodesTraversed += nextIndex;
+			return currentNode;
+		}
+
+		/**
+		 * Makes sure the trail holds the count nodes just before the cursor, or every node before it
+		 * when there are fewer, re-seeking from the head if needed.
+		 */
+		private void ensureTrail(int count) {
+			if(trailCount < count && trailCount < nextIndex){
+				refill();
+			}
+		}
+
+		private void push(Node<T> node) {
+			trailTop = (trailTop + 1) % TRAIL_LENGTH;
+			trail[trailTop] = node;
+			if(trailCount < TRAIL_LENGTH){
+				trailCount++;
+			}//otherwise the oldest node was overwritten
+		}
+
+		private Node<T> pop() {
+			Node<T> node = trail[trailTop];
+			trail[trailTop] = null;
+			trailTop = (trailTop + TRAIL_LENGTH - 1) % TRAIL_LENGTH;
+			trailCount--;
+			return node;
+		}
+
+		/**
+		 * @return the node just before the cursor, null at the front; the trail must hold it
+		 */
+		private Node<T> peek() {
+			return (trailCount == 0) ? null : trail[trailTop];
+		}
+
+		/**
+		 * Links the node in front of nextNode, after the given node or as the new head.
+		 */
+		private void linkBefore(Node<T> prevNode, Node<T> node) {
+			node.setNextNode(nextNode);
+			if(prevNode == null){
+				head = node;
+			}else{
+				prevNode.setNextNode(node);
+			}
+			if(nextNode == null){
+				tail = node;
+			}
+		}
+
 		@Override
 		public boolean hasNext() {
 			if(iterModCount != modCount){
@@ -357,10 +624,47 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 			if(!hasNext()){
 				throw new NoSuchElementException();
 			}
-			T retVal = nextNode.getElement();
+			push(nextNode);
+			lastReturned = nextNode;
 			nextNode = nextNode.getNextNode();
-			canRemove = true;
-			return retVal;
+			nextIndex++;
+			return lastReturned.getElement();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if(iterModCount != modCount){
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public T previous() {
+			if(!hasPrevious()){
+				throw new NoSuchElementException();
+			}
+			ensureTrail(1);//re-seek from head when the trail has run out
+			nextNode = pop();
+			nextIndex--;
+			lastReturned = nextNode;
+			return nextNode.getElement();
+		}
+
+		@Override
+		public int nextIndex() {
+			if(iterModCount != modCount){
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if(iterModCount != modCount){
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
 		}
 		
 		@Override
@@ -368,26 +672,59 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 			if(iterModCount != modCount){
 				throw new ConcurrentModificationException();
 			}
-			if(!canRemove){
+			if(lastReturned == null){
 				throw new IllegalStateException();
 			}
-			canRemove = false;
-			Node<T> prevPrevNode = null;
-			if(head.getNextNode() == nextNode){
+			if(lastReturned == nextNode){//last move was previous, lastReturned sits right after the cursor
+				ensureTrail(1);
+				nextNode = nextNode.getNextNode();
+			}else{//last move was next, lastReturned is the top of the trail
+				ensureTrail(2);
+				pop();
+				nextIndex--;
+			}
+			Node<T> prevNode = peek();//unlink lastReturned in O(1), no walk from head
+			if(prevNode == null){
 				head = nextNode;
 			}else{
-				prevPrevNode = head;//Need to find node that that getNextNode.getNextNode = nextNode
-				while(prevPrevNode.getNextNode().getNextNode() != nextNode){
-					prevPrevNode = prevPrevNode.getNextNode();
-				}
-				prevPrevNode.setNextNode(nextNode);
+				prevNode.setNextNode(nextNode);
 			}
 			if(nextNode == null){
-				tail = prevPrevNode;
+				tail = prevNode;
 			}
+			lastReturned = null;
 			modCount++;
 			iterModCount++;
 			size--;
 		}
+
+		@Override
+		public void set(T e) {
+			if(iterModCount != modCount){
+				throw new ConcurrentModificationException();
+			}
+			if(lastReturned == null){
+				throw new IllegalStateException();
+			}
+			lastReturned.setElement(e);
+			modCount++;
+			iterModCount++;
+		}
+
+		@Override
+		public void add(T e) {
+			if(iterModCount != modCount){
+				throw new ConcurrentModificationException();
+			}
+			ensureTrail(1);
+			Node<T> newNode = new Node<T>(e);
+			linkBefore(peek(), newNode);
+			push(newNode);//new node sits to the left of the cursor
+			nextIndex++;
+			size++;
+			modCount++;
+			iterModCount++;
+			lastReturned = null;//remove and set are illegal until the next call to next or previous
+		}
 	}
 }
@@ -0,0 +1,775 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Balanced tree implementation of the {@code IndexedUnsortedList} interface.
+ * Elements are kept in an AVL tree ordered by list position rather than by value.
+ * Every node also records the size of its subtree, so the node at any index can be
+ * found by comparing against left subtree sizes, making get, set, add(int, T) and
+ * remove(int) all O(log n). Scans by value (indexOf, contains) are still O(n).
+ * Memory usage is about 5n: element, two children, height and subtree size per node.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class IUTreeList<T> implements IndexedUnsortedList<T>, SharedReadSafe {
+    private TreeNode root;
+    private int modCount;
+    private T removedElement;// hands the removed element back out of the recursive delete
+
+    /**
+     * A single position in the tree. Left subtree holds the elements before this
+     * one in the list, right subtree holds the elements after it.
+     */
+    private class TreeNode {
+        private T element;
+        private TreeNode left, right;
+        private int height;// height of this subtree, a leaf is 1
+        private int size;// number of nodes in this subtree, including this one
+
+        /**
+         * Creates a leaf node storing the given element.
+         *
+         * @param element the element stored in the node
+         */
+        public TreeNode(T element){
+            this.element = element;
+            left = right = null;
+            height = 1;
+            size = 1;
+        }
+    }
+
+    /**
+     * Constructs a new, empty {@code IUTreeList}.
+     */
+    public IUTreeList(){
+        root = null;
+        modCount = 0;
+    }
+
+    // Tree maintenance helpers
+
+    private int sizeOf(TreeNode node){
+        return (node == null) ? 0 : node.size;
+    }
+
+    private int heightOf(TreeNode node){
+        return (node == null) ? 0 : node.height;
+    }
+
+    /**
+     * Recomputes height and size of a node from its children.
+     *
+     * @param node node whose children may have changed
+     */
+    private void update(TreeNode node){
+        node.height = 1 + Math.max(heightOf(node.left), heightOf(node.right));
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+
+    private TreeNode rotateRight(TreeNode node){
+        TreeNode newTop = node.left;
+        node.left = newTop.right;
+        newTop.right = node;
+        update(node);// node is now below newTop, so it must be updated first
+        update(newTop);
+        return newTop;
+    }
+
+    private TreeNode rotateLeft(TreeNode node){
+        TreeNode newTop = node.right;
+        node.right = newTop.left;
+        newTop.left = node;
+        update(node);
+        update(newTop);
+        return newTop;
+    }
+
+    /**
+     * Restores the AVL property at a node whose subtrees differ in height by at most 2.
+     *
+     * @param node root of the subtree to rebalance
+     * @return the new root of the subtree
+     */
+    private TreeNode balance(TreeNode node){
+        update(node);
+        int balance = heightOf(node.left) - heightOf(node.right);
+        if(balance > 1){// left heavy
+            if(heightOf(node.left.left) < heightOf(node.left.right)){// left-right case
+                node.left = rotateLeft(node.left);
+            }
+            node = rotateRight(node);
+        }else if(balance < -1){// right heavy
+            if(heightOf(node.right.right) < heightOf(node.right.left)){// right-left case
+                node.right = rotateRight(node.right);
+            }
+            node = rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Inserts an element so it ends up at the given index within this subtree.
+     *
+     * @param node    root of the subtree
+     * @param index   position within the subtree, 0 to size inclusive
+     * @param element element to insert
+     * @return the new root of the subtree
+     */
+    private TreeNode insert(TreeNode node, int index, T element){
+        if(node == null){
+            return new TreeNode(element);
+        }
+        int leftSize = sizeOf(node.left);
+        if(index <= leftSize){
+            node.left = insert(node.left, index, element);
+        }else{
+            node.right = insert(node.right, index - leftSize - 1, element);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Deletes the element at the given index within this subtree and stores it in
+     * {@code removedElement}.
+     *
+     * @param node  root of the subtree
+     * @param index position within the subtree, 0 to size - 1
+     * @return the new root of the subtree
+     */
+    private TreeNode delete(TreeNode node, int index){
+        int leftSize = sizeOf(node.left);
+        if(index < leftSize){
+            node.left = delete(node.left, index);
+        }else if(index > leftSize){
+            node.right = delete(node.right, index - leftSize - 1);
+        }else{
+            removedElement = node.element;
+            if(node.left == null){
+                return node.right;
+            }
+            if(node.right == null){
+                return node.left;
+            }
+            // Two children: pull the successor (first element of the right subtree) up into this node
+            T keep = removedElement;
+            node.right = delete(node.right, 0);
+            node.element = removedElement;
+            removedElement = keep;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Returns the node at the given index by steering on left subtree sizes.
+     * Index must already be validated.
+     *
+     * @param index index of the node to find
+     * @return the node at that index
+     */
+    private TreeNode nodeAt(int index){
+        TreeNode currentNode = root;
+        int leftSize = sizeOf(currentNode.left);
+        while(index != leftSize){
+            if(index < leftSize){
+                currentNode = currentNode.left;
+            }else{
+                index -= leftSize + 1;// skip the left subtree and this node
+                currentNode = currentNode.right;
+            }
+            leftSize = sizeOf(currentNode.left);
+        }
+        return currentNode;
+    }
+
+    /**
+     * Copies the elements of a subtree into an array in list order.
+     *
+     * @param node  root of the subtree
+     * @param dest  array to fill
+     * @param index position in dest for the first element of the subtree
+     * @return position in dest after the last element of the subtree
+     */
+    private int flatten(TreeNode node, Object[] dest, int index){
+        while(node != null){// recurse left, loop right
+            index = flatten(node.left, dest, index);
+            dest[index++] = node.element;
+            node = node.right;
+        }
+        return index;
+    }
+
+    /**
+     * Builds a perfectly balanced subtree from a run of elements in list order.
+     *
+     * @param elements elements in list order
+     * @param from     index of the first element of the run
+     * @param to       index one past the last element of the run
+     * @return root of the new subtree, null for an empty run
+     */
+    @SuppressWarnings("unchecked")
+    private TreeNode build(Object[] elements, int from, int to){
+        if(from >= to){
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        TreeNode node = new TreeNode((T)elements[middle]);
+        node.left = build(elements, from, middle);
+        node.right = build(elements, middle + 1, to);
+        update(node);
+        return node;
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        if(index < 0 || index > size()){
+            throw new IndexOutOfBoundsException();
+        }
+        ArrayList<T> batch = new ArrayList<T>();
+        for(T element : elements){
+            batch.add(element);
+        }
+        if(batch.isEmpty()){
+            return;
+        }
+        int size = size();
+        if(batch.size() < size / 8){
+            // Few elements relative to the tree, k inserts at O(log n) each beat a rebuild
+            for(T element : batch){
+                root = insert(root, index++, element);
+            }
+        }else{
+            // Otherwise lay everything out in order and rebuild in O(n + k)
+            Object[] all = new Object[size + batch.size()];
+            Object[] current = new Object[size];
+            flatten(root, current, 0);
+            System.arraycopy(current, 0, all, 0, index);
+            for(int i = 0; i < batch.size(); i++){
+                all[index + i] = batch.get(i);
+            }
+            System.arraycopy(current, index, all, index + batch.size(), size - index);
+            root = build(all, 0, all.length);
+        }
+        modCount++;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        int size = size();
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex){
+            throw new IndexOutOfBoundsException();
+        }
+        int count = toIndex - fromIndex;
+        if(count == 0){
+            return;
+        }
+        if(count < size / 8){
+            for(int i = 0; i < count; i++){
+                root = delete(root, fromIndex);
+            }
+            removedElement = null;
+        }else{
+            Object[] all = new Object[size];
+            flatten(root, all, 0);
+            System.arraycopy(all, toIndex, all, fromIndex, size - toIndex);
+            root = build(all, 0, size - count);
+        }
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        root = null;// the whole tree is left for the garbage collector
+        modCount++;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        add(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        add(size(), element);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+        if(targetIndex < 0){
+            throw new NoSuchElementException();
+        }
+        add(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if(index < 0 || index > size()){
+            throw new IndexOutOfBoundsException();
+        }
+        root = insert(root, index, element);
+        modCount++;
+    }
+
+    @Override
+    public T removeFirst() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return remove(size() - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+        if(index < 0){
+            throw new NoSuchElementException();
+        }
+        return remove(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        root = delete(root, index);
+        T retVal = removedElement;
+        removedElement = null;// don't hold on to the removed element
+        modCount++;
+        return retVal;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).element = element;
+        modCount++;
+    }
+
+    @Override
+    public T get(int index) {
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).element;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        // In-order walk with an explicit stack, visiting nodes in list order
+        ArrayDeque<TreeNode> stack = new ArrayDeque<TreeNode>();
+        TreeNode currentNode = root;
+        int currentIndex = 0;
+        int returnIndex = -1;
+        while(returnIndex < 0 && (currentNode != null || !stack.isEmpty())){
+            while(currentNode != null){
+                stack.push(currentNode);
+                currentNode = currentNode.left;
+            }
+            currentNode = stack.pop();
+            if(currentNode.element.equals(element)){
+                returnIndex = currentIndex;
+            }
+            currentIndex++;
+            currentNode = currentNode.right;
+        }
+        return returnIndex;
+    }
+
+    @Override
+    public T first() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        TreeNode currentNode = root;
+        while(currentNode.left != null){
+            currentNode = currentNode.left;
+        }
+        return currentNode.element;
+    }
+
+    @Override
+    public T last() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        TreeNode currentNode = root;
+        while(currentNode.right != null){
+            currentNode = currentNode.right;
+        }
+        return currentNode.element;
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder str = new StringBuilder();
+        str.append("[");
+        forEach(element -> {
+            str.append(element.toString());
+            str.append(", ");
+        });
+        if(size() > 0){
+            str.delete(str.length() - 2, str.length()); // remove trailing ", "
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new TreeIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new TreeIterator(startingIndex);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator(0, -1, 0);
+    }
+
+    /**
+     * A ListIterator implementation for the {@code IUTreeList}.
+     * The iterator tracks its cursor by index and keeps the path from the root to the
+     * node it last returned, so stepping to a neighbor follows that path instead of
+     * searching from the root: O(1) amortized, and O(n) for a full traversal either way.
+     * The path is dropped when the iterator adds or removes, since rebalancing may
+     * rotate it away, and the next move finds its node again in O(log n).
+     */
+    private class TreeIterator implements ListIterator<T> {
+        private int nextIndex;
+        private int lastReturnedIndex;// -1 when remove and set are not allowed
+        private int iterModCount;
+        private ArrayDeque<TreeNode> path;// root down to the node at pathIndex, which is on top
+        private int pathIndex;
+
+        /**
+         * Constructs a new iterator positioned before the given index.
+         *
+         * @param startingIndex index of the element returned by the first call to next
+         * @throws IndexOutOfBoundsException if index is below zero or greater than size of list.
+         */
+        public TreeIterator(int startingIndex){
+            if(startingIndex < 0 || startingIndex > size()){
+                throw new IndexOutOfBoundsException();
+            }
+            nextIndex = startingIndex;
+            lastReturnedIndex = -1;
+            iterModCount = modCount;
+            path = new ArrayDeque<TreeNode>();
+        }
+
+        /**
+         * Returns the node at the given index, moving the path there. An index next to
+         * the path's node is reached through the path, any other by a search from the root.
+         * Index must already be validated.
+         *
+         * @param index index of the node to find
+         * @return the node at that index
+         */
+        private TreeNode nodeFor(int index){
+            if(path.isEmpty()){
+                descend(index);
+            }else if(index == pathIndex + 1){
+                TreeNode node = path.peek();
+                if(node.right != null){// leftmost node of the right subtree
+                    for(node = node.right; node != null; node = node.left){
+                        path.push(node);
+                    }
+                }else{// climb to the first ancestor this subtree is left of
+                    TreeNode child = path.pop();
+                    while(path.peek().right == child){
+                        child = path.pop();
+                    }
+                }
+            }else if(index == pathIndex - 1){
+                TreeNode node = path.peek();
+                if(node.left != null){// rightmost node of the left subtree
+                    for(node = node.left; node != null; node = node.right){
+                        path.push(node);
+                    }
+                }else{// climb to the first ancestor this subtree is right of
+                    TreeNode child = path.pop();
+                    while(path.peek().left == child){
+                        child = path.pop();
+                    }
+                }
+            }else if(index != pathIndex){
+                descend(index);
+            }
+            pathIndex = index;
+            return path.peek();
+        }
+
+        /**
+         * Rebuilds the path by steering down from the root, as nodeAt does.
+         *
+         * @param index index of the node to end the path at
+         */
+        private void descend(int index){
+            path.clear();
+            TreeNode currentNode = root;
+            path.push(currentNode);
+            int leftSize = sizeOf(currentNode.left);
+            while(index != leftSize){
+                if(index < leftSize){
+                    currentNode = currentNode.left;
+                }else{
+                    index -= leftSize + 1;
+                    currentNode = currentNode.right;
+                }
+                path.push(currentNode);
+                leftSize = sizeOf(currentNode.left);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < size();
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            lastReturnedIndex = nextIndex;
+            nextIndex++;
+            return nodeFor(lastReturnedIndex).element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if(!hasPrevious()){
+                throw new NoSuchElementException();
+            }
+            nextIndex--;
+            lastReturnedIndex = nextIndex;
+            return nodeFor(lastReturnedIndex).element;
+        }
+
+        @Override
+        public int nextIndex() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturnedIndex < 0){
+                throw new IllegalStateException();
+            }
+            IUTreeList.this.remove(lastReturnedIndex);
+            if(lastReturnedIndex < nextIndex){// last move was next, one fewer element to the left
+                nextIndex--;
+            }
+            lastReturnedIndex = -1;
+            iterModCount++;
+            path.clear();
+        }
+
+        @Override
+        public void set(T e) {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturnedIndex < 0){
+                throw new IllegalStateException();
+            }
+            nodeFor(lastReturnedIndex).element = e;// same node, no search
+            modCount++;
+            iterModCount++;
+        }
+
+        @Override
+        public void add(T e) {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            IUTreeList.this.add(nextIndex, e);
+            nextIndex++;// new element sits to the left of the cursor
+            lastReturnedIndex = -1;
+            iterModCount++;
+            path.clear();
+        }
+    }
+
+    /**
+     * A Spliterator implementation for the {@code IUTreeList}.
+     * Covers a range of indexes and splits it in half like an array would, since
+     * any index is reachable in O(log n). A bulk traversal walks the range in order
+     * with an explicit stack, so it costs O(log n) to start and O(1) per element after.
+     */
+    private class TreeSpliterator implements Spliterator<T> {
+        private int index;// next index to visit
+        private int fence;// one past the last index to visit, -1 until first use
+        private int expectedModCount;
+
+        /**
+         * Constructs a spliterator over the indexes origin to fence.
+         *
+         * @param origin           first index to visit
+         * @param fence            one past the last index to visit, or -1 to bind to the list size on first use
+         * @param expectedModCount modCount the range was taken from
+         */
+        public TreeSpliterator(int origin, int fence, int expectedModCount){
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Binds the range to the list on first use, so changes made between creating
+         * a stream and running it are still seen.
+         */
+        private int getFence(){
+            if(fence < 0){
+                fence = size();
+                expectedModCount = modCount;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if(lo >= mid){// too small to split
+                return null;
+            }
+            index = mid;
+            return new TreeSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(action == null){
+                throw new NullPointerException();
+            }
+            if(index >= getFence()){
+                return false;
+            }
+            T element = nodeAt(index++).element;
+            action.accept(element);
+            if(expectedModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if(action == null){
+                throw new NullPointerException();
+            }
+            int hi = getFence();
+            int remaining = hi - index;
+            // Stack the path down to the first node, keeping only the nodes still to be visited
+            ArrayDeque<TreeNode> stack = new ArrayDeque<TreeNode>();
+            TreeNode currentNode = (remaining > 0) ? root : null;
+            int target = index;
+            while(currentNode != null){
+                int leftSize = sizeOf(currentNode.left);
+                if(target <= leftSize){
+                    stack.push(currentNode);
+                    currentNode = (target == leftSize) ? null : currentNode.left;
+                }else{
+                    target -= leftSize + 1;
+                    currentNode = currentNode.right;
+                }
+            }
+            index = hi;
+            while(remaining > 0 && !stack.isEmpty()){
+                currentNode = stack.pop();
+                action.accept(currentNode.element);
+                remaining--;
+                for(TreeNode node = currentNode.right; node != null; node = node.left){
+                    stack.push(node);
+                }
+            }
+            if(expectedModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
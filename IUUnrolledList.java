@@ -0,0 +1,776 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Unrolled linked list implementation of the {@code IndexedUnsortedList} interface.
+ * Instead of one element per node, each chunk holds a small array of elements, so
+ * traversals chase one reference per chunk and read the elements from contiguous memory.
+ * A full chunk splits in two on insert, and a chunk that drops below half full merges
+ * with a neighbor when their contents fit in one chunk.
+ * With chunk capacity B, memory usage is about n + 4n/B instead of the 3n of Node.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class IUUnrolledList<T> implements IndexedUnsortedList<T> {
+    public static final int DEFAULT_CHUNK_CAPACITY = 16;
+    private final int chunkCapacity;
+    private Chunk head, tail;
+    private int size;
+    private int modCount;
+    private int seekOffset;// offset within the chunk returned by the last call to seek()
+
+    /**
+     * A node of the list holding up to {@code chunkCapacity} consecutive elements
+     * in {@code elements[0..count)}.
+     */
+    private class Chunk {
+        private Object[] elements;
+        private int count;
+        private Chunk next, prev;
+
+        /**
+         * Creates an empty, unlinked chunk.
+         */
+        public Chunk(){
+            elements = new Object[chunkCapacity];
+            count = 0;
+            next = prev = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int offset){
+            return (T)elements[offset];
+        }
+    }
+
+    /**
+     * Constructs a new, empty {@code IUUnrolledList} with the default chunk capacity.
+     */
+    public IUUnrolledList(){
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty {@code IUUnrolledList} whose chunks each hold up to
+     * the given number of elements.
+     *
+     * @param chunkCapacity number of elements per chunk
+     * @throws IllegalArgumentException if chunkCapacity is less than 2
+     */
+    public IUUnrolledList(int chunkCapacity){
+        if(chunkCapacity < 2){// a chunk must be able to split in two
+            throw new IllegalArgumentException();
+        }
+        this.chunkCapacity = chunkCapacity;
+        head = tail = null;
+        size = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Returns the chunk holding the given index, walking chunk by chunk from whichever
+     * end is closer, and leaves the element's position within it in {@code seekOffset}.
+     * An index on a chunk boundary resolves to offset 0 of the later chunk, and
+     * index == size resolves to the slot just past the last element of tail.
+     *
+     * @param index index to find, 0 to size inclusive
+     * @return the chunk holding index, or null if the list is empty
+     */
+    private Chunk seek(int index){
+        Chunk chunk;
+        if(index <= size / 2){// walk forward from head
+            chunk = head;
+            while(chunk != null && index >= chunk.count && chunk.next != null){
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            seekOffset = index;
+        }else{// walk backward from tail
+            chunk = tail;
+            int chunkStart = size - tail.count;
+            while(index < chunkStart){
+                chunk = chunk.prev;
+                chunkStart -= chunk.count;
+            }
+            seekOffset = index - chunkStart;
+        }
+        return chunk;
+    }
+
+    /**
+     * Links a new empty chunk directly after the given chunk, or as the only chunk
+     * when the given chunk is null.
+     *
+     * @param chunk chunk to follow, may be null only when the list has no chunks
+     * @return the new chunk
+     */
+    private Chunk linkAfter(Chunk chunk){
+        Chunk newChunk = new Chunk();
+        if(chunk == null){
+            head = tail = newChunk;
+        }else{
+            newChunk.prev = chunk;
+            newChunk.next = chunk.next;
+            if(chunk.next == null){
+                tail = newChunk;
+            }else{
+                chunk.next.prev = newChunk;
+            }
+            chunk.next = newChunk;
+        }
+        return newChunk;
+    }
+
+    /**
+     * Links a new empty chunk in front of head.
+     *
+     * @param chunk the current head
+     * @return the new head chunk
+     */
+    private Chunk linkBefore(Chunk chunk){
+        Chunk newChunk = new Chunk();
+        newChunk.next = chunk;
+        chunk.prev = newChunk;
+        head = newChunk;
+        return newChunk;
+    }
+
+    /**
+     * Unlinks the given chunk from the chain.
+     *
+     * @param chunk chunk to remove
+     */
+    private void unlink(Chunk chunk){
+        if(chunk.prev == null){
+            head = chunk.next;
+        }else{
+            chunk.prev.next = chunk.next;
+        }
+        if(chunk.next == null){
+            tail = chunk.prev;
+        }else{
+            chunk.next.prev = chunk.prev;
+        }
+    }
+
+    /**
+     * Inserts the element at the given index. Appending to a full chunk starts a fresh
+     * chunk, so runs of addToFront or addToRear fill chunks completely; any other insert
+     * into a full chunk splits it in half first.
+     * Index must already be validated.
+     *
+     * @param index   index for the new element
+     * @param element element to insert
+     */
+    private void insertAt(int index, T element){
+        Chunk chunk = seek(index);
+        int offset = seekOffset;
+        if(chunk == null){// empty list
+            chunk = linkAfter(null);
+        }else if(offset == 0 && chunk.prev != null && chunk.prev.count < chunkCapacity){
+            chunk = chunk.prev;// boundary insert, the earlier chunk has room at its end
+            offset = chunk.count;
+        }else if(chunk.count == chunkCapacity){
+            if(offset == chunkCapacity){// appending past a full chunk
+                chunk = linkAfter(chunk);
+                offset = 0;
+            }else if(offset == 0){// prepending before a full chunk
+                chunk = (chunk.prev == null) ? linkBefore(chunk) : linkAfter(chunk.prev);
+            }else{// split, moving the upper half into a new chunk
+                Chunk upper = linkAfter(chunk);
+                int half = chunk.count / 2;
+                upper.count = chunk.count - half;
+                System.arraycopy(chunk.elements, half, upper.elements, 0, upper.count);
+                Arrays.fill(chunk.elements, half, chunk.count, null);
+                chunk.count = half;
+                if(offset > half){
+                    chunk = upper;
+                    offset -= half;
+                }
+            }
+        }
+        System.arraycopy(chunk.elements, offset, chunk.elements, offset + 1, chunk.count - offset);
+        chunk.elements[offset] = element;
+        chunk.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the element at the given index. An emptied chunk is unlinked,
+     * and a chunk under half full is merged with a neighbor when both fit in one chunk.
+     * Index must already be validated.
+     *
+     * @param index index of the element to remove
+     * @return the removed element
+     */
+    private T removeAt(int index){
+        Chunk chunk = seek(index);
+        int offset = seekOffset;
+        T retVal = chunk.get(offset);
+        System.arraycopy(chunk.elements, offset + 1, chunk.elements, offset, chunk.count - offset - 1);
+        chunk.count--;
+        chunk.elements[chunk.count] = null;// clear the vacated slot so it can be garbage collected
+        if(chunk.count == 0){
+            unlink(chunk);
+        }else if(chunk.count < chunkCapacity / 2){
+            if(chunk.next != null && chunk.count + chunk.next.count <= chunkCapacity){
+                merge(chunk, chunk.next);
+            }else if(chunk.prev != null && chunk.prev.count + chunk.count <= chunkCapacity){
+                merge(chunk.prev, chunk);
+            }
+        }
+        size--;
+        modCount++;
+        return retVal;
+    }
+
+    /**
+     * Moves every element of the later chunk onto the end of the earlier one and
+     * unlinks the later chunk.
+     *
+     * @param first  the earlier chunk, with room for all of second
+     * @param second the chunk directly after first
+     */
+    private void merge(Chunk first, Chunk second){
+        System.arraycopy(second.elements, 0, first.elements, first.count, second.count);
+        first.count += second.count;
+        unlink(second);
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        ArrayList<T> batch = new ArrayList<T>();
+        for(T element : elements){
+            batch.add(element);
+        }
+        if(batch.isEmpty()){
+            return;
+        }
+        // Split the list at index so the batch can be written into whole chunks between the halves
+        Chunk before = null;
+        Chunk chunk = seek(index);
+        if(chunk != null){
+            int offset = seekOffset;
+            if(offset == 0){
+                before = chunk.prev;
+            }else{
+                before = chunk;
+                if(offset < chunk.count){// move the part after index into its own chunk
+                    Chunk upper = linkAfter(chunk);
+                    upper.count = chunk.count - offset;
+                    System.arraycopy(chunk.elements, offset, upper.elements, 0, upper.count);
+                    Arrays.fill(chunk.elements, offset, chunk.count, null);
+                    chunk.count = offset;
+                }
+            }
+        }
+        // Top up the chunk before the split, then fill fresh chunks one after another
+        Chunk last = before;
+        for(T element : batch){
+            if(last == null){
+                last = (head == null) ? linkAfter(null) : linkBefore(head);
+            }else if(last.count == chunkCapacity){
+                last = linkAfter(last);
+            }
+            last.elements[last.count++] = element;
+        }
+        if(last.next != null && last.count + last.next.count <= chunkCapacity){
+            merge(last, last.next);// the split may have left a small chunk behind
+        }
+        size += batch.size();
+        modCount++;// one modification for the whole batch
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex){
+            throw new IndexOutOfBoundsException();
+        }
+        int remaining = toIndex - fromIndex;
+        if(remaining == 0){
+            return;
+        }
+        Chunk chunk = seek(fromIndex);
+        int offset = seekOffset;
+        Chunk right;// first chunk after the removed run that still holds elements
+        while(true){
+            int count = Math.min(chunk.count - offset, remaining);
+            System.arraycopy(chunk.elements, offset + count, chunk.elements, offset, chunk.count - offset - count);
+            Arrays.fill(chunk.elements, chunk.count - count, chunk.count, null);
+            chunk.count -= count;
+            remaining -= count;
+            if(chunk.count == 0){// whole chunk emptied, drop it
+                unlink(chunk);
+                right = chunk.next;
+            }else{
+                right = chunk;
+            }
+            if(remaining == 0){
+                break;
+            }
+            chunk = chunk.next;
+            offset = 0;
+        }
+        // Chunks on either side of the removed run may both be small now
+        Chunk left = (right == null) ? tail : right.prev;
+        if(left != null && right != null && left.count + right.count <= chunkCapacity){
+            merge(left, right);
+        }
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = null;// unreachable chunks are left for the garbage collector
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        insertAt(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        insertAt(size, element);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+        if(targetIndex < 0){
+            throw new NoSuchElementException();
+        }
+        insertAt(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+    }
+
+    @Override
+    public T removeFirst() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return removeAt(size - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+        if(index < 0){
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        Chunk chunk = seek(index);
+        chunk.elements[seekOffset] = element;
+        modCount++;
+    }
+
+    @Override
+    public T get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        Chunk chunk = seek(index);
+        return chunk.get(seekOffset);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int returnIndex = -1;
+        int chunkStart = 0;
+        Chunk chunk = head;
+        while(returnIndex < 0 && chunk != null){
+            for (int i = 0; i < chunk.count && returnIndex < 0; i++) {
+                if(chunk.elements[i].equals(element)){
+                    returnIndex = chunkStart + i;
+                }
+            }
+            chunkStart += chunk.count;
+            chunk = chunk.next;
+        }
+        return returnIndex;
+    }
+
+    @Override
+    public T first() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return head.get(0);
+    }
+
+    @Override
+    public T last() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return tail.get(tail.count - 1);
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder str = new StringBuilder();
+        str.append("[");
+        forEach(element -> {
+            str.append(element.toString());
+            str.append(", ");
+        });
+        if(size() > 0){
+            str.delete(str.length() - 2, str.length()); // remove trailing ", "
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new UnrolledIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new UnrolledIterator(startingIndex);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new UnrolledSpliterator();
+    }
+
+    /**
+     * A ListIterator implementation for the {@code IUUnrolledList}.
+     * The cursor is a (chunk, offset) pair, so next and previous are O(1). Adding or
+     * removing through the iterator may split or merge chunks, after which the
+     * cursor re-seeks its chunk by index.
+     */
+    private class UnrolledIterator implements ListIterator<T> {
+        private Chunk cursorChunk;// chunk holding the element at nextIndex, or tail when at the end
+        private int cursorOffset;
+        private int nextIndex;
+        private int lastReturnedIndex;// -1 when remove and set are not allowed
+        private Chunk lastChunk;// position of the last returned element, for set
+        private int lastOffset;
+        private int iterModCount;
+
+        /**
+         * Constructs a new iterator positioned before the given index.
+         *
+         * @param startingIndex index of the element returned by the first call to next
+         * @throws IndexOutOfBoundsException if index is below zero or greater than size of list.
+         */
+        public UnrolledIterator(int startingIndex){
+            if(startingIndex < 0 || startingIndex > size){
+                throw new IndexOutOfBoundsException();
+            }
+            nextIndex = startingIndex;
+            lastReturnedIndex = -1;
+            iterModCount = modCount;
+            reseek();
+        }
+
+        /**
+         * Points the cursor at nextIndex after the chunk layout may have changed.
+         */
+        private void reseek(){
+            cursorChunk = seek(nextIndex);
+            cursorOffset = seekOffset;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            T retVal = cursorChunk.get(cursorOffset);
+            lastChunk = cursorChunk;
+            lastOffset = cursorOffset;
+            lastReturnedIndex = nextIndex;
+            nextIndex++;
+            cursorOffset++;
+            if(cursorOffset == cursorChunk.count && cursorChunk.next != null){// step into the next chunk
+                cursorChunk = cursorChunk.next;
+                cursorOffset = 0;
+            }
+            return retVal;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if(!hasPrevious()){
+                throw new NoSuchElementException();
+            }
+            if(cursorOffset == 0){// step back into the previous chunk
+                cursorChunk = cursorChunk.prev;
+                cursorOffset = cursorChunk.count;
+            }
+            cursorOffset--;
+            nextIndex--;
+            lastChunk = cursorChunk;
+            lastOffset = cursorOffset;
+            lastReturnedIndex = nextIndex;
+            return cursorChunk.get(cursorOffset);
+        }
+
+        @Override
+        public int nextIndex() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturnedIndex < 0){
+                throw new IllegalStateException();
+            }
+            removeAt(lastReturnedIndex);
+            if(lastReturnedIndex < nextIndex){// last move was next, one fewer element to the left
+                nextIndex--;
+            }
+            lastReturnedIndex = -1;
+            iterModCount++;
+            reseek();
+        }
+
+        @Override
+        public void set(T e) {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturnedIndex < 0){
+                throw new IllegalStateException();
+            }
+            lastChunk.elements[lastOffset] = e;
+            modCount++;
+            iterModCount++;
+        }
+
+        @Override
+        public void add(T e) {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            insertAt(nextIndex, e);
+            nextIndex++;// new element sits to the left of the cursor
+            lastReturnedIndex = -1;
+            iterModCount++;
+            reseek();
+        }
+    }
+
+    /**
+     * A Spliterator implementation for the {@code IUUnrolledList}.
+     * Splits off growing batches the way {@code NodeSpliterator} does, but copies
+     * whole chunk arrays at a time instead of one element per node. The batches are
+     * fail-fast against this list's modCount too.
+     */
+    private class UnrolledSpliterator implements Spliterator<T> {
+        private Chunk currentChunk;
+        private int currentOffset;
+        private int estimate;// elements left to visit, -1 until first use
+        private int expectedModCount;
+        private int batch;// size of the last batch split off
+
+        /**
+         * Constructs a spliterator that will start from head when first used.
+         */
+        public UnrolledSpliterator(){
+            estimate = -1;
+        }
+
+        /**
+         * Binds to the list on first use, so changes made between creating a stream
+         * and running it are still seen.
+         */
+        private int getEstimate(){
+            if(estimate < 0){
+                currentChunk = head;
+                currentOffset = 0;
+                estimate = size;
+                expectedModCount = modCount;
+            }
+            return estimate;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int remaining = getEstimate();
+            if(remaining <= 1 || currentChunk == null){
+                return null;
+            }
+            if(expectedModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            int count = Math.min(Math.min(batch + NodeSpliterator.BATCH_UNIT, remaining), NodeSpliterator.MAX_BATCH);
+            Object[] elements = new Object[count];
+            int taken = 0;
+            while(taken < count && currentChunk != null){
+                int run = Math.min(currentChunk.count - currentOffset, count - taken);
+                System.arraycopy(currentChunk.elements, currentOffset, elements, taken, run);
+                taken += run;
+                currentOffset += run;
+                if(currentOffset == currentChunk.count){
+                    currentChunk = currentChunk.next;
+                    currentOffset = 0;
+                }
+            }
+            batch = taken;
+            estimate = remaining - taken;
+            return new NodeSpliterator.Batch<T>(elements, 0, taken, () -> modCount, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(action == null){
+                throw new NullPointerException();
+            }
+            if(getEstimate() <= 0 || currentChunk == null){
+                return false;
+            }
+            estimate--;
+            T element = currentChunk.get(currentOffset++);
+            if(currentOffset == currentChunk.count){
+                currentChunk = currentChunk.next;
+                currentOffset = 0;
+            }
+            action.accept(element);
+            if(expectedModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if(action == null){
+                throw new NullPointerException();
+            }
+            int remaining = getEstimate();
+            Chunk chunk = currentChunk;
+            int offset = currentOffset;
+            currentChunk = null;
+            estimate = 0;
+            while(remaining > 0 && chunk != null){
+                int end = Math.min(chunk.count, offset + remaining);
+                Object[] elements = chunk.elements;// the action could split this chunk
+                remaining -= end - offset;
+                for(int i = offset; i < end; i++){
+                    @SuppressWarnings("unchecked")
+                    T element = (T)elements[i];
+                    action.accept(element);
+                }
+                chunk = chunk.next;
+                offset = 0;
+            }
+            if(expectedModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEstimate();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
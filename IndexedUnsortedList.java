@@ -1,4 +1,8 @@
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *  Interface for an Iterable, Indexed, Unsorted List ADT.
@@ -55,6 +59,38 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      */
     public void add(int index, T element);
 
+    /**  
+     * Adds every element of the given source to the rear of this list, in iteration order.
+     * Implementations override this to size and link the whole batch at once.
+     *
+     * @param elements the elements to be added to the rear of this list
+     */
+    public default void addAll(Iterable<? extends T> elements) {
+        addAll(size(), elements);
+    }
+
+    /**  
+     * Inserts every element of the given source, in iteration order, starting at the specified index.
+     * Elements at and after the index move back by the number of elements inserted.
+     * Implementations override this to make room for the whole batch in one pass.
+     *
+     * @param index    the index at which the first new element will be found
+     * @param elements the elements to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public default void addAll(int index, Iterable<? extends T> elements) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        ArrayList<T> batch = new ArrayList<T>();// copy first, so a list can add its own elements
+        for (T element : elements) {
+            batch.add(element);
+        }
+        for (T element : batch) {
+            add(index++, element);
+        }
+    }
+
     /**  
      * Removes and returns the first element from this list. 
      * 
@@ -89,6 +125,80 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      */
     public T remove(int index); 
         
+    /**  
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive.
+     * Elements after the range move forward to close the gap. An empty range changes nothing.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     */
+    public default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**  
+     * Removes every element from this list. 
+     * Implementations override this to drop their storage in O(1) rather than removing one at a time.
+     */
+    public default void clear() {
+        while (!isEmpty()) {
+            removeLast();
+        }
+    }
+    /**  
+     * Removes every element that matches the given predicate, keeping the rest in order.
+     * The predicate is tested on every element before any is removed, so a predicate that
+     * throws leaves the list unchanged and the exception is passed on. Matches are marked
+     * in a bit set on a first pass and removed on a second, so the predicate runs once
+     * per element. This default makes both passes through iterator(), removing one
+     * element at a time; implementations override it to unlink or pack the survivors
+     * in a single sweep with one modification.
+     *
+     * @param filter returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    public default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        BitSet matches = new BitSet(size());
+        int i = 0;
+        for (T element : this) {
+            if (filter.test(element)) {
+                matches.set(i);
+            }
+            i++;
+        }
+        if (i != size()) {// the predicate changed the list after the iterator's last check
+            throw new ConcurrentModificationException();
+        }
+        if (matches.isEmpty()) {
+            return false;
+        }
+        Iterator<T> it = iterator();
+        for (i = 0; it.hasNext(); i++) {
+            it.next();
+            if (matches.get(i)) {
+                it.remove();
+            }
+        }
+        return true;
+    }
+    /**  
+     * Removes every element that does not match the given predicate, keeping the matches in order.
+     *
+     * @param filter returns true for elements to be kept
+     * @return true if any element was removed
+     */
+    public default boolean retainIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        return removeIf(filter.negate());
+    }
+
     /**  
      * Replace the element at the specified index with the given element. 
      *
@@ -166,6 +276,34 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      * @return an Iterator over the elements in this list
      */
     public Iterator<T> iterator();
+    /**  
+     * Performs the action on every element, in order. Unlike a loop over iterator(), which
+     * checks for concurrent modification on every hasNext and next, this runs one tight loop
+     * over the list's storage and checks once, at the end, throwing
+     * ConcurrentModificationException if the list was changed during the traversal.
+     * The loop is bounded by the size at the start, so an action that adds to the list
+     * still ends and is reported. Several implementations build toString on this loop.
+     * This default hands the loop to the list's spliterator; implementations without their
+     * own spliterator override it.
+     *
+     * @param action the action to perform on each element
+     */
+    @Override
+    public default void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        spliterator().forEachRemaining(action);
+    }
+    /**  
+     * Performs the action on every element, in order, passing the element's index along
+     * with it. Checks for concurrent modification once, at the end, like forEach.
+     *
+     * @param action the action to perform on each index and element
+     */
+    public default void forEachIndexed(IntObjConsumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int[] index = {0};// a lambda can only update a captured variable through an array
+        forEach(element -> action.accept(index[0]++, element));
+    }
 
     /**  
      * Returns a ListIterator for the elements in this list. 
@@ -185,4 +323,39 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      * @throws UnsupportedOperationException if not implemented
      */
     public ListIterator<T> listIterator(int startingIndex);
+
+    /**  
+     * Returns a Spliterator for the elements in this list, reporting
+     * ORDERED, SIZED and SUBSIZED. Like iterators, spliterators are
+     * fail-fast and throw ConcurrentModificationException once they detect
+     * a change to the list made after traversal began.
+     * This default wraps iterator() and splits off array batches of it. It has
+     * no modification count to check those copied batches against, so only the
+     * part still read through the iterator is fail-fast; implementations
+     * override it to split their own storage and check every piece.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**  
+     * Returns a sequential Stream with this list as its source. 
+     *
+     * @return a sequential Stream over the elements in this list
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**  
+     * Returns a possibly parallel Stream with this list as its source. 
+     *
+     * @return a possibly parallel Stream over the elements in this list
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
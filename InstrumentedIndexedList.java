@@ -0,0 +1,377 @@
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+/**
+ * Decorator for any {@code IndexedUnsortedList} that records, for each interface method,
+ * how often it is called and how long it takes, in a {@code ListMetrics}. When the wrapped
+ * list is a {@code NodeTraversalCounter}, as the linked lists are, it also records how
+ * many nodes each call walked, which shows whether indexed access or searching is what
+ * a linked list spends its time on.
+ *
+ * Recording a call costs a few {@code LongAdder} increments, and only the calls the
+ * metrics sample for timing pay for reading the clock, so it adds tens of nanoseconds
+ * per call and can stay enabled in production. The metrics can be read at any time
+ * through metrics().snapshot() or, once registered, over JMX.
+ *
+ * Iterators are counted when created, not per step. The decorator adds no locking: it is
+ * as thread-safe as the list it wraps. To share a list between threads, wrap this in a
+ * {@code ConcurrentIndexedList}. This class is not {@code SharedReadSafe}, because the
+ * node counts it reads are a plain field of the wrapped list, so that wrapper runs reads
+ * under its write lock too. No two calls then overlap, which keeps the node counts exact.
+ * Wrapped the other way round, latencies would include lock waits and no nodes would be
+ * counted.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class InstrumentedIndexedList<T> implements IndexedUnsortedList<T> {
+    private final IndexedUnsortedList<T> list;
+    private final ListMetrics metrics;
+    private final NodeTraversalCounter traversals;// the wrapped list, if it counts nodes, otherwise null
+
+    /**
+     * Constructs an instrumented view of the given list with its own metrics.
+     *
+     * @param list the list to measure; all further access must go through this wrapper to be counted
+     */
+    public InstrumentedIndexedList(IndexedUnsortedList<T> list){
+        this(list, new ListMetrics());
+    }
+
+    /**
+     * Constructs an instrumented view of the given list that records into the given
+     * metrics, which may be shared with other instrumented lists.
+     *
+     * @param list    the list to measure
+     * @param metrics where to record calls
+     */
+    public InstrumentedIndexedList(IndexedUnsortedList<T> list, ListMetrics metrics){
+        this.list = list;
+        this.metrics = metrics;
+        traversals = (list instanceof NodeTraversalCounter) ? (NodeTraversalCounter)list : null;
+    }
+
+    /**
+     * Returns the metrics this list records into.
+     *
+     * @return the metrics
+     */
+    public ListMetrics metrics(){
+        return metrics;
+    }
+
+    /**
+     * Returns the wrapped list's running node count, or 0 if it keeps none.
+     */
+    private long nodes(){
+        return (traversals == null) ? 0 : traversals.nodesTraversed();
+    }
+
+    /**
+     * Records a finished call, with the nodes it walked if the list counts them.
+     */
+    private void record(ListMetrics.Operation operation, long start, long nodesBefore){
+        metrics.record(operation, start, (traversals == null) ? -1 : traversals.nodesTraversed() - nodesBefore);
+    }
+
+    @Override
+    public void addToFront(T element) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.addToFront(element);
+        } finally {
+            record(ListMetrics.Operation.addToFront, start, nodes);
+        }
+    }
+
+    @Override
+    public void addToRear(T element) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.addToRear(element);
+        } finally {
+            record(ListMetrics.Operation.addToRear, start, nodes);
+        }
+    }
+
+    @Override
+    public void add(T element) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.add(element);
+        } finally {
+            record(ListMetrics.Operation.add, start, nodes);
+        }
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.addAfter(element, target);
+        } finally {
+            record(ListMetrics.Operation.addAfter, start, nodes);
+        }
+    }
+
+    @Override
+    public void add(int index, T element) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.add(index, element);
+        } finally {
+            record(ListMetrics.Operation.addAtIndex, start, nodes);
+        }
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.addAll((elements == this) ? list : elements);// reading through this wrapper would count an iterator call
+        } finally {
+            record(ListMetrics.Operation.addAll, start, nodes);
+        }
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.addAll(index, (elements == this) ? list : elements);
+        } finally {
+            record(ListMetrics.Operation.addAll, start, nodes);
+        }
+    }
+
+    @Override
+    public T removeFirst() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.removeFirst();
+        } finally {
+            record(ListMetrics.Operation.removeFirst, start, nodes);
+        }
+    }
+
+    @Override
+    public T removeLast() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.removeLast();
+        } finally {
+            record(ListMetrics.Operation.removeLast, start, nodes);
+        }
+    }
+
+    @Override
+    public T remove(T element) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.remove(element);
+        } finally {
+            record(ListMetrics.Operation.removeElement, start, nodes);
+        }
+    }
+
+    @Override
+    public T remove(int index) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.remove(index);
+        } finally {
+            record(ListMetrics.Operation.removeAtIndex, start, nodes);
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.removeRange(fromIndex, toIndex);
+        } finally {
+            record(ListMetrics.Operation.removeRange, start, nodes);
+        }
+    }
+
+    /**
+     * Records the whole pass as one call; retainIf goes through here too.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.removeIf(filter);
+        } finally {
+            record(ListMetrics.Operation.removeIf, start, nodes);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.clear();
+        } finally {
+            record(ListMetrics.Operation.clear, start, nodes);
+        }
+    }
+
+    @Override
+    public void set(int index, T element) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.set(index, element);
+        } finally {
+            record(ListMetrics.Operation.set, start, nodes);
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.get(index);
+        } finally {
+            record(ListMetrics.Operation.get, start, nodes);
+        }
+    }
+
+    @Override
+    public int indexOf(T element) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.indexOf(element);
+        } finally {
+            record(ListMetrics.Operation.indexOf, start, nodes);
+        }
+    }
+
+    @Override
+    public T first() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.first();
+        } finally {
+            record(ListMetrics.Operation.first, start, nodes);
+        }
+    }
+
+    @Override
+    public T last() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.last();
+        } finally {
+            record(ListMetrics.Operation.last, start, nodes);
+        }
+    }
+
+    @Override
+    public boolean contains(T target) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.contains(target);
+        } finally {
+            record(ListMetrics.Operation.contains, start, nodes);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.isEmpty();
+        } finally {
+            record(ListMetrics.Operation.isEmpty, start, nodes);
+        }
+    }
+
+    @Override
+    public int size() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.size();
+        } finally {
+            record(ListMetrics.Operation.size, start, nodes);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.toString();
+        } finally {
+            record(ListMetrics.Operation.toString, start, nodes);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.forEach(action);
+        } finally {
+            record(ListMetrics.Operation.forEach, start, nodes);
+        }
+    }
+
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            list.forEachIndexed(action);
+        } finally {
+            record(ListMetrics.Operation.forEachIndexed, start, nodes);
+        }
+    }
+
+    /**
+     * Records the creation of the iterator; its steps and removals are not counted.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.iterator();
+        } finally {
+            record(ListMetrics.Operation.iterator, start, nodes);
+        }
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.listIterator();
+        } finally {
+            record(ListMetrics.Operation.listIterator, start, nodes);
+        }
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.listIterator(startingIndex);
+        } finally {
+            record(ListMetrics.Operation.listIterator, start, nodes);
+        }
+    }
+
+    /**
+     * Hands out the wrapped list's own spliterator, counted as an iterator.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        long nodes = nodes(), start = metrics.startTimer();
+        try {
+            return list.spliterator();
+        } finally {
+            record(ListMetrics.Operation.iterator, start, nodes);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.ConcurrentModificationException;
+/**
+ * Array-based implementation of the {@code IntIndexedList} interface.
+ * Same circular buffer layout as {@code IUArrayList}, but elements live directly in
+ * an {@code int[]}: each element costs 4 bytes in the array instead of a reference
+ * plus a 16-byte Integer object, and indexOf compares ints with == instead of
+ * calling Integer.equals through a pointer.
+ *
+ * @author Davina Causey
+ */
+public class IntIUArrayList implements IntIndexedList {
+    public static final int DEFAULT_CAPACITY = 10;
+    private int[] array;
+    private int front;// physical slot of the first element
+    private int size;
+    private int changeCount;
+
+    /**
+     * Constructs a new, empty {@code IntIUArrayList} with the default initial capacity.
+     */
+    public IntIUArrayList(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty {@code IntIUArrayList} with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the array
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public IntIUArrayList(int initialCapacity){
+        if(initialCapacity < 0){
+            throw new IllegalArgumentException();
+        }
+        array = new int[initialCapacity];
+        front = 0;
+        size = 0;
+        changeCount = 0;
+    }
+
+    /**
+     * Constructs an {@code IntIUArrayList} that takes over an already filled array,
+     * without copying it. Used by {@code ListSerializer} for bulk loads. The caller must
+     * not touch the array afterward.
+     *
+     * @param elements array holding the elements from slot 0
+     * @param size     number of elements in use
+     */
+    IntIUArrayList(int[] elements, int size){
+        array = elements;
+        front = 0;
+        this.size = size;
+        changeCount = 0;
+    }
+
+    /**
+     * Doubles the size of the internal array when the current capacity is reached.
+     * The wrapped contents are unrolled so that the first element lands in slot 0.
+     */
+    private void expandIfNecessary(){
+        if(array.length == size){
+            int[] newArray = new int[Math.max(DEFAULT_CAPACITY, array.length * 2)];
+            int firstRun = Math.min(size, array.length - front);// elements before the physical end
+            System.arraycopy(array, front, newArray, 0, firstRun);
+            System.arraycopy(array, 0, newArray, firstRun, size - firstRun);// elements that wrapped around
+            array = newArray;
+            front = 0;
+        }
+    }
+
+    /**
+     * Maps a logical list index onto its slot in the circular backing array.
+     *
+     * @param index logical index, 0 being the first element
+     * @return physical slot in {@code array}
+     */
+    private int physical(int index){
+        int slot = front + index;
+        if(slot >= array.length){// wrapped past the end of the array
+            slot -= array.length;
+        }
+        return slot;
+    }
+
+    /**
+     * Inserts the element at the given logical index, shifting whichever side of the
+     * list is shorter. Index must already be validated.
+     *
+     * @param index   logical index for the new element
+     * @param element element to insert
+     */
+    private void insertAt(int index, int element){
+        expandIfNecessary();
+        if(index < size / 2){// closer to the front, so slide the front half one slot left
+            front = (front == 0) ? array.length - 1 : front - 1;
+            for (int i = 0; i < index; i++) {
+                array[physical(i)] = array[physical(i + 1)];
+            }
+        }else{// closer to the rear, so slide the rear half one slot right
+            for (int i = size; i > index; i--) {
+                array[physical(i)] = array[physical(i - 1)];
+            }
+        }
+        array[physical(index)] = element;
+        size++;
+        changeCount++;
+    }
+
+    /**
+     * Removes and returns the element at the given logical index, closing the gap from
+     * whichever side of the list is shorter. There are no references to clear, so the
+     * vacated slot is simply left behind. Index must already be validated.
+     *
+     * @param index logical index of the element to remove
+     * @return the removed element
+     */
+    private int removeAt(int index){
+        int returnValue = array[physical(index)];
+        if(index < size / 2){// closer to the front, so slide the front half one slot right
+            for (int i = index; i > 0; i--) {
+                array[physical(i)] = array[physical(i - 1)];
+            }
+            front = (front == array.length - 1) ? 0 : front + 1;
+        }else{// closer to the rear, so slide the rear half one slot left
+            for (int i = index; i < size - 1; i++) {
+                array[physical(i)] = array[physical(i + 1)];
+            }
+        }
+        size--;
+        changeCount++;
+        return returnValue;
+    }
+
+    @Override
+    public void addToFront(int element) {
+        insertAt(0, element);
+    }
+
+    @Override
+    public void addToRear(int element) {
+        insertAt(size, element);
+    }
+
+    @Override
+    public void add(int element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(int element, int target) {
+        int targetIndex = indexOf(target);
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        insertAt(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, int element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+    }
+
+    @Override
+    public int removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public int removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(size - 1);
+    }
+
+    @Override
+    public int removeElement(int element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void clear() {
+        front = 0;// ints hold no references, so the array can be kept and reused
+        size = 0;
+        changeCount++;
+    }
+
+    @Override
+    public void set(int index, int element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        array[physical(index)] = element;
+        changeCount++;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return array[physical(index)];
+    }
+
+    @Override
+    public int indexOf(int element) {
+        // Scan the two physical runs directly, no wrap check per element
+        int firstRun = Math.min(size, array.length - front);
+        for (int i = 0; i < firstRun; i++) {
+            if (array[front + i] == element) {
+                return i;
+            }
+        }
+        for (int i = firstRun; i < size; i++) {
+            if (array[i - firstRun] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[front];
+    }
+
+    @Override
+    public int last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[physical(size - 1)];
+    }
+
+    @Override
+    public boolean contains(int target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the elements in list order.
+     *
+     * @return a new array holding every element
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int firstRun = Math.min(size, array.length - front);
+        System.arraycopy(array, front, result, 0, firstRun);
+        System.arraycopy(array, 0, result, firstRun, size - firstRun);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntALIterator();
+    }
+
+    /**
+     * An iterator implementation for the {@code IntIUArrayList}.
+     * nextInt() hands out elements without boxing them.
+     */
+    private class IntALIterator implements PrimitiveIterator.OfInt {
+        private int nextIndex;
+        private boolean canRemove;
+        private int expectedChangeCount;
+
+        /**
+         * Constructs a new iterator positioned before the first element.
+         */
+        public IntALIterator(){
+            nextIndex = 0;
+            canRemove = false;
+            expectedChangeCount = changeCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(expectedChangeCount != changeCount){//check if something changed
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            canRemove = true;
+            nextIndex++;
+            return array[physical(nextIndex - 1)];
+        }
+
+        @Override
+        public void remove(){
+            if(expectedChangeCount != changeCount){//check if something changed
+                throw new ConcurrentModificationException();
+            }
+            if(!canRemove){
+                throw new IllegalStateException();
+            }
+            canRemove = false;
+            removeAt(nextIndex - 1);
+            nextIndex--;//Stay in front of the next element
+            expectedChangeCount++;
+        }
+    }
+}
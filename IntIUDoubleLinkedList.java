@@ -0,0 +1,365 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.ConcurrentModificationException;
+/**
+ * Double-linked implementation of {@code IntIndexedList} without node objects.
+ * Node i is slot i of three parallel arrays: {@code elements[i]} holds the value and
+ * {@code next[i]} and {@code prev[i]} hold the slots of its neighbors, with NIL
+ * marking the ends. A node costs 12 bytes of array space, where a {@code Node}
+ * holding an Integer costs a 24-byte object plus a 16-byte Integer, and the
+ * garbage collector sees three arrays instead of 2n small objects.
+ * Slots freed by removal are chained through {@code next} into a free list and
+ * reused before the arrays grow.
+ *
+ * @author Davina Causey
+ */
+public class IntIUDoubleLinkedList implements IntIndexedList {
+    public static final int DEFAULT_CAPACITY = 10;
+    private static final int NIL = -1;// "null" link
+    private int[] elements;
+    private int[] next;
+    private int[] prev;
+    private int head, tail;
+    private int free;// first slot of the free list, chained through next
+    private int used;// slots at or past this index have never been handed out
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructs a new, empty {@code IntIUDoubleLinkedList} with the default initial capacity.
+     */
+    public IntIUDoubleLinkedList(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty {@code IntIUDoubleLinkedList} with room for the given
+     * number of nodes before its arrays grow.
+     *
+     * @param initialCapacity the initial number of node slots
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public IntIUDoubleLinkedList(int initialCapacity){
+        if(initialCapacity < 0){
+            throw new IllegalArgumentException();
+        }
+        elements = new int[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+        head = tail = free = NIL;
+        used = 0;
+        size = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Hands out a slot for a new, unlinked node, from the free list if possible and
+     * otherwise from the unused end of the arrays, doubling them when full.
+     *
+     * @param element value for the new node
+     * @return slot of the new node
+     */
+    private int allocate(int element){
+        int slot;
+        if(free != NIL){
+            slot = free;
+            free = next[slot];
+        }else{
+            if(used == elements.length){
+                int capacity = Math.max(DEFAULT_CAPACITY, elements.length * 2);
+                elements = Arrays.copyOf(elements, capacity);
+                next = Arrays.copyOf(next, capacity);
+                prev = Arrays.copyOf(prev, capacity);
+            }
+            slot = used++;
+        }
+        elements[slot] = element;
+        next[slot] = prev[slot] = NIL;
+        return slot;
+    }
+
+    /**
+     * Returns the slot of the node at the given index, walking from whichever end
+     * is closer. Index must already be validated.
+     *
+     * @param index index of the node to find
+     * @return slot of the node at that index
+     */
+    private int nodeAt(int index){
+        int slot;
+        if(index < size / 2){
+            slot = head;
+            for(int i = 0; i < index; i++){
+                slot = next[slot];
+            }
+        }else{
+            slot = tail;
+            for(int i = size - 1; i > index; i--){
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Links a new node holding element in front of the node at slot before, or at
+     * the rear when before is NIL.
+     *
+     * @param element value for the new node
+     * @param before  slot of the node that will follow the new one, or NIL
+     */
+    private void linkBefore(int element, int before){
+        int slot = allocate(element);
+        int previous = (before == NIL) ? tail : prev[before];// node that will precede the new one
+        next[slot] = before;
+        prev[slot] = previous;
+        if(previous == NIL){
+            head = slot;
+        }else{
+            next[previous] = slot;
+        }
+        if(before == NIL){
+            tail = slot;
+        }else{
+            prev[before] = slot;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Unlinks the node at the given slot and puts the slot on the free list.
+     *
+     * @param slot slot of the node to remove
+     * @return the removed element
+     */
+    private int unlink(int slot){
+        int before = prev[slot];
+        int after = next[slot];
+        if(before == NIL){
+            head = after;
+        }else{
+            next[before] = after;
+        }
+        if(after == NIL){
+            tail = before;
+        }else{
+            prev[after] = before;
+        }
+        next[slot] = free;
+        free = slot;
+        size--;
+        modCount++;
+        return elements[slot];
+    }
+
+    @Override
+    public void addToFront(int element) {
+        linkBefore(element, head);
+    }
+
+    @Override
+    public void addToRear(int element) {
+        linkBefore(element, NIL);
+    }
+
+    @Override
+    public void add(int element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(int element, int target) {
+        int slot = head;
+        while(slot != NIL && elements[slot] != target){
+            slot = next[slot];
+        }
+        if(slot == NIL){
+            throw new NoSuchElementException();
+        }
+        linkBefore(element, next[slot]);
+    }
+
+    @Override
+    public void add(int index, int element) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        linkBefore(element, (index == size) ? NIL : nodeAt(index));
+    }
+
+    @Override
+    public int removeFirst() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return unlink(head);
+    }
+
+    @Override
+    public int removeLast() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return unlink(tail);
+    }
+
+    @Override
+    public int removeElement(int element) {
+        int slot = head;
+        while(slot != NIL && elements[slot] != element){
+            slot = next[slot];
+        }
+        if(slot == NIL){
+            throw new NoSuchElementException();
+        }
+        return unlink(slot);
+    }
+
+    @Override
+    public int remove(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(nodeAt(index));
+    }
+
+    @Override
+    public void clear() {
+        head = tail = free = NIL;// every slot becomes unused again, the arrays are kept
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void set(int index, int element) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        elements[nodeAt(index)] = element;
+        modCount++;
+    }
+
+    @Override
+    public int get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return elements[nodeAt(index)];
+    }
+
+    @Override
+    public int indexOf(int element) {
+        int index = 0;
+        for(int slot = head; slot != NIL; slot = next[slot]){
+            if(elements[slot] == element){
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int first() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    @Override
+    public int last() {
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return elements[tail];
+    }
+
+    @Override
+    public boolean contains(int target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder();
+        str.append("[");
+        for(int slot = head; slot != NIL; slot = next[slot]){
+            str.append(elements[slot]);
+            str.append(", ");
+        }
+        if(size > 0){
+            str.delete(str.length() - 2, str.length()); // remove trailing ", "
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntDLLIterator();
+    }
+
+    /**
+     * An iterator implementation for the {@code IntIUDoubleLinkedList}.
+     * Removal unlinks the last returned node directly, so it is O(1).
+     */
+    private class IntDLLIterator implements PrimitiveIterator.OfInt {
+        private int nextSlot;
+        private int lastReturnedSlot;// NIL when remove is not allowed
+        private int iterModCount;
+
+        /**
+         * Constructs a new iterator positioned before the first element.
+         */
+        public IntDLLIterator(){
+            nextSlot = head;
+            lastReturnedSlot = NIL;
+            iterModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            return nextSlot != NIL;
+        }
+
+        @Override
+        public int nextInt() {
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            lastReturnedSlot = nextSlot;
+            nextSlot = next[nextSlot];
+            return elements[lastReturnedSlot];
+        }
+
+        @Override
+        public void remove() {
+            if(iterModCount != modCount){
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturnedSlot == NIL){
+                throw new IllegalStateException();
+            }
+            unlink(lastReturnedSlot);
+            lastReturnedSlot = NIL;
+            iterModCount++;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+import java.util.*;
+
+/**
+ *  Interface for an indexed, unsorted list of primitive int values.
+ *  It mirrors {@code IndexedUnsortedList<Integer>} method for method, but
+ *  elements are stored and passed as raw ints, so no Integer objects are
+ *  allocated on add and no Integer.equals calls are made on search.
+ *  Iterators are required to be "fail-fast", just as in IndexedUnsortedList.
+ *  Because remove(int) already means "remove at index", removal by value
+ *  is named removeElement(int).
+ *  Wrap an implementation in {@code IntListAdapter} wherever an
+ *  {@code IndexedUnsortedList<Integer>} is required.
+ *
+ * @author CS 221
+ */
+public interface IntIndexedList extends Iterable<Integer>
+{
+    /**
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    public void addToFront(int element);
+
+    /**
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    public void addToRear(int element);
+
+    /**
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    public void add(int element);
+
+    /**
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    public void addAfter(int element, int target);
+
+    /**
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public void add(int index, int element);
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public int removeFirst();
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public int removeLast();
+
+    /**
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    public int removeElement(int element);
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public int remove(int index);
+
+    /**
+     * Removes every element from this list.
+     */
+    public void clear();
+
+    /**
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public void set(int index, int element);
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index  the index of the element to return
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public int get(int index);
+
+    /**
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    public int indexOf(int element);
+
+    /**
+     * Returns the first element in this list.
+     *
+     * @return the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public int first();
+
+    /**
+     * Returns the last element in this list.
+     *
+     * @return the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public int last();
+
+    /**
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    public boolean contains(int target);
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    public int size();
+
+    /**
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    public String toString();
+
+    /**
+     * Returns an iterator over the elements in this list. Use nextInt()
+     * rather than next() to read elements without boxing them.
+     *
+     * @return a PrimitiveIterator.OfInt over the elements in this list
+     */
+    public PrimitiveIterator.OfInt iterator();
+}
@@ -0,0 +1,153 @@
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Presents an {@code IntIndexedList} as an {@code IndexedUnsortedList<Integer>}, so the
+ * primitive lists can be used wherever the generic interface is expected.
+ * Integers are unboxed on the way in and boxed on the way out; the wrapped list still
+ * stores raw ints. A null element can never be in the list, so searching for one finds
+ * nothing rather than failing to unbox.
+ * Code that wants to avoid boxing entirely should call the primitive methods on
+ * {@code getIntList()} instead.
+ *
+ * @author Davina Causey
+ */
+public class IntListAdapter implements IndexedUnsortedList<Integer> {
+    private final IntIndexedList list;
+
+    /**
+     * Constructs an adapter over the given primitive list. Changes made through either
+     * one are visible through the other.
+     *
+     * @param list the primitive list to present
+     */
+    public IntListAdapter(IntIndexedList list){
+        this.list = list;
+    }
+
+    /**
+     * Returns the wrapped primitive list.
+     *
+     * @return the primitive list backing this adapter
+     */
+    public IntIndexedList getIntList(){
+        return list;
+    }
+
+    @Override
+    public void addToFront(Integer element) {
+        list.addToFront(element);
+    }
+
+    @Override
+    public void addToRear(Integer element) {
+        list.addToRear(element);
+    }
+
+    @Override
+    public void add(Integer element) {
+        list.add(element.intValue());// intValue() picks add(int element) over add(int index, ...)
+    }
+
+    @Override
+    public void addAfter(Integer element, Integer target) {
+        if(target == null){
+            throw new NoSuchElementException();
+        }
+        list.addAfter(element, target);
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        list.add(index, element.intValue());
+    }
+
+    @Override
+    public Integer removeFirst() {
+        return list.removeFirst();
+    }
+
+    @Override
+    public Integer removeLast() {
+        return list.removeLast();
+    }
+
+    @Override
+    public Integer remove(Integer element) {
+        if(element == null){
+            throw new NoSuchElementException();
+        }
+        return list.removeElement(element);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    @Override
+    public void set(int index, Integer element) {
+        list.set(index, element);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int indexOf(Integer element) {
+        return (element == null) ? -1 : list.indexOf(element);
+    }
+
+    @Override
+    public Integer first() {
+        return list.first();
+    }
+
+    @Override
+    public Integer last() {
+        return list.last();
+    }
+
+    @Override
+    public boolean contains(Integer target) {
+        return target != null && list.contains(target);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return list.iterator();// PrimitiveIterator.OfInt is already an Iterator<Integer>
+    }
+
+    @Override
+    public ListIterator<Integer> listIterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ListIterator<Integer> listIterator(int startingIndex) {
+        throw new UnsupportedOperationException();
+    }
+}
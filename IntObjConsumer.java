@@ -0,0 +1,18 @@
+/**
+ * An action that takes an element together with its index in a list, used by
+ * {@code IndexedUnsortedList.forEachIndexed}. The index is passed as a plain int,
+ * so no Integer is boxed per element.
+ *
+ * @param <T> the type of elements passed to the action
+ * @author Davina Causey
+ */
+@FunctionalInterface
+public interface IntObjConsumer<T> {
+    /**
+     * Performs this action on one element.
+     *
+     * @param index   index of the element in the list
+     * @param element the element
+     */
+    public void accept(int index, T element);
+}
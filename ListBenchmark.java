@@ -0,0 +1,384 @@
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Micro-benchmark for lists that implement IndexedUnsortedList.
+ * Times every interface operation for each implementation at each list size
+ * and reports the mean cost per call as JSON, so runs can be compared across builds.
+ *
+ * Each measurement warms up first, then runs several timed iterations. An iteration
+ * calibrates a batch size so O(1) and O(n) operations both get enough calls to time,
+ * and rebuilds the list (untimed) whenever adds or removes have drifted its size
+ * by more than half.
+ *
+ * Valid command line args include:
+ *  -lists arrayList,doubleLinkedList : implementations to run (default all)
+ *  -sizes 10,1000                    : list sizes to run (default 10,1000,100000,1000000)
+ *  -ops get,set                      : operations to run (default all)
+ *  -capacity 1000000                 : grow each list to this many elements and trim it
+ *                                      back to size before timing, so array lists carry
+ *                                      spare capacity; costs should track size, not this
+ *  -o results.json                   : write JSON to a file instead of the console
+ *
+ * Compile and run from the directory containing all source files:
+ *  $ javac ListBenchmark.java
+ *  $ java ListBenchmark -sizes 10,1000
+ */
+public class ListBenchmark {
+	//lists that can be benchmarked, same names as in ListTester
+	private static enum ListToUse {
+		goodList, arrayList, singleLinkedList, doubleLinkedList, treeList, unrolledList,
+		hashIndexedDoubleLinkedList, intArrayList, intDoubleLinkedList, pooledLinkedList, offHeapList,
+		mappedList, copyOnWriteArrayList, adaptiveList, instrumentedList
+	};
+
+	//every operation in the IndexedUnsortedList interface
+	private static enum Operation {
+		addToFront, addToRear, addAfter, addAtIndex,
+		removeFirst, removeLast, removeElement, removeAtIndex,
+		get, set, indexOf, contains, toString, iteration
+	};
+
+	private static final int[] DEFAULT_SIZES = {10, 1000, 100000, 1000000};
+	private static final int WARMUP_ITERATIONS = 3;
+	private static final int MEASURED_ITERATIONS = 5;
+	private static final long ITERATION_NANOS = 100_000_000L;// time spent in each iteration
+	private static final int RANDOM_COUNT = 1 << 16;// pre-drawn random values, so Random stays out of the timed loop
+	private static final long STRIDE = 1_000_003L;// prime, scatters removeElement targets over the list
+
+	private static volatile long sink;// results are folded in here so the JIT cannot drop the calls
+
+	private final int[] randoms;
+	private ArrayList<ListToUse> lists = new ArrayList<ListToUse>();
+	private ArrayList<Operation> ops = new ArrayList<Operation>();
+	private int[] sizes = DEFAULT_SIZES;
+	private int capacity = 0;// elements each list is grown to before being trimmed to size
+	private String outputFile = null;
+
+	/**
+	 * Runs the benchmark described by the command line args.
+	 * @param args see class comment
+	 */
+	public static void main(String[] args) throws IOException {
+		ListBenchmark benchmark = new ListBenchmark(args);
+		benchmark.run();
+	}
+
+	/** benchmark constructor
+	 * @param args command line args
+	 */
+	public ListBenchmark(String[] args) {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equalsIgnoreCase("-lists")) {
+				for (String name : args[i + 1].split(",")) {
+					lists.add(ListToUse.valueOf(name));
+				}
+			} else if (args[i].equalsIgnoreCase("-sizes")) {
+				String[] values = args[i + 1].split(",");
+				sizes = new int[values.length];
+				for (int j = 0; j < values.length; j++) {
+					sizes[j] = Integer.parseInt(values[j]);
+				}
+			} else if (args[i].equalsIgnoreCase("-ops")) {
+				for (String name : args[i + 1].split(",")) {
+					ops.add(Operation.valueOf(name));
+				}
+			} else if (args[i].equalsIgnoreCase("-capacity")) {
+				capacity = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-o")) {
+				outputFile = args[i + 1];
+			}
+		}
+		if (lists.isEmpty()) {
+			for (ListToUse list : ListToUse.values()) {
+				lists.add(list);
+			}
+		}
+		if (ops.isEmpty()) {
+			for (Operation op : Operation.values()) {
+				ops.add(op);
+			}
+		}
+		Random rand = new Random(221);
+		randoms = new int[RANDOM_COUNT];
+		for (int i = 0; i < RANDOM_COUNT; i++) {
+			randoms[i] = rand.nextInt(Integer.MAX_VALUE);
+		}
+	}
+
+	/**
+	 * Returns a new, empty list of the given kind.
+	 *
+	 * @param listToUse implementation to construct
+	 * @return a new, empty IndexedUnsortedList
+	 */
+	private static IndexedUnsortedList<Integer> newList(ListToUse listToUse) {
+		IndexedUnsortedList<Integer> list;
+		switch (listToUse) {
+		case goodList:
+			list = new GoodList<Integer>();
+			break;
+		case arrayList:
+			list = new IUArrayList<Integer>();
+			break;
+		case singleLinkedList:
+			list = new IUSingleLinkedList<Integer>();
+			break;
+		case doubleLinkedList:
+			list = new IUDoubleLinkedList<Integer>();
+			break;
+		case hashIndexedDoubleLinkedList:
+			list = new IUDoubleLinkedList<Integer>(true);
+			break;
+		case treeList:
+			list = new IUTreeList<Integer>();
+			break;
+		case unrolledList:
+			list = new IUUnrolledList<Integer>();
+			break;
+		case intArrayList:
+			list = new IntListAdapter(new IntIUArrayList());
+			break;
+		case intDoubleLinkedList:
+			list = new IntListAdapter(new IntIUDoubleLinkedList());
+			break;
+		case pooledLinkedList:
+			list = new IUPooledLinkedList<Integer>();
+			break;
+		case offHeapList:
+			list = new OffHeapIUList<Integer>(ElementCodec.INTEGER);
+			break;
+		case mappedList:
+			list = new MappedIUList<Integer>(ElementCodec.INTEGER);
+			break;
+		case copyOnWriteArrayList:
+			list = new CopyOnWriteIUArrayList<Integer>();
+			break;
+		case adaptiveList:
+			list = new AdaptiveIndexedList<Integer>();
+			break;
+		case instrumentedList:
+			list = new InstrumentedIndexedList<Integer>(new IUDoubleLinkedList<Integer>());
+			break;
+		default:
+			list = null;
+		}
+		return list;
+	}
+
+	/**
+	 * Builds a list holding 0 .. size - 1 in order. With -capacity it first grows the
+	 * list to that many elements and then cuts it back, leaving any backing array large.
+	 */
+	private IndexedUnsortedList<Integer> buildList(ListToUse listToUse, int size) {
+		IndexedUnsortedList<Integer> list = newList(listToUse);
+		int grown = Math.max(size, capacity);
+		for (int i = 0; i < grown; i++) {
+			list.addToRear(i);
+		}
+		list.removeRange(size, grown);
+		return list;
+	}
+
+	/** Runs every selected list, size and operation and prints or writes the JSON report */
+	private void run() throws IOException {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n  \"jvm\": \"").append(System.getProperty("java.vm.name")).append(' ')
+				.append(System.getProperty("java.version")).append("\",\n");
+		json.append("  \"unit\": \"ns/op\",\n  \"results\": [");
+		boolean firstResult = true;
+		for (ListToUse listToUse : lists) {
+			for (int size : sizes) {
+				for (Operation op : ops) {
+					double[] scores = measure(listToUse, size, op);
+					System.err.printf("%-18s %9d %-14s %14.1f ns/op +- %.1f\n", listToUse, size, op, scores[0], scores[1]);
+					json.append(firstResult ? "\n" : ",\n");
+					json.append(String.format("    {\"list\": \"%s\", \"size\": %d, \"operation\": \"%s\", \"score\": %.3f, \"error\": %.3f, \"iterations\": %d}",
+							listToUse, size, op, scores[0], scores[1], MEASURED_ITERATIONS));
+					firstResult = false;
+				}
+			}
+		}
+		json.append("\n  ]\n}\n");
+		if (outputFile == null) {
+			System.out.print(json);
+		} else {
+			FileWriter out = new FileWriter(outputFile);
+			out.write(json.toString());
+			out.close();
+		}
+	}
+
+	/**
+	 * Warms up and then times one operation on one list at one size.
+	 *
+	 * @return mean ns/op across measured iterations and its standard deviation
+	 */
+	private double[] measure(ListToUse listToUse, int size, Operation op) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			iteration(listToUse, size, op);
+		}
+		double[] results = new double[MEASURED_ITERATIONS];
+		double sum = 0;
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			results[i] = iteration(listToUse, size, op);
+			sum += results[i];
+		}
+		double mean = sum / MEASURED_ITERATIONS;
+		double squares = 0;
+		for (double result : results) {
+			squares += (result - mean) * (result - mean);
+		}
+		return new double[] {mean, Math.sqrt(squares / MEASURED_ITERATIONS)};
+	}
+
+	/**
+	 * Runs timed batches of the operation for about ITERATION_NANOS.
+	 * The batch size doubles until a batch takes a measurable slice of the iteration,
+	 * so cheap operations are not dominated by timer overhead and expensive ones
+	 * don't overrun.
+	 *
+	 * @return mean ns/op for this iteration
+	 */
+	private double iteration(ListToUse listToUse, int size, Operation op) {
+		IndexedUnsortedList<Integer> list = buildList(listToUse, size);
+		int drift = 0;// how far adds and removes have moved the list away from size
+		int maxDrift = Math.max(1, size / 2);
+		int batch = 1;
+		long timed = 0;
+		long calls = 0;
+		int cursor = 0;// position in randoms
+		while (timed < ITERATION_NANOS) {
+			if (isMutator(op)) {
+				if (drift >= maxDrift) {
+					list = buildList(listToUse, size);
+					drift = 0;
+				}
+				batch = Math.min(batch, maxDrift - drift);
+			}
+			if (cursor + batch > RANDOM_COUNT) {
+				cursor = 0;
+			}
+			long start = System.nanoTime();
+			runBatch(list, op, batch, cursor, size, drift);
+			long elapsed = System.nanoTime() - start;
+			timed += elapsed;
+			calls += batch;
+			cursor += batch;
+			if (isMutator(op)) {
+				drift += batch;
+			}
+			if (elapsed < ITERATION_NANOS / 10 && batch < RANDOM_COUNT / 2) {
+				batch *= 2;
+			}
+		}
+		return (double) timed / calls;
+	}
+
+	/**
+	 * True for operations that change the size of the list.
+	 */
+	private static boolean isMutator(Operation op) {
+		switch (op) {
+		case addToFront: case addToRear: case addAfter: case addAtIndex:
+		case removeFirst: case removeLast: case removeElement: case removeAtIndex:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Calls the operation count times. Indexes and elements come from the pre-drawn
+	 * randoms, starting at the given offset.
+	 *
+	 * @param built number of elements the list was built with
+	 * @param drift number of adds or removes already applied since it was built
+	 */
+	private void runBatch(IndexedUnsortedList<Integer> list, Operation op, int count, int offset, int built, int drift) {
+		long result = 0;
+		int size = list.size();
+		switch (op) {
+		case addToFront:
+			for (int i = 0; i < count; i++) {
+				list.addToFront(i);
+			}
+			break;
+		case addToRear:
+			for (int i = 0; i < count; i++) {
+				list.addToRear(i);
+			}
+			break;
+		case addAfter:
+			for (int i = 0; i < count; i++) {
+				list.addAfter(-1, randoms[offset + i] % built);// original elements are never removed by this op
+			}
+			break;
+		case addAtIndex:
+			for (int i = 0; i < count; i++) {
+				list.add(randoms[offset + i] % (size + i + 1), i);
+			}
+			break;
+		case removeFirst:
+			for (int i = 0; i < count; i++) {
+				result += list.removeFirst();
+			}
+			break;
+		case removeLast:
+			for (int i = 0; i < count; i++) {
+				result += list.removeLast();
+			}
+			break;
+		case removeElement:
+			for (int i = 0; i < count; i++) {
+				// stepping by a large prime visits each of the built values 0 .. built - 1 once,
+				// so every removal targets a value still in the list
+				result += list.remove(Integer.valueOf((int) ((drift + i) * STRIDE % built)));
+			}
+			break;
+		case removeAtIndex:
+			for (int i = 0; i < count; i++) {
+				result += list.remove(randoms[offset + i] % (size - i));
+			}
+			break;
+		case get:
+			for (int i = 0; i < count; i++) {
+				result += list.get(randoms[offset + i] % size);
+			}
+			break;
+		case set:
+			for (int i = 0; i < count; i++) {
+				int index = randoms[offset + i] % size;
+				list.set(index, index);// keeps contents unchanged for the other operations
+			}
+			break;
+		case indexOf:
+			for (int i = 0; i < count; i++) {
+				result += list.indexOf(randoms[offset + i] % size);
+			}
+			break;
+		case contains:
+			for (int i = 0; i < count; i++) {
+				result += list.contains(randoms[offset + i] % size) ? 1 : 0;
+			}
+			break;
+		case toString:
+			for (int i = 0; i < count; i++) {
+				result += list.toString().length();
+			}
+			break;
+		case iteration:
+			for (int i = 0; i < count; i++) {
+				Iterator<Integer> it = list.iterator();
+				while (it.hasNext()) {
+					result += it.next();
+				}
+			}
+			break;
+		}
+		sink += result;
+	}
+}
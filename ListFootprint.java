@@ -0,0 +1,447 @@
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+/**
+ * Memory footprint report for lists that implement IndexedUnsortedList.
+ * Builds each implementation at each size by repeated addToRear and reports the
+ * heap retained by the list structure itself, split into node objects, backing
+ * arrays, wasted array capacity (empty slots) and everything else.
+ * Element payloads (the Integers stored in the list) are not counted, since any
+ * list holding the same elements pays for them equally. The exceptions are the
+ * primitive int lists, which store values inline and allocate no Integers: their
+ * totals already include the elements, so compare them against a boxed list's
+ * total plus 16 bytes per element for the Integer objects.
+ * The off-heap and mapped lists keep their elements outside the heap, in a direct
+ * buffer or a mapped file, so their rows show only the buffer objects; the elements
+ * take 4 bytes each (times spare capacity) of memory that this report cannot see.
+ *
+ * Sizes are computed by walking the object graph with reflection and applying the
+ * running JVM's object layout: header size, reference size with or without
+ * compressed oops, and object alignment. The JDK does not open its own packages to
+ * reflection, so the HashMap, HashSet and LinkedList inside some implementations
+ * (the hash index, GoodList) and the atomics inside ListMetrics are sized from
+ * their public size and the layout of their entry classes instead, assuming they
+ * only grew and were never contended; those rows are marked as estimated. Starting the JVM with
+ *  --add-opens java.base/java.util=ALL-UNNAMED
+ * walks java.util exactly. Any other JDK object that cannot be looked inside is
+ * counted without what it references and its row is marked partial: a lower bound,
+ * not a figure to compare with the other rows.
+ *
+ * Valid command line args include:
+ *  -sizes 10,1000      : list sizes to build (default 10,1000,100000)
+ *  -budget 24          : bytes per element allowed, rows over budget are flagged
+ *
+ * Compile and run from the directory containing all source files:
+ *  $ javac ListFootprint.java
+ *  $ java ListFootprint -budget 24
+ */
+public class ListFootprint {
+	//lists that can be measured, same names as in ListTester
+	private static enum ListToUse {
+		goodList, arrayList, singleLinkedList, doubleLinkedList, treeList, unrolledList,
+		hashIndexedDoubleLinkedList, intArrayList, intDoubleLinkedList, pooledLinkedList, offHeapList,
+		mappedList, copyOnWriteArrayList, adaptiveList, instrumentedList
+	};
+
+	private static final int[] DEFAULT_SIZES = {10, 1000, 100000};
+
+	//object layout of the running JVM
+	private final int referenceSize;
+	private final int objectHeader;
+	private final int arrayHeader;
+	private final int alignment;
+
+	private int[] sizes = DEFAULT_SIZES;
+	private double budget = -1;// no budget unless given on the command line
+
+	/**
+	 * Running totals for one walked list.
+	 */
+	private static class Footprint {
+		private long nodeBytes;// non-array objects other than the list itself
+		private long arrayBytes;// backing arrays, including their empty slots
+		private long wastedBytes;// empty slots in reference arrays, a subset of arrayBytes
+		private long otherBytes;// the list object itself
+		private boolean partial;// some object could not be looked inside
+		private boolean estimated;// some JDK collection was sized from its public size
+
+		private long total() {
+			return nodeBytes + arrayBytes + otherBytes;
+		}
+	}
+
+	/**
+	 * Runs the report described by the command line args.
+	 * @param args see class comment
+	 */
+	public static void main(String[] args) {
+		ListFootprint report = new ListFootprint(args);
+		report.run();
+	}
+
+	/** report constructor
+	 * @param args command line args
+	 */
+	public ListFootprint(String[] args) {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equalsIgnoreCase("-sizes")) {
+				String[] values = args[i + 1].split(",");
+				sizes = new int[values.length];
+				for (int j = 0; j < values.length; j++) {
+					sizes[j] = Integer.parseInt(values[j]);
+				}
+			} else if (args[i].equalsIgnoreCase("-budget")) {
+				budget = Double.parseDouble(args[i + 1]);
+			}
+		}
+		boolean compressedOops = true;
+		boolean compressedClassPointers = true;
+		int objectAlignment = 8;
+		try {
+			HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+			compressedOops = Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedOops").getValue());
+			compressedClassPointers = Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedClassPointers").getValue());
+			objectAlignment = Integer.parseInt(hotSpot.getVMOption("ObjectAlignmentInBytes").getValue());
+		} catch (RuntimeException e) {
+			// not HotSpot, keep the usual 64-bit defaults
+		}
+		referenceSize = compressedOops ? 4 : 8;
+		objectHeader = compressedClassPointers ? 12 : 16;// mark word plus class pointer
+		arrayHeader = objectHeader + 4;// plus the length field
+		alignment = objectAlignment;
+	}
+
+	/**
+	 * Returns a new, empty list of the given kind.
+	 *
+	 * @param listToUse implementation to construct
+	 * @return a new, empty IndexedUnsortedList
+	 */
+	private static IndexedUnsortedList<Integer> newList(ListToUse listToUse) {
+		IndexedUnsortedList<Integer> list;
+		switch (listToUse) {
+		case goodList:
+			list = new GoodList<Integer>();
+			break;
+		case arrayList:
+			list = new IUArrayList<Integer>();
+			break;
+		case singleLinkedList:
+			list = new IUSingleLinkedList<Integer>();
+			break;
+		case doubleLinkedList:
+			list = new IUDoubleLinkedList<Integer>();
+			break;
+		case hashIndexedDoubleLinkedList:
+			list = new IUDoubleLinkedList<Integer>(true);
+			break;
+		case treeList:
+			list = new IUTreeList<Integer>();
+			break;
+		case unrolledList:
+			list = new IUUnrolledList<Integer>();
+			break;
+		case intArrayList:
+			list = new IntListAdapter(new IntIUArrayList());
+			break;
+		case intDoubleLinkedList:
+			list = new IntListAdapter(new IntIUDoubleLinkedList());
+			break;
+		case pooledLinkedList:
+			list = new IUPooledLinkedList<Integer>();
+			break;
+		case offHeapList:
+			list = new OffHeapIUList<Integer>(ElementCodec.INTEGER);
+			break;
+		case mappedList:
+			list = new MappedIUList<Integer>(ElementCodec.INTEGER);
+			break;
+		case copyOnWriteArrayList:
+			list = new CopyOnWriteIUArrayList<Integer>();
+			break;
+		case adaptiveList:
+			list = new AdaptiveIndexedList<Integer>();
+			break;
+		case instrumentedList:
+			list = new InstrumentedIndexedList<Integer>(new IUDoubleLinkedList<Integer>());
+			break;
+		default:
+			list = null;
+		}
+		return list;
+	}
+
+	/** Builds every list at every size and prints the table */
+	private void run() {
+		System.out.printf("Layout: %d-byte references, %d-byte object header, %d-byte alignment%n",
+				referenceSize, objectHeader, alignment);
+		System.out.println("Element payloads are excluded; bytes are retained by list structure only.");
+		System.out.println();
+		int nameWidth = 0;
+		for (ListToUse listToUse : ListToUse.values()) {
+			nameWidth = Math.max(nameWidth, listToUse.name().length());
+		}
+		String format = "%-" + nameWidth + "s %9s %12s %8s %12s %12s %12s %10s %s%n";
+		System.out.printf(format, "list", "size", "total(B)", "B/elem", "nodes(B)", "arrays(B)", "wasted(B)", "other(B)", "");
+		boolean anyPartial = false;
+		boolean anyEstimated = false;
+		for (ListToUse listToUse : ListToUse.values()) {
+			for (int size : sizes) {
+				IndexedUnsortedList<Integer> list = newList(listToUse);
+				for (int i = 0; i < size; i++) {
+					list.addToRear(i);
+				}
+				Footprint footprint = measure(list);
+				double perElement = (size == 0) ? 0 : (double) footprint.total() / size;
+				String flag = "";
+				if (footprint.partial) {
+					flag = "partial";
+					anyPartial = true;
+				} else {
+					if (footprint.estimated) {
+						flag = "estimated";
+						anyEstimated = true;
+					}
+					if (budget >= 0 && perElement > budget) {
+						flag = (flag + " OVER BUDGET").trim();
+					}
+				}
+				System.out.printf(format, listToUse, size, footprint.total(), String.format("%.2f", perElement),
+						footprint.nodeBytes, footprint.arrayBytes, footprint.wastedBytes, footprint.otherBytes, flag);
+			}
+		}
+		if (anyEstimated || anyPartial) {
+			System.out.println();
+		}
+		if (anyEstimated) {
+			System.out.println("estimated: JDK collections and atomics sized from their size and entry layout, assuming they only grew;");
+			System.out.println("           rerun with --add-opens java.base/java.util=ALL-UNNAMED to walk them exactly");
+		}
+		if (anyPartial) {
+			System.out.println("partial: some JDK internals were not readable, so these totals are lower bounds only and");
+			System.out.println("         not comparable with the other rows");
+		}
+	}
+
+	/**
+	 * Walks everything reachable from the list through instance fields, skipping
+	 * the Integer elements, and sums the layout size of each object reached once.
+	 *
+	 * @param list list to measure
+	 * @return the footprint broken down by kind of object
+	 */
+	private Footprint measure(Object list) {
+		Footprint footprint = new Footprint();
+		IdentityHashMap<Object, Boolean> visited = new IdentityHashMap<Object, Boolean>();
+		ArrayDeque<Object> toVisit = new ArrayDeque<Object>();
+		toVisit.push(list);
+		visited.put(list, Boolean.TRUE);
+		while (!toVisit.isEmpty()) {
+			Object current = toVisit.pop();
+			Class<?> type = current.getClass();
+			ArrayList<Object> references = new ArrayList<Object>();
+			if (type.isArray()) {
+				int length = Array.getLength(current);
+				Class<?> component = type.getComponentType();
+				footprint.arrayBytes += align(arrayHeader + (long) length * slotSize(component));
+				if (!component.isPrimitive()) {
+					for (Object slot : (Object[]) current) {
+						if (slot == null) {
+							footprint.wastedBytes += referenceSize;
+						} else {
+							references.add(slot);
+						}
+					}
+				}
+			} else if (!isOpen(type) && estimate(current, footprint, references)) {
+				footprint.estimated = true;
+			} else {
+				long shallow = shallowSize(type);
+				for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+					for (Field field : c.getDeclaredFields()) {
+						if (Modifier.isStatic(field.getModifiers())) {
+							continue;
+						}
+						if (!field.getType().isPrimitive()) {
+							try {
+								field.setAccessible(true);
+								Object value = field.get(current);
+								if (value != null) {
+									references.add(value);
+								}
+							} catch (RuntimeException | IllegalAccessException e) {
+								footprint.partial = true;// e.g. InaccessibleObjectException inside java.util
+							}
+						}
+					}
+				}
+				if (current == list) {
+					footprint.otherBytes += align(shallow);
+				} else {
+					footprint.nodeBytes += align(shallow);
+				}
+			}
+			for (Object reference : references) {
+				if (!(reference instanceof Integer) && !visited.containsKey(reference)) {
+					visited.put(reference, Boolean.TRUE);
+					toVisit.push(reference);
+				}
+			}
+		}
+		return footprint;
+	}
+
+	/**
+	 * Whether reflection may look inside objects of the given class.
+	 */
+	private static boolean isOpen(Class<?> type) {
+		return type.getModule().isOpen(type.getPackageName(), ListFootprint.class.getModule());
+	}
+
+	/**
+	 * Sizes a JDK object that reflection cannot look inside from its public methods and
+	 * the declared fields of its classes, which can be listed though not read. Adds
+	 * the objects it holds to references so the walk still reaches them.
+	 *
+	 * @return true if the object is of a kind this knows how to size
+	 */
+	private boolean estimate(Object current, Footprint footprint, ArrayList<Object> references) {
+		if (current instanceof HashSet) {
+			HashSet<?> set = (HashSet<?>) current;
+			footprint.nodeBytes += align(shallowSize(HashSet.class));
+			Class<?> mapType = (current instanceof java.util.LinkedHashSet) ? LinkedHashMap.class : HashMap.class;
+			estimateHashMap(mapType, set.size(), footprint);
+			references.addAll(set);
+			return true;
+		}
+		if (current instanceof HashMap) {
+			Map<?, ?> map = (Map<?, ?>) current;
+			estimateHashMap(current.getClass(), map.size(), footprint);
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				if (entry.getKey() != null) {
+					references.add(entry.getKey());
+				}
+				if (entry.getValue() != null) {
+					references.add(entry.getValue());
+				}
+			}
+			return true;
+		}
+		if (current instanceof LinkedList) {
+			LinkedList<?> list = (LinkedList<?>) current;
+			footprint.nodeBytes += align(shallowSize(LinkedList.class));
+			footprint.nodeBytes += list.size() * align(shallowSize(nestedClass(LinkedList.class, "Node")));
+			references.addAll(list);
+			return true;
+		}
+		if (current instanceof AtomicReferenceArray) {
+			AtomicReferenceArray<?> array = (AtomicReferenceArray<?>) current;
+			footprint.nodeBytes += align(shallowSize(AtomicReferenceArray.class));
+			footprint.arrayBytes += align(arrayHeader + (long) array.length() * referenceSize);
+			for (int i = 0; i < array.length(); i++) {
+				if (array.get(i) == null) {
+					footprint.wastedBytes += referenceSize;
+				} else {
+					references.add(array.get(i));
+				}
+			}
+			return true;
+		}
+		if (current instanceof LongAdder || current instanceof LongAccumulator) {
+			footprint.nodeBytes += align(shallowSize(current.getClass()));// no cells until contended
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the estimated size of a HashMap of the given class and size: the map itself,
+	 * one entry object per mapping and a table grown the way put grows it, to the
+	 * smallest power of two of at least 16 that keeps the map within its 0.75 load
+	 * factor. Integer keys hash to distinct buckets, so every slot not holding an
+	 * entry is counted as wasted.
+	 */
+	private void estimateHashMap(Class<?> mapType, int size, Footprint footprint) {
+		footprint.nodeBytes += align(shallowSize(mapType));
+		if (size == 0) {
+			return;// the table is allocated by the first put
+		}
+		int capacity = 16;
+		while (size > capacity * 3 / 4) {
+			capacity *= 2;
+		}
+		Class<?> entryType = LinkedHashMap.class.isAssignableFrom(mapType)
+				? nestedClass(LinkedHashMap.class, "Entry") : nestedClass(HashMap.class, "Node");
+		footprint.nodeBytes += size * align(shallowSize(entryType));
+		footprint.arrayBytes += align(arrayHeader + (long) capacity * referenceSize);
+		footprint.wastedBytes += (long) (capacity - size) * referenceSize;
+	}
+
+	/**
+	 * Finds a JDK class's nested class by simple name, which works without access to it.
+	 */
+	private static Class<?> nestedClass(Class<?> outer, String name) {
+		for (Class<?> nested : outer.getDeclaredClasses()) {
+			if (nested.getSimpleName().equals(name)) {
+				return nested;
+			}
+		}
+		throw new IllegalStateException(outer.getName() + " has no nested class " + name);
+	}
+
+	/**
+	 * Bytes taken by an object of the given class, before alignment.
+	 */
+	private long shallowSize(Class<?> type) {
+		long shallow = objectHeader;
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					shallow += slotSize(field.getType());
+				}
+			}
+		}
+		return shallow;
+	}
+
+	/**
+	 * Bytes taken by one field or array slot of the given type.
+	 */
+	private int slotSize(Class<?> type) {
+		int size;
+		if (type == long.class || type == double.class) {
+			size = 8;
+		} else if (type == int.class || type == float.class) {
+			size = 4;
+		} else if (type == short.class || type == char.class) {
+			size = 2;
+		} else if (type == byte.class || type == boolean.class) {
+			size = 1;
+		} else {
+			size = referenceSize;
+		}
+		return size;
+	}
+
+	/**
+	 * Rounds an object size up to the JVM's object alignment.
+	 */
+	private long align(long size) {
+		return (size + alignment - 1) / alignment * alignment;
+	}
+}
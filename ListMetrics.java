@@ -0,0 +1,356 @@
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+/**
+ * Per-operation call counts, latency histograms and node traversal histograms, filled in
+ * by {@code InstrumentedIndexedList}. One {@code ListMetrics} may be shared by several
+ * instrumented lists to report them as one, and may be read from any thread while they
+ * run: every counter is a {@code LongAdder}, so recording threads do not contend on a
+ * shared word and reading never blocks them.
+ *
+ * Histograms are log-linear, in the manner of HdrHistogram: each power of two is split
+ * into four buckets, so a reported percentile is the top of a bucket at most 25% wider
+ * than its bottom. Values from 0 to 2^41 have their own bucket, which for latencies is
+ * over half an hour; anything larger lands in the last one. Stats for an operation are
+ * only allocated once it is first called.
+ *
+ * Every call is counted, but reading the clock twice costs several times more than get
+ * on an array list, so timing is sampled: with a sample interval of n, a random one in
+ * n calls is timed and the latency histogram describes those. Node counts are cheap
+ * and recorded for every call.
+ *
+ * @author Davina Causey
+ */
+public class ListMetrics implements ListMetricsMXBean {
+    /** Every operation of the {@code IndexedUnsortedList} interface, as recorded */
+    public static enum Operation {
+        addToFront, addToRear, add, addAfter, addAtIndex, addAll,
+        removeFirst, removeLast, removeElement, removeAtIndex, removeRange, removeIf, clear,
+        set, get, indexOf, first, last, contains, isEmpty, size, toString,
+        iterator, listIterator, forEach, forEachIndexed
+    };
+
+    /** Time one call in 16 by default, which keeps the clock reads off most calls */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+    static final long UNTIMED = Long.MIN_VALUE;// start time of a call that is not being timed
+    private static final int SUB_BUCKET_BITS = 2;// four buckets per power of two
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT << SUB_BUCKET_BITS) + (1 << SUB_BUCKET_BITS);
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final AtomicReferenceArray<OperationStats> stats;// indexed by ordinal, null until first call
+    private final int sampleInterval;
+    private final int sampleMask;
+    private ObjectName registeredName;
+
+    /**
+     * Constructs empty metrics that time one call in {@code DEFAULT_SAMPLE_INTERVAL}.
+     */
+    public ListMetrics(){
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructs empty metrics that time one call in sampleInterval, picked at random.
+     *
+     * @param sampleInterval calls per timed call, a power of two; 1 times every call
+     * @throws IllegalArgumentException if sampleInterval is not a positive power of two
+     */
+    public ListMetrics(int sampleInterval){
+        if(sampleInterval < 1 || Integer.bitCount(sampleInterval) != 1){
+            throw new IllegalArgumentException();
+        }
+        this.sampleInterval = sampleInterval;
+        sampleMask = sampleInterval - 1;
+        stats = new AtomicReferenceArray<OperationStats>(OPERATIONS.length);
+    }
+
+    /**
+     * Starts timing a call if it is sampled.
+     *
+     * @return System.nanoTime() now, or UNTIMED if this call is not timed
+     */
+    long startTimer(){
+        if(sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0){
+            return UNTIMED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Records one finished call.
+     *
+     * @param operation  the operation called
+     * @param startNanos what startTimer returned for the call
+     * @param nodes      nodes the call traversed, or -1 if the list does not count them
+     */
+    void record(Operation operation, long startNanos, long nodes){
+        long elapsed = (startNanos == UNTIMED) ? UNTIMED : System.nanoTime() - startNanos;
+        OperationStats operationStats = statsFor(operation);
+        operationStats.calls.increment();
+        if(elapsed != UNTIMED){
+            operationStats.latency.record(elapsed);
+        }
+        if(nodes >= 0){
+            operationStats.nodes.record(nodes);
+        }
+    }
+
+    /**
+     * Returns the stats for an operation, allocating them on its first call.
+     */
+    private OperationStats statsFor(Operation operation){
+        OperationStats operationStats = stats.get(operation.ordinal());
+        if(operationStats == null){
+            OperationStats fresh = new OperationStats();
+            operationStats = stats.compareAndExchange(operation.ordinal(), null, fresh);
+            if(operationStats == null){// won the race
+                operationStats = fresh;
+            }
+        }
+        return operationStats;
+    }
+
+    /**
+     * Returns the number of calls recorded for one operation.
+     *
+     * @param operation the operation
+     * @return calls so far, including calls that threw
+     */
+    public long calls(Operation operation){
+        OperationStats operationStats = stats.get(operation.ordinal());
+        return (operationStats == null) ? 0 : operationStats.calls.sum();
+    }
+
+    /**
+     * Returns every metric recorded so far, for operations that have been called, in
+     * operation order. For each operation "op" the keys are:
+     * <ul>
+     * <li>op.calls: calls made, including calls that threw</li>
+     * <li>op.timedCalls, op.meanNanos, op.p50Nanos, op.p90Nanos, op.p99Nanos and
+     *     op.maxNanos: latency of the timed calls</li>
+     * <li>op.nodes, op.meanNodes, op.p50Nodes, op.p99Nodes and op.maxNodes: nodes
+     *     traversed per call, only for lists that count them</li>
+     * </ul>
+     * Counters are read one at a time while calls may still be recording, so the
+     * values are each current but not necessarily consistent with each other.
+     *
+     * @return metric name to value
+     */
+    public Map<String, Long> snapshot(){
+        Map<String, Long> snapshot = new LinkedHashMap<String, Long>();
+        for(Operation operation : OPERATIONS){
+            OperationStats operationStats = stats.get(operation.ordinal());
+            if(operationStats == null){
+                continue;
+            }
+            String prefix = operation.name() + ".";
+            snapshot.put(prefix + "calls", operationStats.calls.sum());
+            Histogram latency = operationStats.latency;
+            long timed = latency.count();
+            if(timed > 0){
+                snapshot.put(prefix + "timedCalls", timed);
+                snapshot.put(prefix + "meanNanos", latency.total() / timed);
+                snapshot.put(prefix + "p50Nanos", latency.percentile(0.50));
+                snapshot.put(prefix + "p90Nanos", latency.percentile(0.90));
+                snapshot.put(prefix + "p99Nanos", latency.percentile(0.99));
+                snapshot.put(prefix + "maxNanos", latency.max());
+            }
+            Histogram nodes = operationStats.nodes;
+            long counted = nodes.count();
+            if(counted > 0){
+                snapshot.put(prefix + "nodes", nodes.total());
+                snapshot.put(prefix + "meanNodes", nodes.total() / counted);
+                snapshot.put(prefix + "p50Nodes", nodes.percentile(0.50));
+                snapshot.put(prefix + "p99Nodes", nodes.percentile(0.99));
+                snapshot.put(prefix + "maxNodes", nodes.max());
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public Map<String, Long> getSnapshot() {
+        return snapshot();
+    }
+
+    @Override
+    public long getTotalCalls() {
+        long total = 0;
+        for(Operation operation : OPERATIONS){
+            total += calls(operation);
+        }
+        return total;
+    }
+
+    @Override
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Sets every counter back to zero. Calls recording at the same time may be half
+     * counted, so reset while the lists are quiet if exact totals matter.
+     */
+    @Override
+    public void reset() {
+        for(int i = 0; i < OPERATIONS.length; i++){
+            OperationStats operationStats = stats.get(i);
+            if(operationStats != null){
+                operationStats.calls.reset();
+                operationStats.latency.reset();
+                operationStats.nodes.reset();
+            }
+        }
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under
+     * "IndexedUnsortedList:type=ListMetrics,name=" and the given name.
+     *
+     * @param name name that tells this list apart in a JMX client
+     * @return the name the metrics were registered under
+     * @throws IllegalStateException if already registered, or if the server refuses, for example because the name is taken
+     */
+    public synchronized ObjectName register(String name){
+        if(registeredName != null){
+            throw new IllegalStateException("already registered as " + registeredName);
+        }
+        try {
+            ObjectName objectName = new ObjectName("IndexedUnsortedList:type=ListMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            registeredName = objectName;
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, if registered.
+     */
+    public synchronized void unregister(){
+        if(registeredName == null){
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            registeredName = null;
+        }
+    }
+
+    /**
+     * Returns the bucket a value falls in: values below four have their own bucket,
+     * then each power of two is split into four by the two bits below its top bit.
+     */
+    static int bucketOf(long value){
+        if(value < (1 << SUB_BUCKET_BITS)){
+            return (int)Math.max(value, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if(exponent > MAX_EXPONENT){
+            return BUCKETS - 1;
+        }
+        int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls in the given bucket.
+     */
+    static long bucketTop(int bucket){
+        if(bucket < (1 << SUB_BUCKET_BITS)){
+            return bucket;
+        }
+        int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket & ((1 << SUB_BUCKET_BITS) - 1);
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (((1L << SUB_BUCKET_BITS) + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+
+    /**
+     * Counters for one operation.
+     */
+    private static class OperationStats {
+        private final LongAdder calls = new LongAdder();
+        private final Histogram latency = new Histogram();
+        private final Histogram nodes = new Histogram();
+    }
+
+    /**
+     * A log-linear histogram of non-negative values, with a running total and maximum.
+     */
+    private static class Histogram {
+        private final LongAdder[] buckets;
+        private final LongAdder total;
+        private final LongAccumulator max;
+
+        public Histogram(){
+            buckets = new LongAdder[BUCKETS];
+            for(int i = 0; i < BUCKETS; i++){
+                buckets[i] = new LongAdder();
+            }
+            total = new LongAdder();
+            max = new LongAccumulator(Math::max, 0);
+        }
+
+        public void record(long value){
+            buckets[bucketOf(value)].increment();
+            total.add(value);
+            max.accumulate(value);
+        }
+
+        public long count(){
+            long count = 0;
+            for(LongAdder bucket : buckets){
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        public long total(){
+            return total.sum();
+        }
+
+        public long max(){
+            return max.get();
+        }
+
+        /**
+         * Returns the top of the bucket holding the given fraction of values, capped at the maximum.
+         */
+        public long percentile(double fraction){
+            long[] counts = new long[BUCKETS];
+            long count = 0;
+            for(int i = 0; i < BUCKETS; i++){// read each bucket once, so the walk below agrees with the count
+                counts[i] = buckets[i].sum();
+                count += counts[i];
+            }
+            long rank = Math.max(1, (long)Math.ceil(fraction * count));
+            long seen = 0;
+            int bucket = 0;
+            while(bucket < BUCKETS - 1 && seen + counts[bucket] < rank){
+                seen += counts[bucket];
+                bucket++;
+            }
+            return Math.min(bucketTop(bucket), max());
+        }
+
+        public void reset(){
+            for(LongAdder bucket : buckets){
+                bucket.reset();
+            }
+            total.reset();
+            max.reset();
+        }
+    }
+}
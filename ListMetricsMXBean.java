@@ -0,0 +1,34 @@
+import java.util.Map;
+/**
+ * Management interface of {@code ListMetrics}, so the counters of an instrumented list
+ * can be read from JConsole, VisualVM or any other JMX client once registered.
+ *
+ * @author Davina Causey
+ */
+public interface ListMetricsMXBean {
+    /**
+     * Returns every recorded metric, keyed "operation.metric", see {@code ListMetrics.snapshot}.
+     *
+     * @return metric name to value
+     */
+    public Map<String, Long> getSnapshot();
+
+    /**
+     * Returns the number of calls recorded across all operations.
+     *
+     * @return total calls
+     */
+    public long getTotalCalls();
+
+    /**
+     * Returns how many calls there are per timed call, 1 when every call is timed.
+     *
+     * @return the sampling interval
+     */
+    public int getSampleInterval();
+
+    /**
+     * Sets every counter and histogram back to zero.
+     */
+    public void reset();
+}
@@ -0,0 +1,233 @@
+import java.util.Map;
+import javax.management.ObjectName;
+
+/**
+ * Tests for ListMetrics and the counts InstrumentedIndexedList records into it.
+ *
+ * Runs five checks, exiting with status 1 if any fails:
+ *  buckets     : bucketOf and bucketTop agree: every value lands in a bucket whose top is
+ *                at or above it and whose previous bucket's top is below it, buckets grow
+ *                with the value, and no bucket is more than a quarter wider than its bottom.
+ *  snapshot    : known sequences of recorded calls give the expected counts, totals, means,
+ *                percentiles and maximums, and the keys appear only for operations called.
+ *  sampling    : a sample interval of 1 times every call, larger intervals time some, and
+ *                intervals that are not a positive power of two are refused.
+ *  reset       : reset zeroes every counter and histogram, and recording starts over.
+ *  instrumented: an InstrumentedIndexedList over a linked list records exactly the node
+ *                deltas the list reports, counts calls that throw, and records no node keys
+ *                over a list that does not count nodes. Also registers over JMX.
+ *
+ * Compile and run from the directory containing all source files:
+ *  $ javac ListMetricsTester.java
+ *  $ java ListMetricsTester
+ */
+public class ListMetricsTester {
+
+	/**
+	 * Runs every check.
+	 * @param args not used
+	 */
+	public static void main(String[] args) {
+		boolean ok = true;
+		ok &= run("buckets", ListMetricsTester::checkBuckets);
+		ok &= run("snapshot", ListMetricsTester::checkSnapshot);
+		ok &= run("sampling", ListMetricsTester::checkSampling);
+		ok &= run("reset", ListMetricsTester::checkReset);
+		ok &= run("instrumented", ListMetricsTester::checkInstrumented);
+		if (!ok) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Runs one check, reporting the first mismatch it throws.
+	 *
+	 * @return true if the check passed
+	 */
+	private static boolean run(String name, Runnable check) {
+		try {
+			check.run();
+			System.err.printf("%-12s ok\n", name);
+			return true;
+		} catch (RuntimeException e) {
+			System.err.printf("%-12s FAILED: %s\n", name, e);
+			return false;
+		}
+	}
+
+	private static void checkBuckets() {
+		check(ListMetrics.bucketOf(-5) == 0 && ListMetrics.bucketOf(0) == 0, "negative and zero values go in bucket 0");
+		for (int v = 0; v < 4; v++) {
+			check(ListMetrics.bucketOf(v) == v && ListMetrics.bucketTop(v) == v, "small value " + v + " has its own bucket");
+		}
+		// hand-worked: 10 is 0b1010, top bit 3, next two bits 01, so the second bucket of [8, 16)
+		check(ListMetrics.bucketOf(10) == 9 && ListMetrics.bucketTop(9) == 11, "bucket of 10");
+		check(ListMetrics.bucketOf(1000) == 35 && ListMetrics.bucketTop(35) == 1023, "bucket of 1000");
+		int previous = 0;
+		for (long v = 1; v < 1L << 45; v = (v < 5000) ? v + 1 : v + v / 7) {
+			int bucket = ListMetrics.bucketOf(v);
+			check(bucket >= previous, "bucketOf decreased at " + v);
+			previous = bucket;
+			if (v >= 1L << 41) {// past the last exponent everything shares the last bucket
+				check(bucket == ListMetrics.bucketOf(Long.MAX_VALUE), "large value " + v + " not in the last bucket");
+				continue;
+			}
+			long top = ListMetrics.bucketTop(bucket);
+			long bottom = ListMetrics.bucketTop(bucket - 1) + 1;
+			check(bottom <= v && v <= top, v + " outside its bucket [" + bottom + ", " + top + "]");
+			check(v < 4 || (top - bottom + 1) * 4 <= bottom, "bucket [" + bottom + ", " + top + "] wider than a quarter of its bottom");
+		}
+	}
+
+	private static void checkSnapshot() {
+		ListMetrics metrics = new ListMetrics();
+		check(metrics.snapshot().isEmpty(), "snapshot before any call");
+		for (int i = 0; i < 90; i++) {
+			metrics.record(ListMetrics.Operation.get, ListMetrics.UNTIMED, 10);
+		}
+		for (int i = 0; i < 10; i++) {
+			metrics.record(ListMetrics.Operation.get, ListMetrics.UNTIMED, 1000);
+		}
+		metrics.record(ListMetrics.Operation.size, ListMetrics.UNTIMED, -1);// a list that does not count nodes
+		Map<String, Long> snapshot = metrics.snapshot();
+		expect(snapshot, "get.calls", 100);
+		expect(snapshot, "get.nodes", 90 * 10 + 10 * 1000);
+		expect(snapshot, "get.meanNodes", (90 * 10 + 10 * 1000) / 100);
+		expect(snapshot, "get.p50Nodes", ListMetrics.bucketTop(ListMetrics.bucketOf(10)));
+		expect(snapshot, "get.p99Nodes", 1000);// the top of 1000's bucket, capped at the maximum
+		expect(snapshot, "get.maxNodes", 1000);
+		expect(snapshot, "size.calls", 1);
+		check(!snapshot.containsKey("get.timedCalls") && !snapshot.containsKey("get.p50Nanos"), "latency keys for untimed calls");
+		check(!snapshot.containsKey("size.nodes"), "node keys for a call without a node count");
+		check(!snapshot.containsKey("set.calls"), "keys for an operation never called");
+		String[] order = snapshot.keySet().toArray(new String[0]);
+		check(order[0].equals("get.calls") && order[order.length - 1].equals("size.calls"), "keys not in operation order");
+		check(metrics.calls(ListMetrics.Operation.get) == 100 && metrics.calls(ListMetrics.Operation.set) == 0, "calls()");
+		check(metrics.getTotalCalls() == 101, "total calls " + metrics.getTotalCalls());
+
+		ListMetrics timed = new ListMetrics(1);
+		long start = System.nanoTime() - 5000;// a call that started 5us ago
+		timed.record(ListMetrics.Operation.indexOf, start, 0);
+		snapshot = timed.snapshot();
+		expect(snapshot, "indexOf.timedCalls", 1);
+		expect(snapshot, "indexOf.nodes", 0);
+		long max = snapshot.get("indexOf.maxNanos");
+		check(max >= 5000, "maxNanos " + max + " below the 5000ns the call took");
+		check(snapshot.get("indexOf.meanNanos") == max, "mean of one timed call");
+		check(snapshot.get("indexOf.p50Nanos") == max && snapshot.get("indexOf.p99Nanos") == max, "percentiles of one call, capped at the maximum");
+	}
+
+	private static void checkSampling() {
+		ListMetrics every = new ListMetrics(1);
+		check(every.getSampleInterval() == 1, "sample interval");
+		for (int i = 0; i < 1000; i++) {
+			every.record(ListMetrics.Operation.first, every.startTimer(), -1);
+		}
+		expect(every.snapshot(), "first.timedCalls", 1000);
+
+		ListMetrics sampled = new ListMetrics();
+		check(sampled.getSampleInterval() == ListMetrics.DEFAULT_SAMPLE_INTERVAL, "default sample interval");
+		int timedCount = 0;
+		for (int i = 0; i < 16000; i++) {
+			long start = sampled.startTimer();
+			if (start != ListMetrics.UNTIMED) {
+				timedCount++;
+			}
+			sampled.record(ListMetrics.Operation.first, start, -1);
+		}
+		Map<String, Long> snapshot = sampled.snapshot();
+		expect(snapshot, "first.calls", 16000);
+		expect(snapshot, "first.timedCalls", timedCount);
+		check(timedCount > 500 && timedCount < 1500, timedCount + " of 16000 calls timed at one in 16");
+
+		for (int interval : new int[] {0, -4, 3, 12}) {
+			boolean refused = false;
+			try {
+				new ListMetrics(interval);
+			} catch (IllegalArgumentException e) {
+				refused = true;
+			}
+			check(refused, "sample interval " + interval + " accepted");
+		}
+	}
+
+	private static void checkReset() {
+		ListMetrics metrics = new ListMetrics(1);
+		for (int i = 0; i < 50; i++) {
+			metrics.record(ListMetrics.Operation.removeFirst, metrics.startTimer(), 7);
+		}
+		metrics.reset();
+		Map<String, Long> snapshot = metrics.snapshot();
+		expect(snapshot, "removeFirst.calls", 0);
+		check(snapshot.size() == 1, "keys left after reset: " + snapshot);
+		check(metrics.getTotalCalls() == 0, "total calls after reset");
+		metrics.record(ListMetrics.Operation.removeFirst, ListMetrics.UNTIMED, 3);
+		snapshot = metrics.snapshot();
+		expect(snapshot, "removeFirst.calls", 1);
+		expect(snapshot, "removeFirst.maxNodes", 3);// the old maximum of 7 is gone
+		expect(snapshot, "removeFirst.nodes", 3);
+	}
+
+	private static void checkInstrumented() {
+		IUDoubleLinkedList<Integer> inner = new IUDoubleLinkedList<Integer>();
+		InstrumentedIndexedList<Integer> list = new InstrumentedIndexedList<Integer>(inner, new ListMetrics(1));
+		for (int i = 0; i < 20; i++) {
+			list.addToRear(i);
+		}
+		long before = inner.nodesTraversed();
+		list.indexOf(8);// walks eight links from head, see IUDoubleLinkedList.indexOf
+		long indexOfNodes = inner.nodesTraversed() - before;
+		check(indexOfNodes == 8, "indexOf(8) walked " + indexOfNodes + " links");
+		before = inner.nodesTraversed();
+		list.get(7);
+		list.get(12);
+		long getNodes = inner.nodesTraversed() - before;
+		try {
+			list.get(20);
+		} catch (IndexOutOfBoundsException e) {
+			// counted, with no nodes walked
+		}
+		Map<String, Long> snapshot = list.metrics().snapshot();
+		expect(snapshot, "addToRear.calls", 20);
+		expect(snapshot, "addToRear.nodes", 0);
+		expect(snapshot, "indexOf.nodes", 8);
+		expect(snapshot, "get.calls", 3);
+		expect(snapshot, "get.timedCalls", 3);
+		expect(snapshot, "get.nodes", getNodes);
+		check(getNodes > 0, "get walked no links");
+
+		InstrumentedIndexedList<Integer> array = new InstrumentedIndexedList<Integer>(new IUArrayList<Integer>());
+		array.addToRear(1);
+		array.get(0);
+		snapshot = array.metrics().snapshot();
+		expect(snapshot, "get.calls", 1);
+		check(!snapshot.containsKey("get.nodes"), "node keys over a list that does not count nodes");
+
+		ListMetrics metrics = list.metrics();
+		ObjectName name = metrics.register("ListMetricsTester");
+		try {
+			boolean refused = false;
+			try {
+				metrics.register("again");
+			} catch (IllegalStateException e) {
+				refused = true;
+			}
+			check(refused, "second register accepted");
+			check(java.lang.management.ManagementFactory.getPlatformMBeanServer().isRegistered(name), "not registered over JMX");
+		} finally {
+			metrics.unregister();
+		}
+		check(!java.lang.management.ManagementFactory.getPlatformMBeanServer().isRegistered(name), "still registered after unregister");
+	}
+
+	private static void expect(Map<String, Long> snapshot, String key, long value) {
+		Long actual = snapshot.get(key);
+		check(actual != null && actual == value, key + " is " + actual + ", expected " + value);
+	}
+
+	private static void check(boolean condition, String what) {
+		if (!condition) {
+			throw new IllegalStateException(what);
+		}
+	}
+}
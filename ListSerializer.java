@@ -0,0 +1,311 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * Writes any {@code IndexedUnsortedList} in a compact binary format and reads it back
+ * as an {@code IUArrayList}.
+ * The format is a header followed by every element encoded with an {@code ElementCodec},
+ * back to back and little-endian:
+ * <pre>
+ *  int magic         "IUS1"
+ *  int headerLength  bytes in the header, including these fields
+ *  int width         bytes per element
+ *  int count         number of elements
+ *  count * width bytes of elements
+ * </pre>
+ * Readers skip to headerLength, so fields added to the header later do not break them.
+ * Because the header gives the element count up front, reading decodes straight into
+ * an array of exactly the right size and hands it to the new list, with no growth
+ * copies. Reading from a FileChannel maps the file rather than copying it through a
+ * buffer, so loading is little more than one decode per element.
+ * For int lists, writeInts() and readInts() use the same format with 4-byte elements
+ * but move the values with bulk copies, with no boxing at all.
+ *
+ * @param <T> the type of elements serialized
+ * @author Davina Causey
+ */
+public class ListSerializer<T> {
+    public static final int MAGIC = 0x49555331;// "IUS1"
+    public static final int HEADER_SIZE = 16;
+    private static final int CHUNK_SIZE = 1 << 16;// bytes staged per channel write
+    private static final int MAX_MAP_BYTES = 1 << 30;
+    private final ElementCodec<T> codec;
+    private final int width;
+
+    /**
+     * Constructs a serializer for elements encoded by the given codec.
+     *
+     * @param codec converts elements to and from bytes
+     * @throws IllegalArgumentException if the codec width is not positive
+     */
+    public ListSerializer(ElementCodec<T> codec){
+        if(codec.width() <= 0){
+            throw new IllegalArgumentException();
+        }
+        this.codec = codec;
+        width = codec.width();
+    }
+
+    /**
+     * Returns the number of bytes write() produces for a list of the given size.
+     *
+     * @param size number of elements
+     * @return serialized length in bytes
+     */
+    public long serializedSize(int size){
+        return HEADER_SIZE + (long)size * width;
+    }
+
+    /**
+     * Writes the list into the buffer at its position, advancing the position past it.
+     *
+     * @param list   list to write, must not contain null
+     * @param buffer buffer to write into
+     * @throws BufferOverflowException if the buffer has less than serializedSize(list.size()) bytes remaining
+     */
+    public void write(IndexedUnsortedList<? extends T> list, ByteBuffer buffer){
+        ByteBuffer out = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);// leaves the caller's byte order alone
+        int size = list.size();
+        if(out.remaining() < serializedSize(size)){
+            throw new BufferOverflowException();
+        }
+        writeHeader(out, size);
+        int offset = HEADER_SIZE;
+        for(T element : list){
+            codec.write(out, offset, element);
+            offset += width;
+        }
+        buffer.position(buffer.position() + offset);
+    }
+
+    /**
+     * Writes the list to the channel, encoding it through a small staging buffer.
+     *
+     * @param list list to write, must not contain null
+     * @param out  channel to write to, such as a FileChannel
+     * @throws IOException if the channel cannot be written
+     */
+    public void write(IndexedUnsortedList<? extends T> list, WritableByteChannel out) throws IOException {
+        int perChunk = Math.max(1, CHUNK_SIZE / width);
+        ByteBuffer chunk = ByteBuffer.allocateDirect(Math.max(HEADER_SIZE, perChunk * width)).order(ByteOrder.LITTLE_ENDIAN);
+        writeHeader(chunk, list.size());
+        chunk.limit(HEADER_SIZE);
+        drain(chunk, out);
+        Iterator<? extends T> it = list.iterator();
+        while(it.hasNext()){
+            int offset = 0;
+            while(offset < perChunk * width && it.hasNext()){
+                codec.write(chunk, offset, it.next());
+                offset += width;
+            }
+            chunk.limit(offset);
+            drain(chunk, out);
+        }
+    }
+
+    /**
+     * Writes the header fields at the start of the buffer.
+     */
+    private void writeHeader(ByteBuffer out, int size){
+        out.putInt(0, MAGIC);
+        out.putInt(4, HEADER_SIZE);
+        out.putInt(8, width);
+        out.putInt(12, size);
+    }
+
+    /**
+     * Writes the buffer from 0 to its limit to the channel and resets it for reuse.
+     */
+    private static void drain(ByteBuffer chunk, WritableByteChannel out) throws IOException {
+        chunk.position(0);
+        while(chunk.hasRemaining()){
+            out.write(chunk);
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Reads a list written by write() from the buffer at its position, advancing the
+     * position past it.
+     *
+     * @param buffer buffer holding the serialized list
+     * @return a new {@code IUArrayList} holding the elements, with capacity equal to its size
+     * @throws IOException if the buffer does not hold a list of this element width
+     */
+    public IUArrayList<T> read(ByteBuffer buffer) throws IOException {
+        ByteBuffer in = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int headerLength = checkHeader(in, width);
+        int count = in.getInt(12);
+        if(in.remaining() < headerLength + (long)count * width){
+            throw new IOException("list snapshot is truncated");
+        }
+        @SuppressWarnings("unchecked")
+        T[] elements = (T[])(new Object[count]);
+        decode(in, headerLength, elements, 0, count);
+        buffer.position(buffer.position() + headerLength + count * width);
+        return new IUArrayList<T>(elements, count);
+    }
+
+    /**
+     * Reads a list written by write() from the file at the channel's position, advancing
+     * the position past it. The file is mapped and decoded in place rather than copied
+     * into a buffer first.
+     *
+     * @param in channel of the file holding the serialized list
+     * @return a new {@code IUArrayList} holding the elements, with capacity equal to its size
+     * @throws IOException if the file cannot be read or does not hold a list of this element width
+     */
+    public IUArrayList<T> read(FileChannel in) throws IOException {
+        long start = in.position();
+        ByteBuffer header = readHeader(in, start);
+        int headerLength = checkHeader(header, width);
+        int count = header.getInt(12);
+        long dataStart = start + headerLength;
+        if(in.size() - dataStart < (long)count * width){
+            throw new IOException("list snapshot is truncated");
+        }
+        @SuppressWarnings("unchecked")
+        T[] elements = (T[])(new Object[count]);
+        int perMap = MAX_MAP_BYTES / width;// one mapping is limited to 2GB, so large files go in pieces
+        for(int done = 0; done < count; ){
+            int n = Math.min(perMap, count - done);
+            MappedByteBuffer data = in.map(FileChannel.MapMode.READ_ONLY, dataStart + (long)done * width, (long)n * width);
+            data.order(ByteOrder.LITTLE_ENDIAN);
+            decode(data, 0, elements, done, n);
+            OffHeapIUList.free(data);// unmap now rather than when the collector notices
+            done += n;
+        }
+        in.position(dataStart + (long)count * width);
+        return new IUArrayList<T>(elements, count);
+    }
+
+    /**
+     * Writes an int list into the buffer at its position in the same format as a
+     * {@code ListSerializer<Integer>} using {@code ElementCodec.INTEGER}, without boxing.
+     *
+     * @param list   list to write
+     * @param buffer buffer to write into
+     * @throws BufferOverflowException if the buffer has too little room left
+     */
+    public static void writeInts(IntIndexedList list, ByteBuffer buffer){
+        ByteBuffer out = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int size = list.size();
+        if(out.remaining() < HEADER_SIZE + (long)size * Integer.BYTES){
+            throw new BufferOverflowException();
+        }
+        out.putInt(0, MAGIC);
+        out.putInt(4, HEADER_SIZE);
+        out.putInt(8, Integer.BYTES);
+        out.putInt(12, size);
+        IntBuffer ints = out.position(HEADER_SIZE).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        PrimitiveIterator.OfInt it = list.iterator();
+        while(it.hasNext()){
+            ints.put(it.nextInt());
+        }
+        buffer.position(buffer.position() + HEADER_SIZE + size * Integer.BYTES);
+    }
+
+    /**
+     * Reads a list of 4-byte ints, as written by writeInts() or with
+     * {@code ElementCodec.INTEGER}, from the buffer at its position, advancing the
+     * position past it. The elements are bulk-copied into the new list's array, with
+     * no per-element decoding or boxing.
+     *
+     * @param buffer buffer holding the serialized list
+     * @return a new {@code IntIUArrayList} holding the elements
+     * @throws IOException if the buffer does not hold a list of 4-byte elements
+     */
+    public static IntIUArrayList readInts(ByteBuffer buffer) throws IOException {
+        ByteBuffer in = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int headerLength = checkHeader(in, Integer.BYTES);
+        int count = in.getInt(12);
+        if(in.remaining() < headerLength + (long)count * Integer.BYTES){
+            throw new IOException("list snapshot is truncated");
+        }
+        int[] elements = new int[count];
+        in.position(headerLength).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(elements);
+        buffer.position(buffer.position() + headerLength + count * Integer.BYTES);
+        return new IntIUArrayList(elements, count);
+    }
+
+    /**
+     * Reads a list of 4-byte ints from the file at the channel's position, advancing the
+     * position past it. The file is mapped and bulk-copied into the new list's array.
+     *
+     * @param in channel of the file holding the serialized list
+     * @return a new {@code IntIUArrayList} holding the elements
+     * @throws IOException if the file cannot be read or does not hold a list of 4-byte elements
+     */
+    public static IntIUArrayList readInts(FileChannel in) throws IOException {
+        long start = in.position();
+        ByteBuffer header = readHeader(in, start);
+        int headerLength = checkHeader(header, Integer.BYTES);
+        int count = header.getInt(12);
+        long dataStart = start + headerLength;
+        if(in.size() - dataStart < (long)count * Integer.BYTES){
+            throw new IOException("list snapshot is truncated");
+        }
+        int[] elements = new int[count];
+        int perMap = MAX_MAP_BYTES / Integer.BYTES;
+        for(int done = 0; done < count; ){
+            int n = Math.min(perMap, count - done);
+            MappedByteBuffer data = in.map(FileChannel.MapMode.READ_ONLY, dataStart + (long)done * Integer.BYTES, (long)n * Integer.BYTES);
+            data.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(elements, done, n);
+            OffHeapIUList.free(data);
+            done += n;
+        }
+        in.position(dataStart + (long)count * Integer.BYTES);
+        return new IntIUArrayList(elements, count);
+    }
+
+    /**
+     * Reads the fixed header fields at the given file position without moving the
+     * channel's position.
+     */
+    private static ByteBuffer readHeader(FileChannel in, long start) throws IOException {
+        if(in.size() - start < HEADER_SIZE){
+            throw new IOException("not a list snapshot");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while(header.hasRemaining() && in.read(header, start + header.position()) >= 0){
+            // positional reads leave the channel position alone
+        }
+        header.flip();
+        return header;
+    }
+
+    /**
+     * Validates the fixed header fields and returns the header length.
+     */
+    private static int checkHeader(ByteBuffer in, int width) throws IOException {
+        if(in.remaining() < HEADER_SIZE || in.getInt(0) != MAGIC){
+            throw new IOException("not a list snapshot");
+        }
+        int headerLength = in.getInt(4);
+        if(headerLength < HEADER_SIZE || in.getInt(12) < 0){
+            throw new IOException("list snapshot is corrupt");
+        }
+        if(in.getInt(8) != width){
+            throw new IOException("snapshot holds " + in.getInt(8) + "-byte elements, codec reads " + width);
+        }
+        return headerLength;
+    }
+
+    /**
+     * Decodes n elements starting at the given byte offset into the array.
+     */
+    private void decode(ByteBuffer in, int offset, T[] elements, int from, int n){
+        for(int i = 0; i < n; i++){
+            elements[from + i] = codec.read(in, offset);
+            offset += width;
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
@@ -17,7 +18,10 @@ import java.util.NoSuchElementException;
 public class ListTester {
 	//possible lists that could be tested
 	private static enum ListToUse {
-		goodList, badList, arrayList, singleLinkedList, doubleLinkedList
+		goodList, badList, arrayList, singleLinkedList, doubleLinkedList, treeList, unrolledList,
+		hashIndexedDoubleLinkedList, intArrayList, intDoubleLinkedList, pooledLinkedList, offHeapList,
+		mappedList, adaptiveList, instrumentedList, concurrentArrayList, concurrentLinkedList,
+		copyOnWriteArrayList
 	};
 	// TODO: THIS IS WHERE YOU CHOOSE WHICH LIST TO TEST
 	private final static ListToUse LIST_TO_USE = ListToUse.doubleLinkedList;
@@ -42,6 +46,8 @@ public class ListTester {
 
 	// determine whether to include ListIterator functionality tests
 	private final boolean SUPPORTS_LIST_ITERATOR; //initialized in constructor
+	// iterators over a snapshot: read-only, and never see later changes or throw ConcurrentModificationException
+	private final boolean SNAPSHOT_ITERATORS; //initialized in constructor
 	
 	//tracking number of tests and test results
 	private int passes = 0;
@@ -83,13 +89,31 @@ public class ListTester {
 				printSectionSummaries = false;
 		}
 		switch (LIST_TO_USE) {
+		case arrayList:
+		case singleLinkedList:
 		case doubleLinkedList:
+		case hashIndexedDoubleLinkedList:
+		case treeList:
+		case unrolledList:
+		case pooledLinkedList:
+		case adaptiveList:
+		case instrumentedList:
 			SUPPORTS_LIST_ITERATOR = true;
 			break;
 		default:
 			SUPPORTS_LIST_ITERATOR = false;
 			break;
 		}
+		switch (LIST_TO_USE) {
+		case concurrentArrayList:
+		case concurrentLinkedList:
+		case copyOnWriteArrayList:
+			SNAPSHOT_ITERATORS = true;
+			break;
+		default:
+			SNAPSHOT_ITERATORS = false;
+			break;
+		}
 	}
 
 	/** Print test results in a consistent format
@@ -163,6 +187,8 @@ public class ListTester {
 		String STRING_DBC = "DBC";
 		Integer[] LIST_ADC = {ELEMENT_A, ELEMENT_D, ELEMENT_C};
 		String STRING_ADC = "ADC";
+		Integer[] LIST_BCA = {ELEMENT_B, ELEMENT_C, ELEMENT_A};
+		String STRING_BCA = "BCA";
 
 		//newly constructed empty list
 		testEmptyList(newList, "newList");
@@ -250,8 +276,37 @@ public class ListTester {
 		testThreeElementList(ABC_listIteratorSetDAfterPreviousReturnsC_ABD, "ABC_listIteratorSetDAfterPreviousReturnsC_ABD", LIST_ABD, STRING_ABD);
 		testThreeElementList(ABC_listIteratorSetDAfterPreviousReturnsB_ADC, "ABC_listIteratorSetDAfterPreviousReturnsB_ADC", LIST_ADC, STRING_ADC);
 		testThreeElementList(ABC_listIteratorSetDAfterPreviousReturnsA_DBC, "ABC_listIteratorSetDAfterPreviousReturnsA_DBC", LIST_DBC, STRING_DBC);
+		//bulk changes via addAll(), removeRange() and clear()
+		testThreeElementList(emptyList_addAllABC_ABC, "emptyList_addAllABC_ABC", LIST_ABC, STRING_ABC);
+		testThreeElementList(A_addAllBC_ABC, "A_addAllBC_ABC", LIST_ABC, STRING_ABC);
+		testThreeElementList(A_addAllAtIndex0BC_BCA, "A_addAllAtIndex0BC_BCA", LIST_BCA, STRING_BCA);
+		testThreeElementList(AB_addAllAtIndex0C_CAB, "AB_addAllAtIndex0C_CAB", LIST_CAB, STRING_CAB);
+		testThreeElementList(AB_addAllAtIndex1C_ACB, "AB_addAllAtIndex1C_ACB", LIST_ACB, STRING_ACB);
+		testTwoElementList(ABC_removeRange01_BC, "ABC_removeRange01_BC", LIST_BC, STRING_BC);
+		testTwoElementList(ABC_removeRange12_AC, "ABC_removeRange12_AC", LIST_AC, STRING_AC);
+		testTwoElementList(ABC_removeRange23_AB, "ABC_removeRange23_AB", LIST_AB, STRING_AB);
+		testSingleElementList(ABC_removeRange13_A, "ABC_removeRange13_A", LIST_A, STRING_A);
+		testEmptyList(ABC_removeRange03_emptyList, "ABC_removeRange03_emptyList");
+		testEmptyList(A_clear_emptyList, "A_clear_emptyList");
+		testEmptyList(ABC_clear_emptyList, "ABC_clear_emptyList");
+		//bulk removal via removeIf() and retainIf()
+		testThreeElementList(ABC_removeIfZ_ABC, "ABC_removeIfZ_ABC", LIST_ABC, STRING_ABC);
+		testTwoElementList(ABC_removeIfA_BC, "ABC_removeIfA_BC", LIST_BC, STRING_BC);
+		testTwoElementList(ABC_removeIfB_AC, "ABC_removeIfB_AC", LIST_AC, STRING_AC);
+		testTwoElementList(ABC_removeIfC_AB, "ABC_removeIfC_AB", LIST_AB, STRING_AB);
+		testSingleElementList(ABC_removeIfAC_B, "ABC_removeIfAC_B", LIST_B, STRING_B);
+		testEmptyList(ABC_removeIfAll_emptyList, "ABC_removeIfAll_emptyList");
+		testThreeElementList(ABC_removeIfThrows_ABC, "ABC_removeIfThrows_ABC", LIST_ABC, STRING_ABC);
+		testSingleElementList(ABC_retainIfB_B, "ABC_retainIfB_B", LIST_B, STRING_B);
+		testTwoElementList(ABC_retainIfAC_AC, "ABC_retainIfAC_AC", LIST_AC, STRING_AC);
+		test_BulkOperations();
+		test_Streams();
+		test_Serialization();
+		test_ForEach();
 		//Iterator concurrency tests
-		test_IterConcurrency();
+		if (!SNAPSHOT_ITERATORS) {
+			test_IterConcurrency();
+		}
 		if (SUPPORTS_LIST_ITERATOR) {
 			test_ListIterConcurrency();
 		}
@@ -290,6 +345,45 @@ public class ListTester {
 		case doubleLinkedList:
 			listToUse = new IUDoubleLinkedList<Integer>();
 			break;
+		case hashIndexedDoubleLinkedList:
+			listToUse = new IUDoubleLinkedList<Integer>(true);
+			break;
+		case treeList:
+			listToUse = new IUTreeList<Integer>();
+			break;
+		case unrolledList:
+			listToUse = new IUUnrolledList<Integer>();
+			break;
+		case intArrayList:
+			listToUse = new IntListAdapter(new IntIUArrayList());
+			break;
+		case intDoubleLinkedList:
+			listToUse = new IntListAdapter(new IntIUDoubleLinkedList());
+			break;
+		case pooledLinkedList:
+			listToUse = new IUPooledLinkedList<Integer>();
+			break;
+		case offHeapList:
+			listToUse = new OffHeapIUList<Integer>(ElementCodec.INTEGER);
+			break;
+		case mappedList:
+			listToUse = new MappedIUList<Integer>(ElementCodec.INTEGER);
+			break;
+		case adaptiveList:
+			listToUse = new AdaptiveIndexedList<Integer>();
+			break;
+		case instrumentedList:
+			listToUse = new InstrumentedIndexedList<Integer>(new IUDoubleLinkedList<Integer>());
+			break;
+		case concurrentArrayList:
+			listToUse = new ConcurrentIndexedList<Integer>(new IUArrayList<Integer>());
+			break;
+		case concurrentLinkedList:
+			listToUse = new ConcurrentIndexedList<Integer>(new IUDoubleLinkedList<Integer>());
+			break;
+		case copyOnWriteArrayList:
+			listToUse = new CopyOnWriteIUArrayList<Integer>();
+			break;
 		default:
 			listToUse = null;
 		}
@@ -1157,6 +1251,229 @@ public class ListTester {
 	}
 	private Scenario<Integer> ABC_listIteratorSetDAfterPreviousReturnsA_DBC = () -> ABC_listIteratorSetDAfterPreviousReturnsA_DBC();
 
+	/////////////////////////////////
+	// bulk operation scenarios
+	/////////////////////////////////
+
+	/** Scenario: [] -> addAll([A,B,C]) -> [A,B,C]
+	 * @return [A,B,C] after addAll([A,B,C])
+	 */
+	private IndexedUnsortedList<Integer> emptyList_addAllABC_ABC() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addAll(Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> emptyList_addAllABC_ABC = () -> emptyList_addAllABC_ABC();
+
+	/** Scenario: [A] -> addAll([B,C]) -> [A,B,C]
+	 * @return [A,B,C] after addAll([B,C])
+	 */
+	private IndexedUnsortedList<Integer> A_addAllBC_ABC() {
+		IndexedUnsortedList<Integer> list = emptyList_addToFrontA_A();
+		list.addAll(Arrays.asList(ELEMENT_B, ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> A_addAllBC_ABC = () -> A_addAllBC_ABC();
+
+	/** Scenario: [A] -> addAll(0,[B,C]) -> [B,C,A]
+	 * @return [B,C,A] after addAll(0,[B,C])
+	 */
+	private IndexedUnsortedList<Integer> A_addAllAtIndex0BC_BCA() {
+		IndexedUnsortedList<Integer> list = emptyList_addToFrontA_A();
+		list.addAll(0, Arrays.asList(ELEMENT_B, ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> A_addAllAtIndex0BC_BCA = () -> A_addAllAtIndex0BC_BCA();
+
+	/** Scenario: [A,B] -> addAll(0,[C]) -> [C,A,B]
+	 * @return [C,A,B] after addAll(0,[C])
+	 */
+	private IndexedUnsortedList<Integer> AB_addAllAtIndex0C_CAB() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.addAll(0, Arrays.asList(ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> AB_addAllAtIndex0C_CAB = () -> AB_addAllAtIndex0C_CAB();
+
+	/** Scenario: [A,B] -> addAll(1,[C]) -> [A,C,B]
+	 * @return [A,C,B] after addAll(1,[C])
+	 */
+	private IndexedUnsortedList<Integer> AB_addAllAtIndex1C_ACB() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.addAll(1, Arrays.asList(ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> AB_addAllAtIndex1C_ACB = () -> AB_addAllAtIndex1C_ACB();
+
+	/** Scenario: [A,B,C] -> removeRange(0,1) -> [B,C]
+	 * @return [B,C] after removeRange(0,1)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange01_BC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(0, 1);
+		return list;
+	}
+	private Scenario<Integer> ABC_removeRange01_BC = () -> ABC_removeRange01_BC();
+
+	/** Scenario: [A,B,C] -> removeRange(1,2) -> [A,C]
+	 * @return [A,C] after removeRange(1,2)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange12_AC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(1, 2);
+		return list;
+	}
+	private Scenario<Integer> ABC_removeRange12_AC = () -> ABC_removeRange12_AC();
+
+	/** Scenario: [A,B,C] -> removeRange(2,3) -> [A,B]
+	 * @return [A,B] after removeRange(2,3)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange23_AB() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(2, 3);
+		return list;
+	}
+	private Scenario<Integer> ABC_removeRange23_AB = () -> ABC_removeRange23_AB();
+
+	/** Scenario: [A,B,C] -> removeRange(1,3) -> [A]
+	 * @return [A] after removeRange(1,3)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange13_A() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(1, 3);
+		return list;
+	}
+	private Scenario<Integer> ABC_removeRange13_A = () -> ABC_removeRange13_A();
+
+	/** Scenario: [A,B,C] -> removeRange(0,3) -> []
+	 * @return [] after removeRange(0,3)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange03_emptyList() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(0, 3);
+		return list;
+	}
+	private Scenario<Integer> ABC_removeRange03_emptyList = () -> ABC_removeRange03_emptyList();
+
+	/** Scenario: [A] -> clear() -> []
+	 * @return [] after clear()
+	 */
+	private IndexedUnsortedList<Integer> A_clear_emptyList() {
+		IndexedUnsortedList<Integer> list = emptyList_addToFrontA_A();
+		list.clear();
+		return list;
+	}
+	private Scenario<Integer> A_clear_emptyList = () -> A_clear_emptyList();
+
+	/** Scenario: [A,B,C] -> clear() -> []
+	 * @return [] after clear()
+	 */
+	private IndexedUnsortedList<Integer> ABC_clear_emptyList() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.clear();
+		return list;
+	}
+	private Scenario<Integer> ABC_clear_emptyList = () -> ABC_clear_emptyList();
+
+	/** Scenario: [A,B,C] -> removeIf(Z) -> [A,B,C]
+	 * @return [A,B,C] after removeIf(Z)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfZ_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(e -> e.equals(ELEMENT_Z));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIfZ_ABC = () -> ABC_removeIfZ_ABC();
+
+	/** Scenario: [A,B,C] -> removeIf(A) -> [B,C]
+	 * @return [B,C] after removeIf(A)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfA_BC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(e -> e.equals(ELEMENT_A));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIfA_BC = () -> ABC_removeIfA_BC();
+
+	/** Scenario: [A,B,C] -> removeIf(B) -> [A,C]
+	 * @return [A,C] after removeIf(B)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfB_AC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(e -> e.equals(ELEMENT_B));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIfB_AC = () -> ABC_removeIfB_AC();
+
+	/** Scenario: [A,B,C] -> removeIf(C) -> [A,B]
+	 * @return [A,B] after removeIf(C)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfC_AB() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(e -> e.equals(ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIfC_AB = () -> ABC_removeIfC_AB();
+
+	/** Scenario: [A,B,C] -> removeIf(A or C) -> [B]
+	 * @return [B] after removeIf(A or C)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfAC_B() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(e -> !e.equals(ELEMENT_B));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIfAC_B = () -> ABC_removeIfAC_B();
+
+	/** Scenario: [A,B,C] -> removeIf(any) -> []
+	 * @return [] after removeIf(any)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfAll_emptyList() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(e -> true);
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIfAll_emptyList = () -> ABC_removeIfAll_emptyList();
+
+	/** Scenario: [A,B,C] -> removeIf(A, throwing at C) -> [A,B,C]
+	 * @return [A,B,C] after a removeIf whose predicate matches A, then throws
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfThrows_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		try {
+			list.removeIf(e -> {
+				if (e.equals(ELEMENT_C)) {
+					throw new IllegalStateException();
+				}
+				return e.equals(ELEMENT_A);
+			});
+		} catch (IllegalStateException e) {
+			// expected: no element is removed once the predicate throws
+		}
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIfThrows_ABC = () -> ABC_removeIfThrows_ABC();
+
+	/** Scenario: [A,B,C] -> retainIf(B) -> [B]
+	 * @return [B] after retainIf(B)
+	 */
+	private IndexedUnsortedList<Integer> ABC_retainIfB_B() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.retainIf(e -> e.equals(ELEMENT_B));
+		return list;
+	}
+	private Scenario<Integer> ABC_retainIfB_B = () -> ABC_retainIfB_B();
+
+	/** Scenario: [A,B,C] -> retainIf(A or C) -> [A,C]
+	 * @return [A,C] after retainIf(A or C)
+	 */
+	private IndexedUnsortedList<Integer> ABC_retainIfAC_AC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.retainIf(e -> !e.equals(ELEMENT_B));
+		return list;
+	}
+	private Scenario<Integer> ABC_retainIfAC_AC = () -> ABC_retainIfAC_AC();
+
 
 	
 
@@ -1196,32 +1513,36 @@ public class ListTester {
 			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
 			printTest(scenarioName + "_testRemoveNeg1", testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
 			printTest(scenarioName + "_testRemove0", testRemoveIndex(scenario.build(), 0, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.False));
-			printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-				printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-				printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
-		  	} else {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
-		  	}
+			if (SNAPSHOT_ITERATORS) {
+				testSnapshotIterators(scenario, scenarioName, new Integer[0]);
+			} else {
+				// Iterator
+				printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+				printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.False));
+				printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
+				// ListIterator
+				if (SUPPORTS_LIST_ITERATOR) {
+					printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+					printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+					printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+					printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.IndexOutOfBounds));
+					printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.False));
+					printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+					printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+					printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
+			  	} else {
+					printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
+					printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
+			  	}
+			}
 		} catch (Exception e) {
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
 			e.printStackTrace();
@@ -1277,77 +1598,81 @@ public class ListTester {
 			printTest(scenarioName + "_testRemoveNeg1", testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
 			printTest(scenarioName + "_testRemove0", testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
 			printTest(scenarioName + "_testRemove1", testRemoveIndex(scenario.build(), 1, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
-			printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
-			printTest(scenarioName + "_iterNext_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 1), Result.False));
-			printTest(scenarioName + "_iterNext_testIterNext", testIterNext(iterAfterNext(scenario.build(), 1), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
-			printTest(scenarioName + "_iterNextRemove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.False));
-			printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNextRemove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-				printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
-				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.True));
-				printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-				printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
-				printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterNextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)), Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterNextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));
+			if (SNAPSHOT_ITERATORS) {
+				testSnapshotIterators(scenario, scenarioName, contents);
+			} else {
+				// Iterator
+				printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+				printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
+				printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
+				printTest(scenarioName + "_iterNext_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 1), Result.False));
+				printTest(scenarioName + "_iterNext_testIterNext", testIterNext(iterAfterNext(scenario.build(), 1), null, Result.NoSuchElement));
+				printTest(scenarioName + "_iterNext_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
+				printTest(scenarioName + "_iterNextRemove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.False));
+				printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), null, Result.NoSuchElement));
+				printTest(scenarioName + "_iterNextRemove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
+				// ListIterator
+				if (SUPPORTS_LIST_ITERATOR) {
+					printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+					printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+					printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+					printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
+					printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.IndexOutOfBounds));
+					printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.True));
+					printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+					printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+					printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
+					printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterNextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIterNextRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)), Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterNextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));
 				
-				printTest(scenarioName + "_testListIter0HasNext", testIterHasNext(scenario.build().listIterator(0), Result.True));
-				printTest(scenarioName + "_testListIter0Next", testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0HasPrevious", testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
-				printTest(scenarioName + "_testListIter0Previous", testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0Remove", testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
-				printTest(scenarioName + "_testListIter0Add", testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0Set", testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter0NextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0NextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0NextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter0HasNext", testIterHasNext(scenario.build().listIterator(0), Result.True));
+					printTest(scenarioName + "_testListIter0Next", testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0HasPrevious", testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
+					printTest(scenarioName + "_testListIter0Previous", testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0Remove", testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
+					printTest(scenarioName + "_testListIter0Add", testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0Set", testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter0NextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0NextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter0NextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter0NextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0NextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));
 				
-				printTest(scenarioName + "_testListIter1HasNext", testIterHasNext(scenario.build().listIterator(1), Result.False));
-				printTest(scenarioName + "_testListIter1Next", testIterNext(scenario.build().listIterator(1), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter1NextIndex", testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1HasPrevious", testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
-				printTest(scenarioName + "_testListIter1Previous", testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1Remove", testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
-				printTest(scenarioName + "_testListIter1Add", testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1Set", testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter1PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));
-		  	} else {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
-		  	}
+					printTest(scenarioName + "_testListIter1HasNext", testIterHasNext(scenario.build().listIterator(1), Result.False));
+					printTest(scenarioName + "_testListIter1Next", testIterNext(scenario.build().listIterator(1), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIter1NextIndex", testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1HasPrevious", testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
+					printTest(scenarioName + "_testListIter1Previous", testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1Remove", testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
+					printTest(scenarioName + "_testListIter1Add", testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1Set", testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter1PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));
+			  	} else {
+					printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
+					printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
+			  	}
+			}
 		} catch (Exception e) {
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
 			e.printStackTrace();
@@ -1411,106 +1736,110 @@ public class ListTester {
 			printTest(scenarioName + "_testRemove0", testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
 			printTest(scenarioName + "_testRemove1", testRemoveIndex(scenario.build(), 1, contents[1], Result.MatchingValue));
 			printTest(scenarioName + "_testRemove2", testRemoveIndex(scenario.build(), 2, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
-			printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
-
-			printTest(scenarioName + "_iterNext_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 1), Result.True));
-			printTest(scenarioName + "_iterNext_testIterNext", testIterNext(iterAfterNext(scenario.build(), 1), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_iterNext_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
-			printTest(scenarioName + "_iterNextRemove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.True));
-			printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_iterNextRemove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
-
-			printTest(scenarioName + "_iterNext2_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 2), Result.False));
-			printTest(scenarioName + "_iterNext2_testIterNext", testIterNext(iterAfterNext(scenario.build(), 2), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext2_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 2), Result.NoException));
-			printTest(scenarioName + "_iterNext2Remove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.False));
-			printTest(scenarioName + "_iterNext2Remove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext2Remove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
-
-			printTest(scenarioName + "_iterNextRemoveNext_testIterHasNext", testIterHasNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.False));
-			printTest(scenarioName + "_iterNextRemoveNext_testIterNext", testIterNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNextRemoveNext_testIterRemove", testIterRemove(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.NoException));
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-				printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
-				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.NoException));
-				printTest(scenarioName + "_testListIter3", testListIter(scenario.build(), 3, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.True));
-				printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-				printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
-				printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterNextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)), Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterNextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));
+			if (SNAPSHOT_ITERATORS) {
+				testSnapshotIterators(scenario, scenarioName, contents);
+			} else {
+				// Iterator
+				printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+				printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
+				printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
+
+				printTest(scenarioName + "_iterNext_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 1), Result.True));
+				printTest(scenarioName + "_iterNext_testIterNext", testIterNext(iterAfterNext(scenario.build(), 1), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_iterNext_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
+				printTest(scenarioName + "_iterNextRemove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.True));
+				printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_iterNextRemove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
+
+				printTest(scenarioName + "_iterNext2_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 2), Result.False));
+				printTest(scenarioName + "_iterNext2_testIterNext", testIterNext(iterAfterNext(scenario.build(), 2), null, Result.NoSuchElement));
+				printTest(scenarioName + "_iterNext2_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 2), Result.NoException));
+				printTest(scenarioName + "_iterNext2Remove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.False));
+				printTest(scenarioName + "_iterNext2Remove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), null, Result.NoSuchElement));
+				printTest(scenarioName + "_iterNext2Remove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
+
+				printTest(scenarioName + "_iterNextRemoveNext_testIterHasNext", testIterHasNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.False));
+				printTest(scenarioName + "_iterNextRemoveNext_testIterNext", testIterNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), null, Result.NoSuchElement));
+				printTest(scenarioName + "_iterNextRemoveNext_testIterRemove", testIterRemove(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.NoException));
+				// ListIterator
+				if (SUPPORTS_LIST_ITERATOR) {
+					printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+					printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+					printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+					printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
+					printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.NoException));
+					printTest(scenarioName + "_testListIter3", testListIter(scenario.build(), 3, Result.IndexOutOfBounds));
+					printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.True));
+					printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+					printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+					printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
+					printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterNextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIterNextRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)), Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterNextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));
 				
-				printTest(scenarioName + "_testListIter0HasNext", testIterHasNext(scenario.build().listIterator(0), Result.True));
-				printTest(scenarioName + "_testListIter0Next", testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0HasPrevious", testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
-				printTest(scenarioName + "_testListIter0Previous", testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0Remove", testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
-				printTest(scenarioName + "_testListIter0Add", testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0Set", testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter0NextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0NextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0NextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter0HasNext", testIterHasNext(scenario.build().listIterator(0), Result.True));
+					printTest(scenarioName + "_testListIter0Next", testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0HasPrevious", testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
+					printTest(scenarioName + "_testListIter0Previous", testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0Remove", testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
+					printTest(scenarioName + "_testListIter0Add", testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0Set", testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter0NextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0NextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter0NextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter0NextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0NextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));
 				
-				printTest(scenarioName + "_testListIter1HasNext", testIterHasNext(scenario.build().listIterator(1), Result.True));
-				printTest(scenarioName + "_testListIter1Next", testIterNext(scenario.build().listIterator(1), contents[1], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1NextIndex", testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1HasPrevious", testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
-				printTest(scenarioName + "_testListIter1Previous", testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1Remove", testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
-				printTest(scenarioName + "_testListIter1Add", testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1Set", testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter1PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));
-
-				printTest(scenarioName + "_testListIter2HasNext", testIterHasNext(scenario.build().listIterator(2), Result.False));
-				printTest(scenarioName + "_testListIter2Next", testIterNext(scenario.build().listIterator(2), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter2NextIndex", testListIterNextIndex(scenario.build().listIterator(2), 2, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2HasPrevious", testListIterHasPrevious(scenario.build().listIterator(2), Result.True));
-				printTest(scenarioName + "_testListIter2Previous", testListIterPrevious(scenario.build().listIterator(2), contents[1], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(2), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2Remove", testIterRemove(scenario.build().listIterator(2), Result.IllegalState));
-				printTest(scenarioName + "_testListIter2Add", testListIterAdd(scenario.build().listIterator(2), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter2Set", testListIterSet(scenario.build().listIterator(2), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter2PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 2), Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter2PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter2PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), ELEMENT_X, Result.NoException));
-		  	} else {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
-		  	}
+					printTest(scenarioName + "_testListIter1HasNext", testIterHasNext(scenario.build().listIterator(1), Result.True));
+					printTest(scenarioName + "_testListIter1Next", testIterNext(scenario.build().listIterator(1), contents[1], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1NextIndex", testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1HasPrevious", testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
+					printTest(scenarioName + "_testListIter1Previous", testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1Remove", testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
+					printTest(scenarioName + "_testListIter1Add", testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1Set", testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter1PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));
+
+					printTest(scenarioName + "_testListIter2HasNext", testIterHasNext(scenario.build().listIterator(2), Result.False));
+					printTest(scenarioName + "_testListIter2Next", testIterNext(scenario.build().listIterator(2), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIter2NextIndex", testListIterNextIndex(scenario.build().listIterator(2), 2, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter2HasPrevious", testListIterHasPrevious(scenario.build().listIterator(2), Result.True));
+					printTest(scenarioName + "_testListIter2Previous", testListIterPrevious(scenario.build().listIterator(2), contents[1], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter2PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(2), 1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter2Remove", testIterRemove(scenario.build().listIterator(2), Result.IllegalState));
+					printTest(scenarioName + "_testListIter2Add", testListIterAdd(scenario.build().listIterator(2), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter2Set", testListIterSet(scenario.build().listIterator(2), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter2PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 2), Result.NoException));
+					printTest(scenarioName + "_testListIter2PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter2PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter2PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), Result.NoException));
+					printTest(scenarioName + "_testListIter2PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter2PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), ELEMENT_X, Result.NoException));
+			  	} else {
+					printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
+					printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
+			  	}
+			}
 		} catch (Exception e) {
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
 			e.printStackTrace();
@@ -1582,134 +1911,138 @@ public class ListTester {
 			printTest(scenarioName + "_testRemove1", testRemoveIndex(scenario.build(), 1, contents[1], Result.MatchingValue));
 			printTest(scenarioName + "_testRemove2", testRemoveIndex(scenario.build(), 2, contents[2], Result.MatchingValue));
 			printTest(scenarioName + "_testRemove3", testRemoveIndex(scenario.build(), 3, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+			if (SNAPSHOT_ITERATORS) {
+				testSnapshotIterators(scenario, scenarioName, contents);
+			} else {
+				// Iterator
+				printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
 			
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
-			printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
-
-			printTest(scenarioName + "_iterNext_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 1), Result.True));
-			printTest(scenarioName + "_iterNext_testIterNext", testIterNext(iterAfterNext(scenario.build(), 1), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_iterNext_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
-			printTest(scenarioName + "_iterNextRemove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.True));
-			printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_iterNextRemove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
-
-			printTest(scenarioName + "_iterNext2_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 2), Result.True));
-			printTest(scenarioName + "_iterNext2_testIterNext", testIterNext(iterAfterNext(scenario.build(), 2), contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_iterNext2_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 2), Result.NoException));
-			printTest(scenarioName + "_iterNext2Remove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.True));
-			printTest(scenarioName + "_iterNext2Remove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_iterNext2Remove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
-
-			printTest(scenarioName + "_iterNext3_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 3), Result.False));
-			printTest(scenarioName + "_iterNext3_testIterNext", testIterNext(iterAfterNext(scenario.build(), 3), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext3_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 3), Result.NoException));
-			printTest(scenarioName + "_iterNext3Remove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 3)), Result.False));
-			printTest(scenarioName + "_iterNext3Remove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 3)), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext3Remove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 3)), Result.IllegalState));
-
-			printTest(scenarioName + "_iterNextRemoveNext_testIterHasNext", testIterHasNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.True));
-			printTest(scenarioName + "_iterNextRemoveNext_testIterNext", testIterNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_iterNextRemoveNext_testIterRemove", testIterRemove(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.NoException));
-			printTest(scenarioName + "_iterNext2RemoveNext_testIterHasNext", testIterHasNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), Result.False));
-			printTest(scenarioName + "_iterNext2RemoveNext_testIterNext", testIterNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext2RemoveNext_testIterRemove", testIterRemove(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), Result.NoException));
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-				printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
-				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.NoException));
-				printTest(scenarioName + "_testListIter3", testListIter(scenario.build(), 3, Result.NoException));
-				printTest(scenarioName + "_testListIter4", testListIter(scenario.build(), 4, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.True));
-				printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-				printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
-				printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterNextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)), Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIterNextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
+				printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
+
+				printTest(scenarioName + "_iterNext_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 1), Result.True));
+				printTest(scenarioName + "_iterNext_testIterNext", testIterNext(iterAfterNext(scenario.build(), 1), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_iterNext_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
+				printTest(scenarioName + "_iterNextRemove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.True));
+				printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_iterNextRemove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
+
+				printTest(scenarioName + "_iterNext2_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 2), Result.True));
+				printTest(scenarioName + "_iterNext2_testIterNext", testIterNext(iterAfterNext(scenario.build(), 2), contents[2], Result.MatchingValue));
+				printTest(scenarioName + "_iterNext2_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 2), Result.NoException));
+				printTest(scenarioName + "_iterNext2Remove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.True));
+				printTest(scenarioName + "_iterNext2Remove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), contents[2], Result.MatchingValue));
+				printTest(scenarioName + "_iterNext2Remove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
+
+				printTest(scenarioName + "_iterNext3_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 3), Result.False));
+				printTest(scenarioName + "_iterNext3_testIterNext", testIterNext(iterAfterNext(scenario.build(), 3), null, Result.NoSuchElement));
+				printTest(scenarioName + "_iterNext3_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 3), Result.NoException));
+				printTest(scenarioName + "_iterNext3Remove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 3)), Result.False));
+				printTest(scenarioName + "_iterNext3Remove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 3)), null, Result.NoSuchElement));
+				printTest(scenarioName + "_iterNext3Remove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 3)), Result.IllegalState));
+
+				printTest(scenarioName + "_iterNextRemoveNext_testIterHasNext", testIterHasNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.True));
+				printTest(scenarioName + "_iterNextRemoveNext_testIterNext", testIterNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), contents[2], Result.MatchingValue));
+				printTest(scenarioName + "_iterNextRemoveNext_testIterRemove", testIterRemove(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.NoException));
+				printTest(scenarioName + "_iterNext2RemoveNext_testIterHasNext", testIterHasNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), Result.False));
+				printTest(scenarioName + "_iterNext2RemoveNext_testIterNext", testIterNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), null, Result.NoSuchElement));
+				printTest(scenarioName + "_iterNext2RemoveNext_testIterRemove", testIterRemove(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), Result.NoException));
+				// ListIterator
+				if (SUPPORTS_LIST_ITERATOR) {
+					printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+					printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+					printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+					printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
+					printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.NoException));
+					printTest(scenarioName + "_testListIter3", testListIter(scenario.build(), 3, Result.NoException));
+					printTest(scenarioName + "_testListIter4", testListIter(scenario.build(), 4, Result.IndexOutOfBounds));
+					printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.True));
+					printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+					printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+					printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
+					printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterNextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIterNextRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)), Result.IllegalState));
+					printTest(scenarioName + "_testListIterNextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIterNextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));
 				
-				printTest(scenarioName + "_testListIter0HasNext", testIterHasNext(scenario.build().listIterator(0), Result.True));
-				printTest(scenarioName + "_testListIter0Next", testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0HasPrevious", testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
-				printTest(scenarioName + "_testListIter0Previous", testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0Remove", testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
-				printTest(scenarioName + "_testListIter0Add", testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0Set", testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter0NextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0NextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter0NextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter0HasNext", testIterHasNext(scenario.build().listIterator(0), Result.True));
+					printTest(scenarioName + "_testListIter0Next", testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0HasPrevious", testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
+					printTest(scenarioName + "_testListIter0Previous", testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter0Remove", testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
+					printTest(scenarioName + "_testListIter0Add", testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0Set", testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter0NextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0NextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter0NextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter0NextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter0NextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1), ELEMENT_X, Result.NoException));
 				
-				printTest(scenarioName + "_testListIter1HasNext", testIterHasNext(scenario.build().listIterator(1), Result.True));
-				printTest(scenarioName + "_testListIter1Next", testIterNext(scenario.build().listIterator(1), contents[1], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1NextIndex", testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1HasPrevious", testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
-				printTest(scenarioName + "_testListIter1Previous", testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1Remove", testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
-				printTest(scenarioName + "_testListIter1Add", testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1Set", testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter1PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter1PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));
-
-				printTest(scenarioName + "_testListIter2HasNext", testIterHasNext(scenario.build().listIterator(2), Result.True));
-				printTest(scenarioName + "_testListIter2Next", testIterNext(scenario.build().listIterator(2), contents[2], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2NextIndex", testListIterNextIndex(scenario.build().listIterator(2), 2, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2HasPrevious", testListIterHasPrevious(scenario.build().listIterator(2), Result.True));
-				printTest(scenarioName + "_testListIter2Previous", testListIterPrevious(scenario.build().listIterator(2), contents[1], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(2), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2Remove", testIterRemove(scenario.build().listIterator(2), Result.IllegalState));
-				printTest(scenarioName + "_testListIter2Add", testListIterAdd(scenario.build().listIterator(2), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter2Set", testListIterSet(scenario.build().listIterator(2), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter2PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 2), Result.NoException));
-				printTest(scenarioName + "_testListIterPreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter2PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter2PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), ELEMENT_X, Result.NoException));
-
-				printTest(scenarioName + "_testListIter3HasNext", testIterHasNext(scenario.build().listIterator(3), Result.False));
-				printTest(scenarioName + "_testListIter3Next", testIterNext(scenario.build().listIterator(3), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter3NextIndex", testListIterNextIndex(scenario.build().listIterator(3), 3, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter3HasPrevious", testListIterHasPrevious(scenario.build().listIterator(3), Result.True));
-				printTest(scenarioName + "_testListIter3Previous", testListIterPrevious(scenario.build().listIterator(3), contents[2], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter3PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(3), 2, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter3Remove", testIterRemove(scenario.build().listIterator(3), Result.IllegalState));
-				printTest(scenarioName + "_testListIter3Add", testListIterAdd(scenario.build().listIterator(3), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter3Set", testListIterSet(scenario.build().listIterator(3), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter3PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(3), 3), Result.NoException));
-				printTest(scenarioName + "_testListIter3PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(3), 3), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter3PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(3), 3), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter3PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3), Result.NoException));
-				printTest(scenarioName + "_testListIter3PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3), ELEMENT_X, Result.NoException));			
-				printTest(scenarioName + "_testListIter3PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3), ELEMENT_X, Result.NoException));
-		  	} else {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
-		  	}
+					printTest(scenarioName + "_testListIter1HasNext", testIterHasNext(scenario.build().listIterator(1), Result.True));
+					printTest(scenarioName + "_testListIter1Next", testIterNext(scenario.build().listIterator(1), contents[1], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1NextIndex", testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1HasPrevious", testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
+					printTest(scenarioName + "_testListIter1Previous", testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter1Remove", testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
+					printTest(scenarioName + "_testListIter1Add", testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1Set", testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter1PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), Result.NoException));
+					printTest(scenarioName + "_testListIter1PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter1PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));
+
+					printTest(scenarioName + "_testListIter2HasNext", testIterHasNext(scenario.build().listIterator(2), Result.True));
+					printTest(scenarioName + "_testListIter2Next", testIterNext(scenario.build().listIterator(2), contents[2], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter2NextIndex", testListIterNextIndex(scenario.build().listIterator(2), 2, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter2HasPrevious", testListIterHasPrevious(scenario.build().listIterator(2), Result.True));
+					printTest(scenarioName + "_testListIter2Previous", testListIterPrevious(scenario.build().listIterator(2), contents[1], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter2PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(2), 1, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter2Remove", testIterRemove(scenario.build().listIterator(2), Result.IllegalState));
+					printTest(scenarioName + "_testListIter2Add", testListIterAdd(scenario.build().listIterator(2), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter2Set", testListIterSet(scenario.build().listIterator(2), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter2PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 2), Result.NoException));
+					printTest(scenarioName + "_testListIterPreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter2PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter2PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), Result.NoException));
+					printTest(scenarioName + "_testListIter2PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter2PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2), ELEMENT_X, Result.NoException));
+
+					printTest(scenarioName + "_testListIter3HasNext", testIterHasNext(scenario.build().listIterator(3), Result.False));
+					printTest(scenarioName + "_testListIter3Next", testIterNext(scenario.build().listIterator(3), null, Result.NoSuchElement));
+					printTest(scenarioName + "_testListIter3NextIndex", testListIterNextIndex(scenario.build().listIterator(3), 3, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter3HasPrevious", testListIterHasPrevious(scenario.build().listIterator(3), Result.True));
+					printTest(scenarioName + "_testListIter3Previous", testListIterPrevious(scenario.build().listIterator(3), contents[2], Result.MatchingValue));
+					printTest(scenarioName + "_testListIter3PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(3), 2, Result.MatchingValue));
+					printTest(scenarioName + "_testListIter3Remove", testIterRemove(scenario.build().listIterator(3), Result.IllegalState));
+					printTest(scenarioName + "_testListIter3Add", testListIterAdd(scenario.build().listIterator(3), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter3Set", testListIterSet(scenario.build().listIterator(3), ELEMENT_X, Result.IllegalState));
+					printTest(scenarioName + "_testListIter3PreviousRemove", testIterRemove(listIterAfterPrevious(scenario.build().listIterator(3), 3), Result.NoException));
+					printTest(scenarioName + "_testListIter3PreviousAdd", testListIterAdd(listIterAfterPrevious(scenario.build().listIterator(3), 3), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter3PreviousSet", testListIterSet(listIterAfterPrevious(scenario.build().listIterator(3), 3), ELEMENT_X, Result.NoException));
+					printTest(scenarioName + "_testListIter3PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3), Result.NoException));
+					printTest(scenarioName + "_testListIter3PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3), ELEMENT_X, Result.NoException));			
+					printTest(scenarioName + "_testListIter3PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3), ELEMENT_X, Result.NoException));
+			  	} else {
+					printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
+					printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
+			  	}
+			}
 		} catch (Exception e) {
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
 			e.printStackTrace();
@@ -1720,6 +2053,76 @@ public class ListTester {
 		}
 	}
 
+	////////////////////////////////////////////////
+	// XXX Tests for snapshot iterators
+	////////////////////////////////////////////////
+
+	/** Run the Iterator and ListIterator tests for lists whose iterators walk a snapshot taken
+	 * when they are created: they read like any other, refuse every change, and never see
+	 * later changes to the list.
+	 * @param scenario lambda reference to scenario builder method
+	 * @param scenarioName name of the scenario being tested
+	 * @param contents elements expected in the list after scenario has been set up
+	 */
+	private void testSnapshotIterators(Scenario<Integer> scenario, String scenarioName, Integer[] contents) {
+		int size = contents.length;
+		// Iterator
+		printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+		for (int i = 0; i <= size; i++) {
+			String name = scenarioName + "_iterNext" + i;
+			printTest(name + "_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), i), (i < size) ? Result.True : Result.False));
+			printTest(name + "_testIterNext", testIterNext(iterAfterNext(scenario.build(), i), (i < size) ? contents[i] : null, (i < size) ? Result.MatchingValue : Result.NoSuchElement));
+			printTest(name + "_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), i), Result.UnsupportedOperation));
+		}
+		IndexedUnsortedList<Integer> list = scenario.build();
+		Iterator<Integer> it = list.iterator();
+		list.addToRear(ELEMENT_X);
+		printTest(scenarioName + "_iterAddToRearX_testIterContents", testIterContents(it, contents));
+		list = scenario.build();
+		it = list.iterator();
+		list.clear();
+		printTest(scenarioName + "_iterClear_testIterContents", testIterContents(it, contents));
+		// ListIterator
+		printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+		printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+		printTest(scenarioName + "_testListIter" + (size + 1), testListIter(scenario.build(), size + 1, Result.IndexOutOfBounds));
+		for (int i = 0; i <= size; i++) {
+			String name = scenarioName + "_testListIter" + i;
+			printTest(name + "NextIndex", testListIterNextIndex(scenario.build().listIterator(i), i, Result.MatchingValue));
+			printTest(name + "PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(i), i - 1, Result.MatchingValue));
+			printTest(name + "HasPrevious", testListIterHasPrevious(scenario.build().listIterator(i), (i > 0) ? Result.True : Result.False));
+			printTest(name + "Previous", testListIterPrevious(scenario.build().listIterator(i), (i > 0) ? contents[i - 1] : null, (i > 0) ? Result.MatchingValue : Result.NoSuchElement));
+			printTest(name + "Add", testListIterAdd(scenario.build().listIterator(i), ELEMENT_X, Result.UnsupportedOperation));
+			if (i < size) {
+				printTest(name + "NextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(i), 1), Result.UnsupportedOperation));
+				printTest(name + "NextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(i), 1), ELEMENT_X, Result.UnsupportedOperation));
+			}
+		}
+		if (size > 0) {
+			list = scenario.build();
+			ListIterator<Integer> listIt = list.listIterator(size);
+			list.clear();
+			printTest(scenarioName + "_listIterClear_testListIterPrevious", testListIterPrevious(listIt, contents[size - 1], Result.MatchingValue));
+		}
+	}
+
+	/** Runs an iterator to its end and checks the elements it returns against contents
+	 * @param iterator an iterator that has not been advanced
+	 * @param contents expected elements, in order
+	 * @return test success
+	 */
+	private boolean testIterContents(Iterator<Integer> iterator, Integer[] contents) {
+		try {
+			java.util.ArrayList<Integer> seen = new java.util.ArrayList<Integer>();
+			iterator.forEachRemaining(element -> seen.add(element));
+			return Arrays.equals(seen.toArray(), contents);
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIterContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
 	////////////////////////////
 	// XXX LIST TEST METHODS
 	////////////////////////////
@@ -2136,6 +2539,50 @@ public class ListTester {
 		}
 	}
 
+	/** Runs addAll(int, Iterable) method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index
+	 * @param elements
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAddAllAtIndex(IndexedUnsortedList<Integer> list, int index, Iterable<Integer> elements, Result expectedResult) {
+		Result result;
+		try {
+			list.addAll(index, elements);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddAllAtIndex", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs removeRange(int, int) method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param fromIndex
+	 * @param toIndex
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testRemoveRange(IndexedUnsortedList<Integer> list, int fromIndex, int toIndex, Result expectedResult) {
+		Result result;
+		try {
+			list.removeRange(fromIndex, toIndex);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveRange", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
 	////////////////////////////
 	// XXX ITERATOR TESTS
 	////////////////////////////
@@ -2223,6 +2670,8 @@ public class ListTester {
 			result = Result.IllegalState;
 		} catch (ConcurrentModificationException e) {
 			result = Result.ConcurrentModification;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (Exception e) {
 			System.out.printf("%s caught unexpected %s\n", "testIterRemove", e.toString());
 			e.printStackTrace();
@@ -2406,6 +2855,8 @@ public class ListTester {
 			result = Result.NoException;
 		} catch (ConcurrentModificationException e) {
 			result = Result.ConcurrentModification;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (Exception e) {
 			System.out.printf("%s caught unexpected %s\n", "testListIterAdd", e.toString());
 			e.printStackTrace();
@@ -2429,6 +2880,8 @@ public class ListTester {
 			result = Result.ConcurrentModification;
 		} catch (IllegalStateException e) {
 			result = Result.IllegalState;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (Exception e) {
 			System.out.printf("%s caught unexpected %s\n", "testListIterSet", e.toString());
 			e.printStackTrace();
@@ -2570,6 +3023,251 @@ public class ListTester {
 		return iterator;
 	}
 
+	////////////////////////////////////////////////////////
+	// XXX Bulk Operation Tests
+	////////////////////////////////////////////////////////
+
+	/** run index bounds and concurrency tests for addAll(), removeRange() and clear() */
+	private void test_BulkOperations() {
+		System.out.println("\nBulk Operation Tests\n");
+		try {
+			printTest("emptyList_testAddAllAtIndexNeg1", testAddAllAtIndex(newList(), -1, Arrays.asList(ELEMENT_X), Result.IndexOutOfBounds));
+			printTest("emptyList_testAddAllAtIndex1", testAddAllAtIndex(newList(), 1, Arrays.asList(ELEMENT_X), Result.IndexOutOfBounds));
+			printTest("emptyList_testAddAllAtIndex0Empty", testAddAllAtIndex(newList(), 0, Arrays.asList(), Result.NoException));
+			printTest("AB_testAddAllAtIndex3", testAddAllAtIndex(A_addToRearB_AB(), 3, Arrays.asList(ELEMENT_X), Result.IndexOutOfBounds));
+			printTest("AB_testAddAllAtIndex2", testAddAllAtIndex(A_addToRearB_AB(), 2, Arrays.asList(ELEMENT_X), Result.NoException));
+			printTest("emptyList_testRemoveRange00", testRemoveRange(newList(), 0, 0, Result.NoException));
+			printTest("emptyList_testRemoveRange01", testRemoveRange(newList(), 0, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRangeNeg1To1", testRemoveRange(AB_addToRearC_ABC(), -1, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRange24", testRemoveRange(AB_addToRearC_ABC(), 2, 4, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRange21", testRemoveRange(AB_addToRearC_ABC(), 2, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRange33", testRemoveRange(AB_addToRearC_ABC(), 3, 3, Result.NoException));
+			IndexedUnsortedList<Integer> list = emptyList_addToFrontA_A();
+			list.addAll(list);
+			printTest("A_addAllSelf_testSize", testSize(list, 2));
+			printTest("A_addAllSelf_testLast", testLast(list, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			Iterator<Integer> it1 = list.iterator();
+			list.addAll(Arrays.asList(ELEMENT_B, ELEMENT_C));
+			printTest("A_addAllBC_testIterHasNextConcurrent", testIterHasNext(it1, SNAPSHOT_ITERATORS ? Result.True : Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			list.removeRange(0, 2);
+			printTest("ABC_removeRange02_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, SNAPSHOT_ITERATORS ? Result.MatchingValue : Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			list.clear();
+			printTest("ABC_clear_testIterHasNextConcurrent", testIterHasNext(it1, SNAPSHOT_ITERATORS ? Result.True : Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			list.clear();
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_clearAddToRearD_testFirst", testFirst(list, ELEMENT_D, Result.MatchingValue));
+			printTest("ABC_clearAddToRearD_testSize", testSize(list, 1));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_BulkOperations");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Stream Tests
+	////////////////////////////////////////////////////////
+
+	/** Runs stream() or parallelStream() on a given list and checks the collected elements against expected contents
+	 * @param list a list already prepared for a given change scenario
+	 * @param parallel true to use parallelStream()
+	 * @param contents expected elements in order
+	 * @return test success
+	 */
+	private boolean testStreamContents(IndexedUnsortedList<Integer> list, boolean parallel, Integer[] contents) {
+		try {
+			Object[] streamed = (parallel ? list.parallelStream() : list.stream()).toArray();
+			return Arrays.equals(streamed, contents);
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testStreamContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Runs a stream over a given list whose action adds to the list, and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testStreamConcurrent(IndexedUnsortedList<Integer> list, Result expectedResult) {
+		Result result;
+		try {
+			list.stream().forEach(element -> list.addToRear(element));
+			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testStreamConcurrent", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** run stream(), parallelStream() and spliterator() tests */
+	private void test_Streams() {
+		System.out.println("\nStream Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			printTest("emptyList_testStream", testStreamContents(newList(), false, new Integer[0]));
+			printTest("emptyList_testParallelStream", testStreamContents(newList(), true, new Integer[0]));
+			printTest("ABC_testStream", testStreamContents(AB_addToRearC_ABC(), false, LIST_ABC));
+			printTest("ABC_testParallelStream", testStreamContents(AB_addToRearC_ABC(), true, LIST_ABC));
+			printTest("ABC_testSpliteratorSized", AB_addToRearC_ABC().spliterator().getExactSizeIfKnown() == 3);
+			printTest("ABC_testSpliteratorOrdered", AB_addToRearC_ABC().spliterator().hasCharacteristics(java.util.Spliterator.ORDERED));
+			printTest("ABC_testStreamAddToRearConcurrent", testStreamConcurrent(AB_addToRearC_ABC(), SNAPSHOT_ITERATORS ? Result.NoException : Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Streams");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Writes a given list with ListSerializer, reads it back and checks the copy against contents
+	 * @param list a list already prepared for a given change scenario
+	 * @param contents expected elements, in order
+	 * @return test success
+	 */
+	private boolean testSerializeRoundTrip(IndexedUnsortedList<Integer> list, Integer[] contents) {
+		try {
+			ListSerializer<Integer> serializer = new ListSerializer<Integer>(ElementCodec.INTEGER);
+			java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate((int) serializer.serializedSize(list.size()));
+			serializer.write(list, buffer);
+			buffer.flip();
+			IndexedUnsortedList<Integer> copy = serializer.read(buffer);
+			return !buffer.hasRemaining() && Arrays.equals(copy.stream().toArray(), contents);
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSerializeRoundTrip", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Runs forEach and forEachIndexed over a given list and checks the elements, and the indexes passed along, against contents
+	 * @param list a list already prepared for a given change scenario
+	 * @param contents expected elements, in order
+	 * @return test success
+	 */
+	private boolean testForEachContents(IndexedUnsortedList<Integer> list, Integer[] contents) {
+		try {
+			java.util.ArrayList<Integer> seen = new java.util.ArrayList<Integer>();
+			list.forEach(element -> seen.add(element));
+			java.util.ArrayList<Integer> indexed = new java.util.ArrayList<Integer>();
+			boolean[] indexesMatch = {true};
+			list.forEachIndexed((index, element) -> {
+				indexesMatch[0] &= (index == indexed.size());
+				indexed.add(element);
+			});
+			return Arrays.equals(seen.toArray(), contents) && Arrays.equals(indexed.toArray(), contents) && indexesMatch[0];
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testForEachContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Runs forEach, or forEachIndexed, over a given list with an action that adds to the list, and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param indexed whether to use forEachIndexed instead of forEach
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testForEachConcurrent(IndexedUnsortedList<Integer> list, boolean indexed, Result expectedResult) {
+		Result result;
+		try {
+			if (indexed) {
+				list.forEachIndexed((index, element) -> list.addToRear(element));
+			} else {
+				list.forEach(element -> list.addToRear(element));
+			}
+			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testForEachConcurrent", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs forEach, or forEachIndexed, over a given list with a null action, which must throw NullPointerException even with no elements to visit
+	 * @param list a list already prepared for a given change scenario
+	 * @param indexed whether to use forEachIndexed instead of forEach
+	 * @return test success
+	 */
+	private boolean testForEachNullAction(IndexedUnsortedList<Integer> list, boolean indexed) {
+		try {
+			if (indexed) {
+				list.forEachIndexed(null);
+			} else {
+				list.forEach(null);
+			}
+			return false;
+		} catch (NullPointerException e) {
+			return true;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testForEachNullAction", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** run forEach() and forEachIndexed() tests */
+	private void test_ForEach() {
+		System.out.println("\nforEach Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			printTest("emptyList_testForEach", testForEachContents(newList(), new Integer[0]));
+			printTest("A_testForEach", testForEachContents(emptyList_addToRearA_A(), new Integer[] {ELEMENT_A}));
+			printTest("ABC_testForEach", testForEachContents(AB_addToRearC_ABC(), LIST_ABC));
+			printTest("ABC_removeIfB_AC_testForEach", testForEachContents(ABC_removeIfB_AC(), new Integer[] {ELEMENT_A, ELEMENT_C}));
+			printTest("emptyList_testForEachNullAction", testForEachNullAction(newList(), false));
+			printTest("emptyList_testForEachIndexedNullAction", testForEachNullAction(newList(), true));
+			printTest("emptyList_testForEachAddToRearConcurrent", testForEachConcurrent(newList(), false, Result.NoException));
+			printTest("ABC_testForEachAddToRearConcurrent", testForEachConcurrent(AB_addToRearC_ABC(), false, SNAPSHOT_ITERATORS ? Result.NoException : Result.ConcurrentModification));
+			printTest("ABC_testForEachIndexedAddToRearConcurrent", testForEachConcurrent(AB_addToRearC_ABC(), true, SNAPSHOT_ITERATORS ? Result.NoException : Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ForEach");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** run serialization tests */
+	private void test_Serialization() {
+		System.out.println("\nSerialization Tests\n");
+		try {
+			printTest("emptyList_testSerializeRoundTrip", testSerializeRoundTrip(newList(), new Integer[0]));
+			printTest("A_testSerializeRoundTrip", testSerializeRoundTrip(emptyList_addToRearA_A(), new Integer[] {ELEMENT_A}));
+			printTest("ABC_testSerializeRoundTrip", testSerializeRoundTrip(AB_addToRearC_ABC(), new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C}));
+			printTest("ABC_removeRange12_AC_testSerializeRoundTrip", testSerializeRoundTrip(ABC_removeRange12_AC(), new Integer[] {ELEMENT_A, ELEMENT_C}));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Serialization");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
 	////////////////////////////////////////////////////////
 	// XXX Iterator Concurrency Tests
 	// Can simply use as given. Don't need to add more.
@@ -0,0 +1,578 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stress test and throughput comparison for LockFreeIUDeque.
+ *
+ * Runs five steps, exiting with status 1 if any of the first four fails:
+ *  linearizability : many tiny histories (a few threads, a few front/rear operations
+ *                    each) are run against a fresh deque with every call's start and end
+ *                    time recorded. Each history is then searched for an order of the
+ *                    calls that respects those times and gives the same results on a
+ *                    sequential ArrayDeque. A history without one is a violation.
+ *  wrapper         : single threaded, every method the wrapper implements itself: remove
+ *                    returning the stored instance, addAll at the front keeping its order,
+ *                    get and indexOf counting along the deque, the null handling, removeIf
+ *                    removing nothing when its predicate throws, out of range indexes
+ *                    throwing IndexOutOfBoundsException, and the index-based methods
+ *                    that must throw UnsupportedOperationException.
+ *  remove          : threads race remove(element) over many equal but distinct instances.
+ *                    Every instance must come back exactly once, and never the argument.
+ *  reads           : readers call get, indexOf, contains, size and iterate while writers
+ *                    churn the front and rear around a block of elements that stays put.
+ *                    Weakly consistent walks must still find every element of that block.
+ *  throughput      : threads run add/remove pairs at both ends against LockFreeIUDeque
+ *                    and against an IUDoubleLinkedList with every call in synchronized.
+ *
+ * Valid command line args include:
+ *  -threads 4      : threads for the concurrent checks and throughput runs (default 2x the cores, at least 4)
+ *  -histories 20000: tiny histories to check (default 20000)
+ *  -millis 1000    : time per reads check and per throughput measurement (default 1000)
+ *
+ * Compile and run from the directory containing all source files:
+ *  $ javac LockFreeDequeStress.java
+ *  $ java LockFreeDequeStress
+ */
+public class LockFreeDequeStress {
+	private static final int HISTORY_THREADS = 3;
+	private static final int HISTORY_OPS = 3;// per thread
+	private static final int OP_COUNT = 6;// addToFront, addToRear, removeFirst, removeLast, first, last
+	private static final int EMPTY = Integer.MIN_VALUE;// result recorded when a call threw NoSuchElementException
+	private static final int PER_THREAD = 20_000;// instances each thread removes in the remove check
+	private static final int KEYS = 16;// distinct values those instances are equal to
+	private static final int STABLE = 100;// elements that stay put in the reads check
+
+	private static volatile long sink;// results are folded in here so the JIT cannot drop the calls
+
+	private int threads = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+	private int histories = 20000;
+	private long millis = 1000;
+
+	/** One call in a history: what was called, what it returned and when it ran */
+	private static class Call {
+		int op;
+		int argument;
+		int result;
+		long start, end;
+	}
+
+	/**
+	 * Runs the checks described by the command line args.
+	 * @param args see class comment
+	 */
+	public static void main(String[] args) throws Exception {
+		LockFreeDequeStress stress = new LockFreeDequeStress(args);
+		boolean ok = stress.run("linearizability", stress::checkLinearizability);
+		ok &= stress.run("wrapper", stress::checkWrapper);
+		ok &= stress.run("remove", stress::checkConcurrentRemove);
+		ok &= stress.run("reads", stress::checkWeakReads);
+		stress.compareThroughput();
+		if (!ok) {
+			System.exit(1);
+		}
+	}
+
+	/** stress test constructor
+	 * @param args command line args
+	 */
+	public LockFreeDequeStress(String[] args) {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equalsIgnoreCase("-threads")) {
+				threads = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-histories")) {
+				histories = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-millis")) {
+				millis = Long.parseLong(args[i + 1]);
+			}
+		}
+	}
+
+	/** A check that may throw; failures are reported by throwing IllegalStateException */
+	private interface Check {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Runs one check, reporting the first mismatch it throws.
+	 *
+	 * @return true if the check passed
+	 */
+	private boolean run(String name, Check check) {
+		try {
+			check.run();
+			System.err.printf("%-16s ok\n", name);
+			return true;
+		} catch (Exception e) {
+			System.err.printf("%-16s FAILED: %s\n", name, e);
+			return false;
+		}
+	}
+
+	/**
+	 * Calls one of the six deque operations and returns its result, EMPTY if it threw
+	 * NoSuchElementException, or 0 for adds.
+	 */
+	private static int apply(IndexedUnsortedList<Integer> list, int op, int argument) {
+		try {
+			switch (op) {
+			case 0:
+				list.addToFront(argument);
+				return 0;
+			case 1:
+				list.addToRear(argument);
+				return 0;
+			case 2:
+				return list.removeFirst();
+			case 3:
+				return list.removeLast();
+			case 4:
+				return list.first();
+			default:
+				return list.last();
+			}
+		} catch (NoSuchElementException e) {
+			return EMPTY;
+		}
+	}
+
+	/**
+	 * Same as apply, on the sequential model.
+	 */
+	private static int applyModel(ArrayDeque<Integer> model, int op, int argument) {
+		if (op >= 2 && model.isEmpty()) {
+			return EMPTY;
+		}
+		switch (op) {
+		case 0:
+			model.addFirst(argument);
+			return 0;
+		case 1:
+			model.addLast(argument);
+			return 0;
+		case 2:
+			return model.removeFirst();
+		case 3:
+			return model.removeLast();
+		case 4:
+			return model.getFirst();
+		default:
+			return model.getLast();
+		}
+	}
+
+	/**
+	 * Runs the tiny histories and checks each one for a valid linearization, printing
+	 * the first few that have none.
+	 */
+	private void checkLinearizability() throws Exception {
+		Random rand = new Random(221);
+		int violations = 0;
+		for (int h = 0; h < histories; h++) {
+			LockFreeIUDeque<Integer> deque = new LockFreeIUDeque<Integer>();
+			int prefill = rand.nextInt(3);// sometimes empty, so the NoSuchElementException paths race too
+			for (int i = 0; i < prefill; i++) {
+				deque.addToRear(100 + i);
+			}
+			Call[][] calls = new Call[HISTORY_THREADS][HISTORY_OPS];
+			for (int t = 0; t < HISTORY_THREADS; t++) {
+				for (int k = 0; k < HISTORY_OPS; k++) {
+					calls[t][k] = new Call();
+					calls[t][k].op = rand.nextInt(OP_COUNT);
+					calls[t][k].argument = t * 10 + k;// unique, so every removal can be traced to its add
+				}
+			}
+			CyclicBarrier barrier = new CyclicBarrier(HISTORY_THREADS);
+			Thread[] workers = new Thread[HISTORY_THREADS];
+			for (int t = 0; t < HISTORY_THREADS; t++) {
+				Call[] mine = calls[t];
+				workers[t] = new Thread(() -> {
+					try {
+						barrier.await();
+					} catch (Exception e) {
+						return;
+					}
+					for (Call call : mine) {
+						call.start = System.nanoTime();
+						call.result = apply(deque, call.op, call.argument);
+						call.end = System.nanoTime();
+					}
+				});
+				workers[t].start();
+			}
+			for (Thread worker : workers) {
+				worker.join();
+			}
+			ArrayDeque<Integer> model = new ArrayDeque<Integer>();
+			for (int i = 0; i < prefill; i++) {
+				model.addLast(100 + i);
+			}
+			if (!linearizable(calls, new int[HISTORY_THREADS], model)) {
+				violations++;
+				if (violations <= 5) {
+					System.err.println("not linearizable: " + describe(calls, prefill));
+				}
+			}
+		}
+		check(violations == 0, violations + " of " + histories + " histories not linearizable");
+	}
+
+	/**
+	 * Searches for a linearization of the calls not yet placed. A thread's next call can
+	 * go next if it started before every unplaced call finished; it is placed if the
+	 * model gives the same result, and the search backtracks if the rest cannot be placed.
+	 *
+	 * @param calls  the history, one row per thread
+	 * @param placed calls already placed from each thread
+	 * @param model  sequential deque after the placed calls
+	 * @return true if the remaining calls can be linearized
+	 */
+	private static boolean linearizable(Call[][] calls, int[] placed, ArrayDeque<Integer> model) {
+		long earliestEnd = Long.MAX_VALUE;
+		boolean done = true;
+		for (int t = 0; t < calls.length; t++) {
+			if (placed[t] < calls[t].length) {
+				done = false;
+				earliestEnd = Math.min(earliestEnd, calls[t][placed[t]].end);// a thread's own calls end in order
+			}
+		}
+		if (done) {
+			return true;
+		}
+		for (int t = 0; t < calls.length; t++) {
+			if (placed[t] < calls[t].length) {
+				Call call = calls[t][placed[t]];
+				if (call.start <= earliestEnd) {
+					ArrayDeque<Integer> next = model.clone();
+					if (applyModel(next, call.op, call.argument) == call.result) {
+						placed[t]++;
+						boolean found = linearizable(calls, placed, next);
+						placed[t]--;
+						if (found) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Formats a history for the failure report.
+	 */
+	private static String describe(Call[][] calls, int prefill) {
+		String[] names = {"addToFront", "addToRear", "removeFirst", "removeLast", "first", "last"};
+		StringBuilder str = new StringBuilder("prefill " + prefill);
+		for (int t = 0; t < calls.length; t++) {
+			str.append(" | thread ").append(t).append(':');
+			for (Call call : calls[t]) {
+				str.append(' ').append(names[call.op]);
+				str.append(call.op < 2 ? "(" + call.argument + ")" : "=" + (call.result == EMPTY ? "empty" : call.result));
+			}
+		}
+		return str.toString();
+	}
+
+	private void checkWrapper() {
+		LockFreeIUDeque<String> deque = new LockFreeIUDeque<String>();
+		String stored = new String("b");
+		deque.addToRear("a");
+		deque.addToRear(stored);
+		deque.addToRear("c");
+		deque.addToRear(new String("b"));
+		String removed = deque.remove(new String("b"));
+		check(removed == stored, "remove returned " + (removed == stored ? "" : "not ") + "the stored instance");
+		check(deque.toString().equals("[a, c, b]"), "after remove: " + deque);
+		expectThrows(NoSuchElementException.class, () -> deque.remove("x"), "remove of a missing element");
+		expectThrows(NoSuchElementException.class, () -> deque.remove(null), "remove(null)");
+		check(!deque.contains(null), "contains(null)");
+
+		deque.addAll(0, Arrays.asList("x", "y"));
+		check(deque.toString().equals("[x, y, a, c, b]"), "addAll at the front: " + deque);
+		deque.addAll(deque.size(), Arrays.asList("z"));
+		check(deque.last().equals("z"), "addAll at size()");
+		expectThrows(UnsupportedOperationException.class, () -> deque.addAll(1, Arrays.asList("q")), "addAll in the middle");
+		expectThrows(IndexOutOfBoundsException.class, () -> deque.addAll(-1, Arrays.asList("q")), "addAll(-1)");
+		expectThrows(IndexOutOfBoundsException.class, () -> deque.addAll(7, Arrays.asList("q")), "addAll past size()");
+
+		check(deque.get(0).equals("x") && deque.get(5).equals("z"), "get at the ends");
+		expectThrows(IndexOutOfBoundsException.class, () -> deque.get(-1), "get(-1)");
+		expectThrows(IndexOutOfBoundsException.class, () -> deque.get(6), "get(size)");
+		check(deque.indexOf("a") == 2 && deque.indexOf("q") == -1, "indexOf");
+		check(deque.size() == 6 && !deque.isEmpty(), "size");
+
+		expectThrows(UnsupportedOperationException.class, () -> deque.add(1, "q"), "add at an index");
+		expectThrows(UnsupportedOperationException.class, () -> deque.addAfter("q", "a"), "addAfter");
+		expectThrows(UnsupportedOperationException.class, () -> deque.remove(1), "remove at an index");
+		expectThrows(UnsupportedOperationException.class, () -> deque.removeRange(0, 1), "removeRange");
+		expectThrows(UnsupportedOperationException.class, () -> deque.set(0, "q"), "set");
+		expectThrows(UnsupportedOperationException.class, () -> deque.listIterator(), "listIterator");
+
+		String before = deque.toString();
+		expectThrows(IllegalStateException.class, () -> deque.removeIf(element -> {
+			if (element.equals("a")) {
+				throw new IllegalStateException();
+			}
+			return true;
+		}), "removeIf with a throwing predicate");
+		check(deque.toString().equals(before), "removeIf removed elements before its predicate threw: " + deque);
+		check(deque.removeIf(element -> element.compareTo("x") >= 0), "removeIf");
+		Iterator<String> it = deque.iterator();
+		it.next();
+		it.remove();
+		check(deque.toString().equals("[c, b]"), "after removeIf and iterator remove: " + deque);
+		deque.clear();
+		check(deque.isEmpty() && deque.size() == 0, "clear");
+		expectThrows(NoSuchElementException.class, () -> deque.first(), "first on an empty deque");
+	}
+
+	/**
+	 * Fills the deque with equal but distinct instances of a few keys and has every thread
+	 * remove its share by key. Each instance must be returned exactly once, and it must be
+	 * one of the stored ones, not the key the thread passed in.
+	 */
+	private void checkConcurrentRemove() throws InterruptedException {
+		LockFreeIUDeque<String> deque = new LockFreeIUDeque<String>();
+		IdentityHashMap<String, Boolean> stored = new IdentityHashMap<String, Boolean>();
+		for (int i = 0; i < threads * PER_THREAD; i++) {
+			String instance = new String("k" + (i % KEYS));
+			stored.put(instance, Boolean.FALSE);
+			deque.addToRear(instance);
+		}
+		List<List<String>> returned = new ArrayList<List<String>>();
+		AtomicLong errors = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			List<String> mine = new ArrayList<String>(PER_THREAD);
+			returned.add(mine);
+			int offset = t;
+			workers[t] = new Thread(() -> {
+				awaitQuietly(start);
+				for (int i = 0; i < PER_THREAD; i++) {
+					String key = new String("k" + ((i + offset) % KEYS));
+					try {
+						String instance = deque.remove(key);
+						if (instance == key || !instance.equals(key)) {
+							errors.incrementAndGet();
+						}
+						mine.add(instance);
+					} catch (NoSuchElementException e) {
+						errors.incrementAndGet();// there are always enough equal instances left
+					}
+				}
+			});
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		for (List<String> mine : returned) {
+			for (String instance : mine) {
+				Boolean seen = stored.put(instance, Boolean.TRUE);
+				if (seen == null || seen) {
+					errors.incrementAndGet();// not a stored instance, or returned twice
+				}
+			}
+		}
+		check(errors.get() == 0, errors.get() + " wrong results from " + threads * PER_THREAD + " removes");
+		check(deque.isEmpty(), "elements left after removing every one");
+	}
+
+	/**
+	 * Writers add and remove at both ends of a block of STABLE elements that nobody
+	 * removes, while readers check that weakly consistent walks always find all of them.
+	 */
+	private void checkWeakReads() throws InterruptedException {
+		LockFreeIUDeque<Integer> deque = new LockFreeIUDeque<Integer>();
+		for (int i = 0; i < STABLE; i++) {
+			deque.addToRear(i);
+		}
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong errors = new AtomicLong();
+		AtomicLong reads = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		int writers = Math.max(1, threads / 2);
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			boolean writer = t < writers;
+			workers[t] = new Thread(() -> {
+				awaitQuietly(start);
+				ThreadLocalRandom rand = ThreadLocalRandom.current();
+				long n = 0;
+				while (running.get()) {
+					int i = rand.nextInt(STABLE);
+					try {
+						if (writer) {// churn only negative values, so the block stays intact
+							deque.addToFront(-1);
+							deque.addToRear(-2);
+							deque.remove(Integer.valueOf(-1));
+							deque.remove(Integer.valueOf(-2));
+							continue;
+						}
+						switch (rand.nextInt(5)) {
+						case 0:
+							sink += deque.get(i);// the block alone is STABLE long, so i is always in range
+							break;
+						case 1:
+							if (deque.indexOf(i) < 0) {
+								errors.incrementAndGet();
+							}
+							break;
+						case 2:
+							if (!deque.contains(i)) {
+								errors.incrementAndGet();
+							}
+							break;
+						case 3:
+							if (deque.size() < STABLE) {
+								errors.incrementAndGet();
+							}
+							break;
+						default:
+							int count = 0;
+							for (Integer element : deque) {
+								if (element >= 0) {
+									count++;
+								}
+							}
+							if (count != STABLE) {
+								errors.incrementAndGet();
+							}
+						}
+					} catch (RuntimeException e) {
+						errors.incrementAndGet();
+					}
+					n++;
+				}
+				reads.addAndGet(n);
+			});
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		start.countDown();
+		Thread.sleep(millis);
+		running.set(false);
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		check(errors.get() == 0, errors.get() + " wrong answers in " + reads.get() + " reads");
+	}
+
+	private static void expectThrows(Class<? extends RuntimeException> type, Runnable call, String what) {
+		try {
+			call.run();
+		} catch (RuntimeException e) {
+			check(type.isInstance(e), what + " threw " + e + ", expected " + type.getSimpleName());
+			return;
+		}
+		throw new IllegalStateException(what + " did not throw " + type.getSimpleName());
+	}
+
+	private static void check(boolean condition, String what) {
+		if (!condition) {
+			throw new IllegalStateException(what);
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Times add/remove pairs at both ends, lock-free against synchronized, at thread
+	 * counts from 1 up to the configured count.
+	 */
+	private void compareThroughput() throws InterruptedException {
+		for (int count = 1; count <= threads; count *= 2) {
+			double lockFree = throughput(new LockFreeIUDeque<Integer>(), false, count);
+			double locked = throughput(new IUDoubleLinkedList<Integer>(), true, count);
+			System.err.printf("throughput %3d threads: lockFree %8.2f ops/us, synchronized %8.2f ops/us\n",
+					count, lockFree, locked);
+		}
+	}
+
+	/**
+	 * Runs the given number of threads doing add/remove pairs at both ends for the
+	 * configured time, after an equal warm-up.
+	 *
+	 * @return operations per microsecond, summed over all threads
+	 */
+	private double throughput(IndexedUnsortedList<Integer> list, boolean synchronize, int count) throws InterruptedException {
+		for (int i = 0; i < 1000; i++) {
+			list.addToRear(i);// every thread removes only after it adds, so the list never runs dry
+		}
+		run(list, synchronize, count);// warm up
+		return run(list, synchronize, count);
+	}
+
+	private double run(IndexedUnsortedList<Integer> list, boolean synchronize, int count) throws InterruptedException {
+		long[] calls = new long[count];
+		long deadline = System.nanoTime() + millis * 1_000_000L;
+		Thread[] workers = new Thread[count];
+		for (int t = 0; t < count; t++) {
+			int id = t;
+			workers[t] = new Thread(() -> {
+				long local = 0;
+				long n = 0;
+				while (System.nanoTime() < deadline) {
+					for (int i = 0; i < 64; i++) {
+						if (synchronize) {
+							synchronized (list) {
+								list.addToRear(i);
+							}
+							synchronized (list) {
+								local += list.removeFirst();
+							}
+							synchronized (list) {
+								list.addToFront(i);
+							}
+							synchronized (list) {
+								local += list.removeLast();
+							}
+						} else {
+							list.addToRear(i);
+							local += list.removeFirst();
+							list.addToFront(i);
+							local += list.removeLast();
+						}
+					}
+					n += 256;
+				}
+				calls[id] = n;
+				sink += local;
+			});
+		}
+		long began = System.nanoTime();
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		long total = 0;
+		for (long c : calls) {
+			total += c;
+		}
+		return total / ((System.nanoTime() - began) / 1000.0);
+	}
+}
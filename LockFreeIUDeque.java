@@ -0,0 +1,287 @@
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Predicate;
+/**
+ * Lock-free implementation of the front and rear operations of {@code IndexedUnsortedList},
+ * for lists used as a shared deque.
+ * The elements live in a {@code ConcurrentLinkedDeque}, a double-linked list whose nodes
+ * are linked and unlinked with compare-and-set on their next and prev fields, so
+ * addToFront, addToRear, removeFirst, removeLast, first and last never block: a thread
+ * that loses a race retries against the new links instead of waiting for a lock.
+ * Each of these six operations is linearizable.
+ *
+ * The rest of the interface degrades as follows:
+ * <ul>
+ * <li>get, indexOf, contains, toString, iteration and remove(element) walk the links
+ *     without locking. They are weakly consistent: they see every element that was
+ *     present for the whole walk, and may or may not see elements added or removed
+ *     during it. Iterators never throw ConcurrentModificationException.</li>
+ * <li>size and isEmpty are exact when the deque is quiet, but size is an O(n) walk and
+ *     only an estimate while other threads are changing the deque.</li>
+ * <li>Index-based mutators (add at an index, addAfter, remove at an index, set and
+ *     removeRange) cannot be made atomic without a lock, so they throw
+ *     UnsupportedOperationException, as do list iterators.</li>
+ * </ul>
+ * Null elements are not allowed.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class LockFreeIUDeque<T> implements IndexedUnsortedList<T>, SharedReadSafe {
+    private final ConcurrentLinkedDeque<T> deque;
+
+    /**
+     * Constructs a new, empty {@code LockFreeIUDeque}.
+     */
+    public LockFreeIUDeque(){
+        deque = new ConcurrentLinkedDeque<T>();
+    }
+
+    @Override
+    public void addToFront(T element) {
+        deque.addFirst(element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        deque.addLast(element);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    /**
+     * Not supported: inserting relative to another element cannot be done atomically
+     * without a lock.
+     */
+    @Override
+    public void addAfter(T element, T target) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported: indexes shift under concurrent changes.
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        for(T element : elements){// one at a time, other threads may interleave
+            deque.addLast(element);
+        }
+    }
+
+    /**
+     * Adds the elements at the front if index is 0 or at the rear if index is
+     * size(); any other index in range is not supported. The batch goes in one
+     * element at a time, so it is not atomic: an addToFront or addToRear from another
+     * thread may land between its elements.
+     *
+     * @throws IndexOutOfBoundsException if index < 0 or index > size()
+     * @throws UnsupportedOperationException if 0 < index < size()
+     */
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements) {
+        int size = size();
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        if(index == 0){
+            ArrayDeque<T> batch = new ArrayDeque<T>();
+            for(T element : elements){
+                batch.addFirst(element);// reversed, so pushing each to the front restores the order
+            }
+            for(T element : batch){
+                deque.addFirst(element);
+            }
+        }else if(index == size){
+            addAll(elements);
+        }else{
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public T removeFirst() {
+        return deque.removeFirst();// throws NoSuchElementException when empty
+    }
+
+    @Override
+    public T removeLast() {
+        return deque.removeLast();
+    }
+
+    /**
+     * Removes the first element equal to the given one and returns the stored instance,
+     * which may be a different object from the argument. One weakly consistent pass
+     * claims the first match and unlinks that node with compare-and-set, so two threads
+     * can never both remove the same element. If another thread unlinks the claimed node
+     * first, the pass is repeated.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(T element) {
+        if(element != null){
+            while(true){
+                Object[] claimed = new Object[1];// a lambda can only update a captured variable through an array
+                boolean removed = deque.removeIf(current -> {
+                    if(claimed[0] == null && current.equals(element)){
+                        claimed[0] = current;
+                        return true;
+                    }
+                    return false;
+                });
+                if(removed){
+                    return (T)claimed[0];
+                }
+                if(claimed[0] == null){// no match
+                    break;
+                }
+            }
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * Not supported: indexes shift under concurrent changes.
+     */
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported: indexes shift under concurrent changes.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        deque.clear();// removes elements one at a time, other threads may interleave
+    }
+
+    /**
+     * Tests every element in one weakly consistent pass, then unlinks the instances that
+     * matched in a second, so a predicate that throws removes nothing. Elements other
+     * threads add during the passes may or may not be tested, and one added between them
+     * is removed only if it is the same instance as an element that matched.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if(filter == null){
+            throw new NullPointerException();
+        }
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+        for(T element : deque){
+            if(filter.test(element)){
+                matches.add(element);
+            }
+        }
+        return !matches.isEmpty() && deque.removeIf(matches::contains);
+    }
+
+    /**
+     * Not supported: indexes shift under concurrent changes.
+     */
+    @Override
+    public void set(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public T get(int index) {
+        if(index < 0){
+            throw new IndexOutOfBoundsException();
+        }
+        int current = 0;
+        for(T element : deque){
+            if(current == index){
+                return element;
+            }
+            current++;
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int index = 0;
+        for(T current : deque){
+            if(current.equals(element)){
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public T first() {
+        return deque.getFirst();// throws NoSuchElementException when empty
+    }
+
+    @Override
+    public T last() {
+        return deque.getLast();
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return target != null && deque.contains(target);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return deque.size();
+    }
+
+    @Override
+    public String toString() {
+        return deque.toString();
+    }
+
+    /**
+     * Returns a weakly consistent iterator. It never throws ConcurrentModificationException
+     * and supports remove, but unlike remove(element) its remove is not atomic: if two
+     * threads remove the same element at once, both may return normally.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return deque.iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return deque.spliterator();
+    }
+}
@@ -0,0 +1,314 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+/**
+ * Array-based implementation of the {@code IndexedUnsortedList} interface that keeps its
+ * elements in a memory-mapped file, so a list can hold far more than fits in the heap.
+ * Each element is stored as {@code codec.width()} bytes, element i at file offset
+ * HEADER_SIZE + i * width, little-endian. The operating system pages the file in and
+ * out, so get, set, addToRear, removeLast and iteration run at close to array speed
+ * while the data fits in memory. Inserting or removing anywhere else shifts the rest
+ * of the file and is correspondingly slower.
+ *
+ * A single mapping is limited to 2GB, so the file is mapped in regions of a
+ * power-of-two number of elements; an index is split into a region and an offset with
+ * a shift and a mask. Growth doubles the capacity, extending the file and mapping only
+ * the new part.
+ *
+ * The 16-byte header holds a magic number, the element width and the size. The size is
+ * rewritten on every add and remove, so opening an existing file maps it and carries
+ * on, without reading the elements. Changes reach the disk when the operating system
+ * writes the pages back, or at once on flush(). close() unmaps the file and trims
+ * unused capacity from its end.
+ * The list operations themselves are shared with {@code OffHeapIUList} through
+ * {@code FixedWidthIUList}; this class only manages the file and its mappings.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class MappedIUList<T> extends FixedWidthIUList<T> implements Closeable {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int HEADER_SIZE = 16;
+    private static final int MAGIC = 0x49554C31;// "IUL1"
+    private static final int WIDTH_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+    private static final int MAX_REGION_BYTES = 1 << 30;
+    private final int regionShift;// log2 of elements per region
+    private final int regionMask;
+    private FileChannel channel;// null once closed
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] regions;
+    private int capacity;// in elements
+
+    /**
+     * Constructs a new, empty {@code MappedIUList} backed by a temporary file that is
+     * deleted when the list is closed.
+     *
+     * @param codec converts elements to and from bytes
+     * @throws UncheckedIOException if the temporary file cannot be created
+     */
+    public MappedIUList(ElementCodec<T> codec){
+        this(codec, defaultRegionElements(codec));
+        try {
+            open(FileChannel.open(Files.createTempFile("iulist", ".bin"), StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens the list stored in the given file, or creates an empty one if the file does
+     * not exist or is empty.
+     *
+     * @param file  file holding the list
+     * @param codec converts elements to and from bytes, must match the one the file was written with
+     * @throws IOException if the file cannot be opened or was not written by a {@code MappedIUList} of this width
+     */
+    public MappedIUList(Path file, ElementCodec<T> codec) throws IOException {
+        this(file, codec, defaultRegionElements(codec));
+    }
+
+    /**
+     * Opens or creates the list stored in the given file, mapping it in regions of the
+     * given number of elements. The region size does not affect the file format.
+     *
+     * @param file           file holding the list
+     * @param codec          converts elements to and from bytes
+     * @param regionElements elements per mapped region, a power of two
+     * @throws IOException if the file cannot be opened or was not written by a {@code MappedIUList} of this width
+     * @throws IllegalArgumentException if regionElements is not a power of two or a region would exceed 1GB
+     */
+    public MappedIUList(Path file, ElementCodec<T> codec, int regionElements) throws IOException {
+        this(codec, regionElements);
+        open(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Sets up everything but the file.
+     */
+    private MappedIUList(ElementCodec<T> codec, int regionElements){
+        super(codec);
+        if(Integer.bitCount(regionElements) != 1 || regionElements > MAX_REGION_BYTES / width){
+            throw new IllegalArgumentException();
+        }
+        regionShift = Integer.numberOfTrailingZeros(regionElements);
+        regionMask = regionElements - 1;
+        regions = new MappedByteBuffer[0];
+        capacity = 0;
+    }
+
+    /**
+     * Returns the largest region size that keeps one mapping within MAX_REGION_BYTES.
+     */
+    private static int defaultRegionElements(ElementCodec<?> codec){
+        return Integer.highestOneBit(MAX_REGION_BYTES / Math.max(1, codec.width()));
+    }
+
+    /**
+     * Maps the header and the elements of the file, writing a fresh header if the file
+     * is empty. Closes the channel if the file cannot be used.
+     *
+     * @param file channel of the backing file, open for reading and writing
+     */
+    private void open(FileChannel file) throws IOException {
+        try {
+            long length = file.size();
+            if(length > 0 && length < HEADER_SIZE){
+                throw new IOException("not a list file");
+            }
+            header = file.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if(length == 0){
+                header.putInt(0, MAGIC);
+                header.putInt(WIDTH_OFFSET, width);
+                header.putLong(SIZE_OFFSET, 0);
+                size = 0;
+            }else{
+                if(header.getInt(0) != MAGIC){
+                    throw new IOException("not a list file");
+                }
+                if(header.getInt(WIDTH_OFFSET) != width){
+                    throw new IOException("file holds " + header.getInt(WIDTH_OFFSET)
+                            + "-byte elements, codec writes " + width);
+                }
+                long stored = header.getLong(SIZE_OFFSET);
+                if(stored < 0 || stored > (length - HEADER_SIZE) / width || stored > Integer.MAX_VALUE){
+                    throw new IOException("list file is corrupt");
+                }
+                size = (int)stored;
+            }
+            channel = file;
+            long slots = Math.max(0, length - HEADER_SIZE) / width;// existing elements plus spare capacity
+            mapCapacity((int)Math.max(DEFAULT_CAPACITY, Math.min(slots, Integer.MAX_VALUE)));
+        } catch (IOException | RuntimeException e) {
+            if(header != null){
+                OffHeapIUList.free(header);
+            }
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps the file up to the given capacity. The file grows to fit. Regions that are
+     * already fully mapped are kept; a partly mapped last region is mapped again at its
+     * new length.
+     *
+     * @param newCapacity capacity in elements, not less than the current one
+     */
+    private void mapCapacity(int newCapacity) throws IOException {
+        int newRegionCount = (int)(((long)newCapacity + regionMask) >>> regionShift);
+        int first = ((capacity & regionMask) == 0) ? regions.length : regions.length - 1;
+        MappedByteBuffer[] grown = Arrays.copyOf(regions, newRegionCount);
+        for(int r = first; r < newRegionCount; r++){
+            long start = (long)r << regionShift;
+            long count = Math.min(regionMask + 1L, newCapacity - start);
+            grown[r] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + start * width, count * width);
+            grown[r].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if(first < regions.length){
+            OffHeapIUList.free(regions[first]);// the data is in the file, the new mapping sees it
+        }
+        regions = grown;
+        capacity = newCapacity;
+    }
+
+    @Override
+    void checkOpen(){
+        if(channel == null){
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    /**
+     * Makes room for at least the given number of elements, doubling the capacity.
+     *
+     * @param minCapacity number of elements that must fit
+     */
+    @Override
+    void ensureCapacity(int minCapacity){
+        if(minCapacity > capacity){
+            if(minCapacity < 0){// overflowed past Integer.MAX_VALUE
+                throw new OutOfMemoryError("list too large");
+            }
+            int newCapacity = (int)Math.min(Integer.MAX_VALUE, Math.max(minCapacity, capacity * 2L));
+            try {
+                mapCapacity(newCapacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    T read(int index){
+        return codec.read(regions[index >>> regionShift], (index & regionMask) * width);
+    }
+
+    @Override
+    void write(int index, T element){
+        codec.write(regions[index >>> regionShift], (index & regionMask) * width, element);
+    }
+
+    /**
+     * Records a new size in the list and in the file header.
+     */
+    @Override
+    void setSize(int newSize){
+        super.setSize(newSize);
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Copies count elements from index from to index to, correctly for overlapping
+     * ranges. Works in pieces that do not cross a region boundary on either side,
+     * back to front when moving toward the end so nothing is overwritten before it
+     * is copied.
+     *
+     * @param from  index of the first element to move
+     * @param to    index it moves to
+     * @param count number of elements to move
+     */
+    @Override
+    void move(int from, int to, int count){
+        if(from == to){
+            return;
+        }
+        if(to > from){
+            int remaining = count;
+            while(remaining > 0){
+                int src = from + remaining - 1;// last element still to move
+                int dst = to + remaining - 1;
+                int n = Math.min(remaining, Math.min(src & regionMask, dst & regionMask) + 1);
+                copy(src - n + 1, dst - n + 1, n);
+                remaining -= n;
+            }
+        }else{
+            int done = 0;
+            while(done < count){
+                int src = from + done;
+                int dst = to + done;
+                int n = Math.min(count - done, regionMask + 1 - Math.max(src & regionMask, dst & regionMask));
+                copy(src, dst, n);
+                done += n;
+            }
+        }
+    }
+
+    /**
+     * Copies n elements that lie within one region on each side.
+     */
+    private void copy(int src, int dst, int n){
+        regions[dst >>> regionShift].put((dst & regionMask) * width,
+                regions[src >>> regionShift], (src & regionMask) * width, n * width);
+    }
+
+    /**
+     * Writes every change made so far to the storage device, so it survives a crash.
+     *
+     * @throws IllegalStateException if the list is closed
+     */
+    public void flush() {
+        checkOpen();
+        for (MappedByteBuffer region : regions) {
+            region.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Unmaps the file, trims the spare capacity from its end and closes it. The list is
+     * empty and unusable afterward; closing it again has no effect.
+     *
+     * @throws IOException if the file cannot be trimmed or closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            FileChannel closing = channel;
+            channel = null;
+            for (MappedByteBuffer region : regions) {
+                OffHeapIUList.free(region);// unmap before truncating, some systems refuse otherwise
+            }
+            OffHeapIUList.free(header);
+            regions = new MappedByteBuffer[0];
+            header = null;
+            try {
+                closing.truncate(HEADER_SIZE + (long)size * width);
+            } finally {
+                closing.close();
+                size = 0;
+                capacity = 0;
+                changeCount++;// open iterators fail instead of reading unmapped memory
+            }
+        }
+    }
+}
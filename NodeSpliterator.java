@@ -0,0 +1,216 @@
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A Spliterator over a chain of {@code Node}s, shared by the linked list implementations.
+ * A chain can't be cut in half without walking to its middle, so each split copies
+ * the next batch of elements into an array and hands that off instead. Batches grow
+ * by BATCH_UNIT on every split, so a large list yields a few big pieces rather than
+ * many small ones, the same scheme java.util.LinkedList uses.
+ *
+ * The spliterator binds to the list on first use and is fail-fast: the list's
+ * modification count is read back through {@code modCount} and compared before
+ * each split, after each element (tryAdvance) or once at the end (forEachRemaining).
+ * The batches split off carry the same expected count and check it the same way.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+class NodeSpliterator<T> implements Spliterator<T> {
+    static final int BATCH_UNIT = 1 << 10;// batch size increment
+    static final int MAX_BATCH = 1 << 25;// max batch array size
+
+    private final Supplier<Node<T>> head;
+    private final IntSupplier size;
+    private final IntSupplier modCount;
+    private Node<T> currentNode;
+    private int estimate;// elements left to visit, -1 until first use
+    private int expectedModCount;
+    private int batch;// size of the last batch split off
+
+    /**
+     * Constructs a spliterator that will start from the list's head when first used.
+     *
+     * @param head     reads the list's current head node
+     * @param size     reads the list's current size
+     * @param modCount reads the list's current modification count
+     */
+    NodeSpliterator(Supplier<Node<T>> head, IntSupplier size, IntSupplier modCount) {
+        this.head = head;
+        this.size = size;
+        this.modCount = modCount;
+        estimate = -1;
+    }
+
+    /**
+     * Binds to the list on first use, so changes made between creating a stream
+     * and running it are still seen.
+     */
+    private int getEstimate() {
+        if (estimate < 0) {
+            currentNode = head.get();
+            estimate = size.getAsInt();
+            expectedModCount = modCount.getAsInt();
+        }
+        return estimate;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int remaining = getEstimate();
+        if (remaining <= 1 || currentNode == null) {
+            return null;
+        }
+        if (expectedModCount != modCount.getAsInt()) {
+            throw new ConcurrentModificationException();
+        }
+        int count = Math.min(Math.min(batch + BATCH_UNIT, remaining), MAX_BATCH);
+        Object[] elements = new Object[count];
+        int taken = 0;
+        Node<T> node = currentNode;
+        while (taken < count && node != null) {
+            elements[taken++] = node.getElement();
+            node = node.getNextNode();
+        }
+        currentNode = node;
+        batch = taken;
+        estimate = remaining - taken;
+        return new Batch<T>(elements, 0, taken, modCount, expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        if (getEstimate() <= 0 || currentNode == null) {
+            return false;
+        }
+        estimate--;
+        T element = currentNode.getElement();
+        currentNode = currentNode.getNextNode();
+        action.accept(element);
+        if (expectedModCount != modCount.getAsInt()) {
+            throw new ConcurrentModificationException();
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int remaining = getEstimate();
+        Node<T> node = currentNode;
+        currentNode = null;
+        estimate = 0;
+        while (remaining-- > 0 && node != null) {
+            T element = node.getElement();
+            node = node.getNextNode();
+            action.accept(element);
+        }
+        if (expectedModCount != modCount.getAsInt()) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return getEstimate();
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    /**
+     * A batch of elements copied out by trySplit. It checks the list's modification
+     * count against the one the batch was copied under, so it stays fail-fast though
+     * it no longer reads the list itself, and splits in half like an array list.
+     *
+     * @param <T> the type of elements in the batch
+     */
+    static class Batch<T> implements Spliterator<T> {
+        private final Object[] elements;
+        private int index;// next element to visit
+        private final int fence;// one past the last element to visit
+        private final IntSupplier modCount;
+        private final int expectedModCount;
+
+        /**
+         * Constructs a spliterator over elements origin to fence of the array.
+         *
+         * @param elements         the copied elements
+         * @param origin           first index to visit
+         * @param fence            one past the last index to visit
+         * @param modCount         reads the list's current modification count
+         * @param expectedModCount modification count the elements were copied under
+         */
+        Batch(Object[] elements, int origin, int fence, IntSupplier modCount, int expectedModCount) {
+            this.elements = elements;
+            this.index = origin;
+            this.fence = fence;
+            this.modCount = modCount;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {// too small to split
+                return null;
+            }
+            if (expectedModCount != modCount.getAsInt()) {
+                throw new ConcurrentModificationException();
+            }
+            index = mid;
+            return new Batch<T>(elements, lo, mid, modCount, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (index >= fence) {
+                return false;
+            }
+            action.accept((T)elements[index++]);
+            if (expectedModCount != modCount.getAsInt()) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            for (int i = index; i < fence; i++) {
+                action.accept((T)elements[i]);
+            }
+            index = fence;
+            if (expectedModCount != modCount.getAsInt()) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * Implemented by linked lists that count the links they follow while looking a node up,
+ * by index or by element. {@code InstrumentedIndexedList} reads the total before and
+ * after each call to report how many nodes that call walked.
+ *
+ * The count is a plain field bumped once per lookup, not per link, so keeping it costs
+ * next to nothing, but it is not safe to read while another thread is changing the list.
+ *
+ * @author Davina Causey
+ */
+public interface NodeTraversalCounter {
+    /**
+     * Returns the total number of links followed by lookups since the list was created.
+     *
+     * @return running total of nodes traversed
+     */
+    public long nodesTraversed();
+}
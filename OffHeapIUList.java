@@ -0,0 +1,156 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+/**
+ * Array-based implementation of the {@code IndexedUnsortedList} interface that keeps its
+ * elements outside the Java heap, in a direct ByteBuffer.
+ * An {@code ElementCodec} turns each element into a fixed number of bytes, so element i
+ * lives at byte offset i * width. The garbage collector sees one small buffer object no
+ * matter how many elements are stored, so a list of millions of longs or doubles adds
+ * nothing to GC marking or copying. Elements are decoded on every read, so get and
+ * iteration hand out new objects (boxed numbers, for the provided codecs).
+ * Inserts and removals shift the following bytes with a single bulk move.
+ *
+ * Off-heap memory is released as soon as close() is called, rather than whenever the
+ * collector gets around to the buffer; using the list after that throws
+ * IllegalStateException. Use it in a try-with-resources block.
+ * The list operations themselves are shared with {@code MappedIUList} through
+ * {@code FixedWidthIUList}; this class only manages the buffer.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public class OffHeapIUList<T> extends FixedWidthIUList<T> implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 16;
+    private static final Object UNSAFE;// sun.misc.Unsafe, for freeing direct buffers on close
+    private static final Method INVOKE_CLEANER;
+    private ByteBuffer buffer;// null once closed
+    private int capacity;// in elements
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not available, buffers are left for the garbage collector to free
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Constructs a new, empty {@code OffHeapIUList} with the default initial capacity.
+     *
+     * @param codec converts elements to and from bytes
+     */
+    public OffHeapIUList(ElementCodec<T> codec){
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty {@code OffHeapIUList} with room for the given number of
+     * elements before it has to reallocate.
+     *
+     * @param codec           converts elements to and from bytes
+     * @param initialCapacity the initial capacity, in elements
+     * @throws IllegalArgumentException if the initial capacity is negative or the codec width is not positive
+     */
+    public OffHeapIUList(ElementCodec<T> codec, int initialCapacity){
+        super(codec);
+        if(initialCapacity < 0){
+            throw new IllegalArgumentException();
+        }
+        capacity = Math.min(initialCapacity, Integer.MAX_VALUE / width);
+        buffer = allocate(capacity);
+    }
+
+    /**
+     * Allocates a direct buffer for the given number of elements, in native byte order.
+     */
+    private ByteBuffer allocate(int elements){
+        return ByteBuffer.allocateDirect(elements * width).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Releases a direct buffer's memory now instead of at the next garbage collection.
+     * Also unmaps the regions of a {@code MappedIUList}. The buffer must not be used again.
+     */
+    static void free(ByteBuffer buffer){
+        if(INVOKE_CLEANER != null){
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (ReflectiveOperationException e) {
+                // leave it to the garbage collector
+            }
+        }
+    }
+
+    @Override
+    void checkOpen(){
+        if(buffer == null){
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    /**
+     * Makes room for at least the given number of elements, reallocating at double
+     * the capacity and copying the stored bytes across in one move.
+     *
+     * @param minCapacity number of elements that must fit
+     */
+    @Override
+    void ensureCapacity(int minCapacity){
+        if(minCapacity > capacity){
+            int maxCapacity = Integer.MAX_VALUE / width;// one buffer is limited to 2GB
+            if(minCapacity > maxCapacity){
+                throw new OutOfMemoryError("list too large for one direct buffer");
+            }
+            int newCapacity = (int)Math.min(maxCapacity, Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, capacity * 2L)));
+            ByteBuffer newBuffer = allocate(newCapacity);
+            newBuffer.put(0, buffer, 0, size * width);
+            free(buffer);
+            buffer = newBuffer;
+            capacity = newCapacity;
+        }
+    }
+
+    /**
+     * Moves the elements with one bulk put, which handles overlapping ranges.
+     */
+    @Override
+    void move(int from, int to, int count){
+        buffer.put(to * width, buffer, from * width, count * width);
+    }
+
+    @Override
+    T read(int index){
+        return codec.read(buffer, index * width);
+    }
+
+    @Override
+    void write(int index, T element){
+        codec.write(buffer, index * width, element);
+    }
+
+    /**
+     * Releases the off-heap memory now. The list is empty and unusable afterward;
+     * closing it again has no effect.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            ByteBuffer closing = buffer;
+            buffer = null;
+            size = 0;
+            capacity = 0;
+            changeCount++;// open iterators fail instead of reading freed memory
+            free(closing);
+        }
+    }
+}
@@ -0,0 +1,693 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+/**
+ * Immutable, persistent indexed list. Every change returns a new version and leaves the
+ * old one untouched, so keeping any number of versions for undo or auditing is cheap:
+ * versions share all of their structure except the path that the change touched.
+ *
+ * Elements are kept in a B+ tree ordered by list position, 32 wide. Leaves hold up to
+ * 32 elements; branches hold up to 32 children plus a table of how many elements end
+ * in each child, so the child holding any index is found by a short scan. Every node
+ * but the root holds at least 16 entries, keeping the tree about log32(n) levels deep
+ * (4 levels for a million elements). get is one array lookup per level. addToRear,
+ * add(int, T), set and remove(int) copy one node per level, at most 32 references
+ * each, splitting a node that grows past 32 and merging or rebalancing one that drops
+ * below 16.
+ *
+ * For bulk construction, a {@code Builder} collects elements in a plain array and packs
+ * them into a tree in one O(n) pass. from() and toIndexedList() convert to and from
+ * {@code IndexedUnsortedList}.
+ *
+ * @param <T> the type of elements stored in the list
+ * @author Davina Causey
+ */
+public final class PersistentIndexedList<T> implements Iterable<T> {
+    static final int MAX_WIDTH = 32;
+    static final int MIN_WIDTH = MAX_WIDTH / 2;
+    private static final PersistentIndexedList<Object> EMPTY = new PersistentIndexedList<Object>(new Leaf(new Object[0]));
+    private final Node root;
+
+    /**
+     * A tree node. Nodes are never modified once a list containing them exists.
+     */
+    private static abstract class Node {
+        /** @return number of elements under this node */
+        abstract int size();
+        /** @return number of entries in this node: elements for a leaf, children for a branch */
+        abstract int width();
+    }
+
+    /**
+     * A bottom node holding elements directly.
+     */
+    private static final class Leaf extends Node {
+        private final Object[] elements;
+
+        Leaf(Object[] elements){
+            this.elements = elements;
+        }
+
+        int size(){
+            return elements.length;
+        }
+
+        int width(){
+            return elements.length;
+        }
+    }
+
+    /**
+     * An inner node. {@code ends[j]} is the number of elements in children 0 to j, so
+     * child j holds the indexes from ends[j - 1] up to but not including ends[j].
+     */
+    private static final class Branch extends Node {
+        private final Node[] children;
+        private final int[] ends;
+
+        Branch(Node[] children){
+            this.children = children;
+            ends = new int[children.length];
+            int total = 0;
+            for(int j = 0; j < children.length; j++){
+                total += children[j].size();
+                ends[j] = total;
+            }
+        }
+
+        int size(){
+            return ends[ends.length - 1];
+        }
+
+        int width(){
+            return children.length;
+        }
+
+        /**
+         * Returns the child holding the given index. An index equal to a child's end
+         * goes to the following child, except past the last one, so appends go to the
+         * last child.
+         */
+        int childFor(int index){
+            int j = 0;
+            while(j < ends.length - 1 && ends[j] <= index){
+                j++;
+            }
+            return j;
+        }
+
+        /** @return number of elements in the children before child j */
+        int start(int j){
+            return (j == 0) ? 0 : ends[j - 1];
+        }
+    }
+
+    private PersistentIndexedList(Node root){
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @param <T> the type of elements stored in the list
+     * @return an empty {@code PersistentIndexedList}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentIndexedList<T> empty(){
+        return (PersistentIndexedList<T>)EMPTY;
+    }
+
+    /**
+     * Returns a persistent list holding the given elements in order, such as the
+     * contents of an {@code IndexedUnsortedList}.
+     *
+     * @param <T>      the type of elements stored in the list
+     * @param elements elements to copy
+     * @return a new {@code PersistentIndexedList}
+     */
+    public static <T> PersistentIndexedList<T> from(Iterable<? extends T> elements){
+        Builder<T> builder = new Builder<T>();
+        builder.addAll(elements);
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder that starts with this list's elements, for making many changes
+     * without creating a version for each.
+     *
+     * @return a new {@code Builder} holding a copy of this list
+     */
+    public Builder<T> toBuilder(){
+        Builder<T> builder = new Builder<T>();
+        builder.elements = toArray();
+        builder.size = builder.elements.length;
+        return builder;
+    }
+
+    /**
+     * Returns a new mutable {@code IUArrayList} holding this list's elements.
+     *
+     * @return a new {@code IUArrayList} with the same elements in order
+     */
+    @SuppressWarnings("unchecked")
+    public IUArrayList<T> toIndexedList(){
+        Object[] elements = toArray();
+        return new IUArrayList<T>((T[])elements, elements.length);
+    }
+
+    /**
+     * Copies the elements into a new array, leaf by leaf.
+     */
+    private Object[] toArray(){
+        Object[] result = new Object[size()];
+        copyInto(root, result, 0);
+        return result;
+    }
+
+    private static int copyInto(Node node, Object[] dest, int offset){
+        if(node instanceof Leaf){
+            Object[] elements = ((Leaf)node).elements;
+            System.arraycopy(elements, 0, dest, offset, elements.length);
+            return offset + elements.length;
+        }
+        for(Node child : ((Branch)node).children){
+            offset = copyInto(child, dest, offset);
+        }
+        return offset;
+    }
+
+    // Tree operations. Each returns new nodes and leaves its arguments unchanged.
+
+    /**
+     * Returns a copy of the array with one slot inserted.
+     */
+    private static <E> E[] inserted(E[] array, int index, E value){
+        E[] copy = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        copy[index] = value;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the array with one slot removed.
+     */
+    private static <E> E[] removed(E[] array, int index){
+        E[] copy = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+
+    /**
+     * Returns a node of the same kind as the given one holding the given entries.
+     */
+    private static Node sameKind(Node like, Object[] entries){
+        return (like instanceof Leaf) ? new Leaf(entries) : new Branch((Node[])entries);
+    }
+
+    private static Object[] entries(Node node){
+        return (node instanceof Leaf) ? ((Leaf)node).elements : ((Branch)node).children;
+    }
+
+    /**
+     * Wraps the entries in one node, or two of even width if there are too many.
+     */
+    private static Node[] fit(Node like, Object[] entries){
+        if(entries.length <= MAX_WIDTH){
+            return new Node[] {sameKind(like, entries)};
+        }
+        int half = entries.length / 2;
+        return new Node[] {sameKind(like, Arrays.copyOfRange(entries, 0, half)),
+                sameKind(like, Arrays.copyOfRange(entries, half, entries.length))};
+    }
+
+    private static Node set(Node node, int index, Object element){
+        if(node instanceof Leaf){
+            Object[] elements = ((Leaf)node).elements.clone();
+            elements[index] = element;
+            return new Leaf(elements);
+        }
+        Branch branch = (Branch)node;
+        int j = branch.childFor(index);
+        Node[] children = branch.children.clone();
+        children[j] = set(children[j], index - branch.start(j), element);
+        return new Branch(children);
+    }
+
+    /**
+     * Inserts into the subtree, returning one node, or two if the node split.
+     */
+    private static Node[] insert(Node node, int index, Object element){
+        if(node instanceof Leaf){
+            return fit(node, inserted(((Leaf)node).elements, index, element));
+        }
+        Branch branch = (Branch)node;
+        int j = branch.childFor(index);
+        Node[] replaced = insert(branch.children[j], index - branch.start(j), element);
+        Node[] children = branch.children.clone();
+        children[j] = replaced[0];
+        if(replaced.length == 2){
+            children = inserted(children, j + 1, replaced[1]);
+        }
+        return fit(node, children);
+    }
+
+    /**
+     * Removes from the subtree. The returned node may be below the minimum width; the
+     * parent fixes that by merging it with or borrowing from a neighbor.
+     */
+    private static Node delete(Node node, int index){
+        if(node instanceof Leaf){
+            return new Leaf(removed(((Leaf)node).elements, index));
+        }
+        Branch branch = (Branch)node;
+        int j = branch.childFor(index);
+        Node child = delete(branch.children[j], index - branch.start(j));
+        Node[] children = branch.children.clone();
+        children[j] = child;
+        if(child.width() < MIN_WIDTH && children.length > 1){
+            int left = (j > 0) ? j - 1 : j;// pair the child with its left neighbor if it has one
+            Object[] a = entries(children[left]);
+            Object[] b = entries(children[left + 1]);
+            Object[] joined = Arrays.copyOf(a, a.length + b.length, a.getClass());
+            System.arraycopy(b, 0, joined, a.length, b.length);
+            Node[] rebalanced = fit(child, joined);// one merged node, or two even ones
+            Node[] fixed = new Node[children.length - 2 + rebalanced.length];
+            System.arraycopy(children, 0, fixed, 0, left);
+            System.arraycopy(rebalanced, 0, fixed, left, rebalanced.length);
+            System.arraycopy(children, left + 2, fixed, left + rebalanced.length, children.length - left - 2);
+            children = fixed;
+        }
+        return new Branch(children);
+    }
+
+    // Public operations
+
+    public int size(){
+        return root.size();
+    }
+
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index index of the element
+     * @return the element at that index
+     * @throws IndexOutOfBoundsException if index is below zero or not less than size()
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index){
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        Node node = root;
+        while(node instanceof Branch){
+            Branch branch = (Branch)node;
+            int j = branch.childFor(index);
+            index -= branch.start(j);
+            node = branch.children[j];
+        }
+        return (T)((Leaf)node).elements[index];
+    }
+
+    /**
+     * Returns the first element.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public T first(){
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Returns the last element.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public T last(){
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return get(size() - 1);
+    }
+
+    /**
+     * Returns the index of the first element equal to the given one, or -1.
+     *
+     * @param element element to look for
+     * @return its index, or -1 if it is not in the list
+     */
+    public int indexOf(T element){
+        int index = 0;
+        for(T current : this){
+            if(current.equals(element)){
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    public boolean contains(T target){
+        return indexOf(target) > -1;
+    }
+
+    /**
+     * Returns a new version with the element at the given index replaced.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the new version
+     * @throws IndexOutOfBoundsException if index is below zero or not less than size()
+     */
+    public PersistentIndexedList<T> set(int index, T element){
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        return new PersistentIndexedList<T>(set(root, index, element));
+    }
+
+    /**
+     * Returns a new version with the element inserted at the given index.
+     *
+     * @param index   index for the new element
+     * @param element element to insert
+     * @return the new version
+     * @throws IndexOutOfBoundsException if index is below zero or greater than size()
+     */
+    public PersistentIndexedList<T> add(int index, T element){
+        if(index < 0 || index > size()){
+            throw new IndexOutOfBoundsException();
+        }
+        Node[] replaced = insert(root, index, element);
+        return new PersistentIndexedList<T>(replaced.length == 1 ? replaced[0] : new Branch(replaced));
+    }
+
+    public PersistentIndexedList<T> addToFront(T element){
+        return add(0, element);
+    }
+
+    public PersistentIndexedList<T> addToRear(T element){
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a new version without the element at the given index.
+     *
+     * @param index index of the element to remove
+     * @return the new version
+     * @throws IndexOutOfBoundsException if index is below zero or not less than size()
+     */
+    public PersistentIndexedList<T> remove(int index){
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        Node newRoot = delete(root, index);
+        while(newRoot instanceof Branch && newRoot.width() == 1){// the tree got one level shorter
+            newRoot = ((Branch)newRoot).children[0];
+        }
+        return new PersistentIndexedList<T>(newRoot);
+    }
+
+    /**
+     * Returns a new version without the first element.
+     *
+     * @return the new version
+     * @throws NoSuchElementException if the list is empty
+     */
+    public PersistentIndexedList<T> removeFirst(){
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /**
+     * Returns a new version without the last element.
+     *
+     * @return the new version
+     * @throws NoSuchElementException if the list is empty
+     */
+    public PersistentIndexedList<T> removeLast(){
+        if(isEmpty()){
+            throw new NoSuchElementException();
+        }
+        return remove(size() - 1);
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder str = new StringBuilder();
+        str.append("[");
+        for(T element : this){
+            str.append(element.toString());
+            str.append(", ");
+        }
+        if(size() > 0){
+            str.delete(str.length() - 2, str.length()); // remove trailing ", "
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    /**
+     * Checks the tree's invariants, throwing IllegalStateException at the first one
+     * broken: every leaf at the same depth, every node but the root holding MIN_WIDTH
+     * to MAX_WIDTH entries, a branch root holding at least two children, and each
+     * branch's ends table matching its children. Used by PersistentListTester.
+     */
+    void checkStructure(){
+        if(root.width() > MAX_WIDTH || (root instanceof Branch && root.width() < 2)){
+            throw new IllegalStateException("root has " + root.width() + " entries");
+        }
+        checkNode(root, true);
+    }
+
+    /**
+     * Checks one subtree.
+     *
+     * @return number of branch levels above its leaves
+     */
+    private static int checkNode(Node node, boolean isRoot){
+        if(!isRoot && (node.width() < MIN_WIDTH || node.width() > MAX_WIDTH)){
+            throw new IllegalStateException("node has " + node.width() + " entries");
+        }
+        if(node instanceof Leaf){
+            return 0;
+        }
+        Branch branch = (Branch)node;
+        int depth = -1;
+        int total = 0;
+        for(int j = 0; j < branch.children.length; j++){
+            int childDepth = checkNode(branch.children[j], false);
+            if(depth != -1 && childDepth != depth){
+                throw new IllegalStateException("leaves at different depths");
+            }
+            depth = childDepth;
+            total += branch.children[j].size();
+            if(branch.ends[j] != total){
+                throw new IllegalStateException("ends[" + j + "] is " + branch.ends[j] + ", children hold " + total);
+            }
+        }
+        return depth + 1;
+    }
+
+    /**
+     * Returns an iterator that walks the leaves in order. The list cannot change, so
+     * it never throws ConcurrentModificationException; it does not support remove.
+     */
+    @Override
+    public Iterator<T> iterator(){
+        return new PersistentIterator();
+    }
+
+    /**
+     * An iterator over a {@code PersistentIndexedList}. Keeps the path from the root
+     * to the current leaf and moves to the next leaf through the nearest ancestor that
+     * has a child to the right.
+     */
+    private class PersistentIterator implements Iterator<T> {
+        private final Branch[] path;// path[0] is the root when the tree has branches
+        private final int[] childIndex;// child taken at each level of path
+        private Object[] leaf;
+        private int leafIndex;
+        private int remaining;
+
+        public PersistentIterator(){
+            int depth = 0;
+            for(Node node = root; node instanceof Branch; node = ((Branch)node).children[0]){
+                depth++;
+            }
+            path = new Branch[depth];
+            childIndex = new int[depth];
+            descend(root, 0);
+            remaining = size();
+        }
+
+        /**
+         * Walks down the leftmost children from node, which sits at the given level.
+         */
+        private void descend(Node node, int level){
+            while(node instanceof Branch){
+                path[level] = (Branch)node;
+                childIndex[level] = 0;
+                node = path[level].children[0];
+                level++;
+            }
+            leaf = ((Leaf)node).elements;
+            leafIndex = 0;
+        }
+
+        @Override
+        public boolean hasNext(){
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next(){
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            if(leafIndex == leaf.length){// leaf used up, find the next one
+                int level = path.length - 1;
+                while(childIndex[level] == path[level].children.length - 1){
+                    level--;
+                }
+                childIndex[level]++;
+                descend(path[level].children[childIndex[level]], level + 1);
+            }
+            remaining--;
+            return (T)leaf[leafIndex++];
+        }
+    }
+
+    /**
+     * A mutable builder for creating a {@code PersistentIndexedList} from many elements
+     * at once. Elements are collected in a growable array, with get and set by index,
+     * and build() packs them into a tree in a single pass. The builder can be reused
+     * after build(); the lists it produced are not affected.
+     *
+     * @param <T> the type of elements stored in the list
+     */
+    public static final class Builder<T> {
+        private Object[] elements;
+        private int size;
+
+        /**
+         * Constructs an empty builder.
+         */
+        public Builder(){
+            elements = new Object[IUArrayList.DEFAULT_CAPACITY];
+            size = 0;
+        }
+
+        /**
+         * Adds the element at the end.
+         *
+         * @param element element to add
+         * @return this builder
+         */
+        public Builder<T> add(T element){
+            if(size == elements.length){
+                elements = Arrays.copyOf(elements, Math.max(IUArrayList.DEFAULT_CAPACITY, elements.length * 2));
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * Adds every element, in order, at the end.
+         *
+         * @param all elements to add
+         * @return this builder
+         */
+        public Builder<T> addAll(Iterable<? extends T> all){
+            for(T element : all){
+                add(element);
+            }
+            return this;
+        }
+
+        /**
+         * Replaces the element at the given index.
+         *
+         * @param index   index of the element to replace
+         * @param element new element
+         * @return this builder
+         * @throws IndexOutOfBoundsException if index is below zero or not less than size()
+         */
+        public Builder<T> set(int index, T element){
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException();
+            }
+            elements[index] = element;
+            return this;
+        }
+
+        /**
+         * Returns the element at the given index.
+         *
+         * @param index index of the element
+         * @return the element at that index
+         * @throws IndexOutOfBoundsException if index is below zero or not less than size()
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index){
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException();
+            }
+            return (T)elements[index];
+        }
+
+        public int size(){
+            return size;
+        }
+
+        /**
+         * Packs the collected elements into a new persistent list: leaves first, then
+         * each level of branches over the one below, every node filled evenly.
+         *
+         * @return a new {@code PersistentIndexedList} holding the elements in order
+         */
+        public PersistentIndexedList<T> build(){
+            if(size == 0){
+                return empty();
+            }
+            Object[] level = new Object[groups(size)];
+            for(int g = 0; g < level.length; g++){
+                level[g] = new Leaf(Arrays.copyOfRange(elements, groupStart(g, size, level.length),
+                        groupStart(g + 1, size, level.length)));
+            }
+            while(level.length > 1){
+                Object[] above = new Object[groups(level.length)];
+                for(int g = 0; g < above.length; g++){
+                    above[g] = new Branch(Arrays.copyOfRange(level, groupStart(g, level.length, above.length),
+                            groupStart(g + 1, level.length, above.length), Node[].class));
+                }
+                level = above;
+            }
+            return new PersistentIndexedList<T>((Node)level[0]);
+        }
+
+        /** @return number of nodes needed to hold n entries */
+        private static int groups(int n){
+            return (n + MAX_WIDTH - 1) / MAX_WIDTH;
+        }
+
+        /**
+         * Returns where group g starts when n entries are split evenly into the given
+         * number of groups. Even splits keep every group at MIN_WIDTH or more.
+         */
+        private static int groupStart(int g, int n, int groups){
+            return (int)((long)n * g / groups);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests for PersistentIndexedList.
+ *
+ * Runs three checks, exiting with status 1 if any fails:
+ *  versions : random inserts, removes and sets, each making a new version that is
+ *             compared with an ArrayList given the same change. Runs grow the list past
+ *             the 32 and 1024 element marks, where leaves and then branches split, and
+ *             shrink it back so nodes merge and the tree loses levels again. Every
+ *             version's tree shape is checked, and some are kept and compared again at
+ *             the end, to show that later changes never reached them.
+ *  builder  : Builder.build at every size up to a few leaves and around each split
+ *             point, toBuilder edits leaving their source alone, and from() and
+ *             toIndexedList() copying rather than sharing.
+ *  reads    : indexOf, contains, first, last, toString and the iterator against the
+ *             reference, and the exceptions thrown for bad indexes and empty lists.
+ *
+ * Valid command line args include:
+ *  -seed 1       : seed for the random operations (default: a new seed, printed)
+ *  -ops 200000   : random operations in the versions check (default 200000)
+ *
+ * Compile and run from the directory containing all source files:
+ *  $ javac PersistentListTester.java
+ *  $ java PersistentListTester
+ */
+public class PersistentListTester {
+	private static final int[] SIZES = {0, 1, 2, 15, 16, 17, 31, 32, 33, 63, 64, 65, 511, 512, 513,
+			1023, 1024, 1025, 1056, 2048, 32768, 32769};
+
+	private long seed = System.nanoTime();
+	private int ops = 200_000;
+
+	/**
+	 * Runs every check.
+	 * @param args see class comment
+	 */
+	public static void main(String[] args) {
+		PersistentListTester tester = new PersistentListTester(args);
+		System.err.println("seed " + tester.seed);
+		boolean ok = true;
+		ok &= tester.run("versions", tester::checkVersions);
+		ok &= tester.run("builder", tester::checkBuilder);
+		ok &= tester.run("reads", tester::checkReads);
+		if (!ok) {
+			System.exit(1);
+		}
+	}
+
+	/** tester constructor
+	 * @param args command line args
+	 */
+	public PersistentListTester(String[] args) {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equalsIgnoreCase("-seed")) {
+				seed = Long.parseLong(args[i + 1]);
+			} else if (args[i].equalsIgnoreCase("-ops")) {
+				ops = Integer.parseInt(args[i + 1]);
+			}
+		}
+	}
+
+	/**
+	 * Runs one check, reporting the first mismatch it throws.
+	 *
+	 * @return true if the check passed
+	 */
+	private boolean run(String name, Runnable check) {
+		try {
+			check.run();
+			System.err.printf("%-10s ok\n", name);
+			return true;
+		} catch (RuntimeException e) {
+			System.err.printf("%-10s FAILED: %s\n", name, e);
+			return false;
+		}
+	}
+
+	/**
+	 * Applies random changes, checking every version against the reference. The target
+	 * size swings between small and several thousand so the run keeps crossing the leaf
+	 * and branch split points in both directions.
+	 */
+	private void checkVersions() {
+		Random rand = new Random(seed);
+		PersistentIndexedList<Integer> list = PersistentIndexedList.empty();
+		List<Integer> expected = new ArrayList<Integer>();
+		List<PersistentIndexedList<Integer>> kept = new ArrayList<PersistentIndexedList<Integer>>();
+		List<List<Integer>> keptExpected = new ArrayList<List<Integer>>();
+		int target = 0;
+		for (int op = 0; op < ops; op++) {
+			if (op % 5000 == 0) {
+				target = rand.nextInt(4) == 0 ? rand.nextInt(40) : rand.nextInt(3000);
+			}
+			boolean grow = expected.size() < target || (expected.size() == target && rand.nextBoolean());
+			int value = rand.nextInt();
+			PersistentIndexedList<Integer> before = list;
+			int sizeBefore = expected.size();
+			if (rand.nextInt(4) == 0 && !expected.isEmpty()) {
+				int index = rand.nextInt(expected.size());
+				list = list.set(index, value);
+				expected.set(index, value);
+			} else if (grow) {
+				switch (rand.nextInt(3)) {
+				case 0:
+					list = list.addToFront(value);
+					expected.add(0, value);
+					break;
+				case 1:
+					list = list.addToRear(value);
+					expected.add(value);
+					break;
+				default:
+					int index = rand.nextInt(expected.size() + 1);
+					list = list.add(index, value);
+					expected.add(index, value);
+				}
+			} else if (!expected.isEmpty()) {
+				switch (rand.nextInt(3)) {
+				case 0:
+					list = list.removeFirst();
+					expected.remove(0);
+					break;
+				case 1:
+					list = list.removeLast();
+					expected.remove(expected.size() - 1);
+					break;
+				default:
+					int index = rand.nextInt(expected.size());
+					list = list.remove(index);
+					expected.remove(index);
+				}
+			}
+			list.checkStructure();
+			check(before.size() == sizeBefore, "op " + op + " changed the previous version's size");
+			if (op % 97 == 0 || expected.size() % 32 == 0) {
+				checkSame(list, expected, "op " + op);
+			} else {
+				int index = expected.isEmpty() ? -1 : rand.nextInt(expected.size());
+				check(list.size() == expected.size(), "op " + op + " size " + list.size() + ", expected " + expected.size());
+				check(index < 0 || list.get(index).equals(expected.get(index)), "op " + op + " get(" + index + ")");
+			}
+			if (op % 1000 == 0) {
+				kept.add(list);
+				keptExpected.add(new ArrayList<Integer>(expected));
+			}
+		}
+		for (int v = 0; v < kept.size(); v++) {
+			checkSame(kept.get(v), keptExpected.get(v), "kept version " + v);
+		}
+	}
+
+	/**
+	 * Builds lists at every interesting size and checks shape, contents and copying.
+	 */
+	private void checkBuilder() {
+		for (int n = 0; n <= 70; n++) {
+			checkBuilt(n);
+		}
+		for (int n : SIZES) {
+			checkBuilt(n);
+		}
+
+		List<Integer> expected = range(1100);
+		PersistentIndexedList<Integer> source = PersistentIndexedList.from(expected);
+		PersistentIndexedList.Builder<Integer> builder = source.toBuilder();
+		check(builder.size() == 1100, "toBuilder size " + builder.size());
+		for (int i = 0; i < 1100; i += 7) {
+			check(builder.get(i) == i, "toBuilder get(" + i + ")");
+			builder.set(i, -i);
+		}
+		builder.add(-1);
+		checkSame(source, expected, "source after toBuilder edits");
+		PersistentIndexedList<Integer> edited = builder.build();
+		edited.checkStructure();
+		check(edited.size() == 1101 && edited.get(7) == -7 && edited.get(8) == 8 && edited.last() == -1, "built from toBuilder");
+		builder.set(8, -8);// reusing the builder must not reach the list it built
+		check(edited.get(8) == 8, "builder reuse changed a built list");
+
+		IUArrayList<Integer> mutable = new IUArrayList<Integer>();
+		for (int i = 0; i < 100; i++) {
+			mutable.addToRear(i);
+		}
+		PersistentIndexedList<Integer> copied = PersistentIndexedList.from(mutable);
+		mutable.set(0, -1);
+		check(copied.get(0) == 0, "from() shares the source list");
+		IUArrayList<Integer> out = copied.toIndexedList();
+		check(out.size() == 100 && out.get(99) == 99, "toIndexedList contents");
+		out.set(1, -1);
+		out.addToRear(100);
+		check(copied.get(1) == 1 && copied.size() == 100, "toIndexedList shares the persistent list");
+
+		boolean thrown = false;
+		try {
+			new PersistentIndexedList.Builder<Integer>().set(0, 0);
+		} catch (IndexOutOfBoundsException e) {
+			thrown = true;
+		}
+		check(thrown, "Builder.set on an empty builder");
+	}
+
+	/**
+	 * Builds 0 .. n - 1 with the builder and checks the result.
+	 */
+	private void checkBuilt(int n) {
+		PersistentIndexedList.Builder<Integer> builder = new PersistentIndexedList.Builder<Integer>();
+		List<Integer> expected = range(n);
+		builder.addAll(expected);
+		PersistentIndexedList<Integer> built = builder.build();
+		built.checkStructure();
+		checkSame(built, expected, "build(" + n + ")");
+		PersistentIndexedList<Integer> grown = built.addToRear(n);// and it must take changes at the seams
+		grown.checkStructure();
+		check(grown.size() == n + 1 && grown.last() == n, "build(" + n + ") then addToRear");
+		if (n > 0) {
+			PersistentIndexedList<Integer> shrunk = built.remove(n / 2);
+			shrunk.checkStructure();
+			check(shrunk.size() == n - 1, "build(" + n + ") then remove");
+		}
+	}
+
+	/**
+	 * Checks the read methods and the exceptions.
+	 */
+	private void checkReads() {
+		PersistentIndexedList<String> empty = PersistentIndexedList.empty();
+		check(empty.isEmpty() && empty.size() == 0, "empty size");
+		check(empty.toString().equals("[]"), "empty toString " + empty);
+		check(empty.indexOf("a") == -1 && !empty.contains("a"), "empty indexOf");
+		expectThrows(NoSuchElementException.class, () -> empty.first(), "empty first");
+		expectThrows(NoSuchElementException.class, () -> empty.last(), "empty last");
+		expectThrows(NoSuchElementException.class, () -> empty.removeFirst(), "empty removeFirst");
+		expectThrows(NoSuchElementException.class, () -> empty.removeLast(), "empty removeLast");
+		expectThrows(NoSuchElementException.class, () -> empty.iterator().next(), "empty iterator next");
+		expectThrows(IndexOutOfBoundsException.class, () -> empty.get(0), "empty get(0)");
+		expectThrows(IndexOutOfBoundsException.class, () -> empty.remove(0), "empty remove(0)");
+		expectThrows(IndexOutOfBoundsException.class, () -> empty.set(0, "a"), "empty set(0)");
+		expectThrows(IndexOutOfBoundsException.class, () -> empty.add(1, "a"), "empty add(1)");
+
+		PersistentIndexedList<String> one = empty.addToRear("a");
+		check(one.toString().equals("[a]") && one.first().equals("a") && one.last().equals("a"), "single element");
+		check(empty.isEmpty(), "addToRear changed the empty list");
+		expectThrows(IndexOutOfBoundsException.class, () -> one.get(-1), "get(-1)");
+		expectThrows(IndexOutOfBoundsException.class, () -> one.get(1), "get(size)");
+
+		for (int n : SIZES) {
+			List<Integer> expected = range(n);
+			PersistentIndexedList<Integer> list = PersistentIndexedList.from(expected);
+			check(list.toString().equals(expected.toString()), "toString at " + n);
+			for (int i : new int[] {0, n / 2, n - 1}) {
+				if (n > 0) {
+					check(list.indexOf(i) == i && list.contains(i), "indexOf(" + i + ") at " + n);
+				}
+			}
+			check(list.indexOf(n) == -1 && !list.contains(n), "indexOf absent at " + n);
+			Iterator<Integer> it = list.iterator();
+			for (int i = 0; i < n; i++) {
+				check(it.hasNext() && it.next() == i, "iterator at " + i + " of " + n);
+			}
+			check(!it.hasNext(), "iterator hasNext at end of " + n);
+			expectThrows(NoSuchElementException.class, () -> it.next(), "iterator next at end of " + n);
+		}
+	}
+
+	/**
+	 * Compares every element, the ends and the size.
+	 */
+	private static void checkSame(PersistentIndexedList<Integer> list, List<Integer> expected, String where) {
+		check(list.size() == expected.size(), where + ": size " + list.size() + ", expected " + expected.size());
+		int i = 0;
+		for (Integer element : list) {
+			check(element.equals(expected.get(i)), where + ": iterator at " + i);
+			i++;
+		}
+		check(i == expected.size(), where + ": iterator stopped at " + i);
+		for (i = 0; i < expected.size(); i++) {
+			check(list.get(i).equals(expected.get(i)), where + ": get(" + i + ")");
+		}
+		if (!expected.isEmpty()) {
+			check(list.first().equals(expected.get(0)) && list.last().equals(expected.get(expected.size() - 1)), where + ": first or last");
+		}
+	}
+
+	private static void expectThrows(Class<? extends RuntimeException> type, Runnable call, String what) {
+		try {
+			call.run();
+		} catch (RuntimeException e) {
+			check(type.isInstance(e), what + " threw " + e + ", expected " + type.getSimpleName());
+			return;
+		}
+		throw new IllegalStateException(what + " did not throw " + type.getSimpleName());
+	}
+
+	private static void check(boolean condition, String what) {
+		if (!condition) {
+			throw new IllegalStateException(what);
+		}
+	}
+
+	private static List<Integer> range(int n) {
+		List<Integer> range = new ArrayList<Integer>(n);
+		for (int i = 0; i < n; i++) {
+			range.add(i);
+		}
+		return range;
+	}
+}
@@ -0,0 +1,13 @@
+/**
+ * Marker for {@code IndexedUnsortedList} implementations whose reads write nothing.
+ * get, first, last, indexOf, contains, size, isEmpty, toString and iteration leave
+ * every field alone, so any number of threads may read at once while no thread writes.
+ *
+ * {@code ConcurrentIndexedList} only lets readers share its read lock over lists
+ * marked this way. Lists that do work on a read, such as moving a cached finger,
+ * bumping a counter or migrating storage, must not implement it.
+ *
+ * @author Davina Causey
+ */
+public interface SharedReadSafe {
+}